@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.shell.invoker;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Class loader of the dependency jars, which is shared by all the executions.
+ * <p>
+ * The dependency jars do not change between executions, so their classes are loaded
+ * only once. Jars of new dependencies are added as the snippets import new modules.
+ *
+ * @since 2.0.0
+ */
+class DependencyClassLoader extends URLClassLoader {
+    private final Set<Path> jarFilePaths;
+
+    DependencyClassLoader() {
+        super(new URL[0], ClassLoader.getSystemClassLoader());
+        this.jarFilePaths = new HashSet<>();
+    }
+
+    /**
+     * Adds a dependency jar, unless it is already added.
+     *
+     * @param jarFilePath Path of the dependency jar.
+     * @throws MalformedURLException If the path cannot be converted to a URL.
+     */
+    void addJar(Path jarFilePath) throws MalformedURLException {
+        if (jarFilePaths.add(jarFilePath)) {
+            addURL(jarFilePath.toUri().toURL());
+        }
+    }
+}
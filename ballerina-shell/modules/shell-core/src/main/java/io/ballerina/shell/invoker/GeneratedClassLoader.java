@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.shell.invoker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Class loader that defines the classes generated for a single execution.
+ * <p>
+ * The classes of the snippets are regenerated with the same names for every execution.
+ * Hence each execution defines them in a class loader of its own, while the classes of
+ * the dependencies are loaded by the parent class loader, which is shared by the executions.
+ * The classes are read into memory, so that the generated jars are not held open, and
+ * the class loader is collected once the values of the execution are no longer referenced.
+ *
+ * @since 2.0.0
+ */
+class GeneratedClassLoader extends ClassLoader {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * Class files of the generated classes which are not yet defined, by class name.
+     */
+    private final Map<String, byte[]> classFiles;
+
+    GeneratedClassLoader(ClassLoader parent) {
+        super(parent);
+        this.classFiles = new HashMap<>();
+    }
+
+    /**
+     * Reads the class files of a generated jar.
+     *
+     * @param jarFilePath Path of the generated jar.
+     * @throws IOException If reading the jar failed.
+     */
+    void addJar(Path jarFilePath) throws IOException {
+        try (JarFile jarFile = new JarFile(jarFilePath.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (entry.isDirectory() || !entryName.endsWith(CLASS_FILE_SUFFIX)) {
+                    continue;
+                }
+                String className = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length())
+                        .replace('/', '.');
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    classFiles.put(className, inputStream.readAllBytes());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            // A class is defined only once, hence its class file is no longer needed
+            byte[] classFile = classFiles.remove(name);
+            if (classFile == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JarResolver;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.directory.SingleFileProject;
@@ -56,6 +57,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -101,6 +103,17 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Offline project that is kept alive between the compilations.
+     * New sources are applied to its document as in-memory edits, so that
+     * the dependencies resolved by the previous compilations are reused.
+     */
+    private Project liveProject;
+    /**
+     * Class loader of the dependency jars, which is shared by the executions.
+     * Only the generated classes are defined again for every execution.
+     */
+    private DependencyClassLoader dependencyClassLoader;
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
@@ -124,6 +137,31 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      */
     public abstract void reset();
 
+    /**
+     * Discards the live project, so that the next compilation loads a new project.
+     * Implementations should call this when resetting the invoker state.
+     */
+    protected void resetLiveProject() {
+        this.liveProject = null;
+    }
+
+    /**
+     * Closes the class loader of the dependency jars, so that the next execution loads them again.
+     * Implementations should call this when resetting the invoker state,
+     * once the values of the previous executions are no longer referenced.
+     */
+    protected void resetClassLoader() {
+        if (dependencyClassLoader == null) {
+            return;
+        }
+        try {
+            dependencyClassLoader.close();
+        } catch (IOException e) {
+            addDebugDiagnostic("Closing the dependency class loader failed: " + e.getMessage());
+        }
+        dependencyClassLoader = null;
+    }
+
     /**
      * Executes snippets and returns the output lines.
      * Snippets parameter should only include newly added snippets.
@@ -199,22 +237,54 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     /**
      * Get the project with the context data.
      *
+     * Offline projects are loaded only once. Afterwards the source
+     * replaces the content of the document of the loaded project.
+     *
      * @param source    Source to use for generating project.
      * @param isOffline Whether to use offline flag for build options.
      * @return Created ballerina project.
      * @throws InvokerException If file writing failed.
      */
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
+        if (isOffline && liveProject != null) {
+            return updateLiveProject(source);
+        }
+
         try {
             File mainBal = writeToFile(source);
             BuildOptions buildOptions = new BuildOptionsBuilder().offline(isOffline).build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                liveProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
         }
     }
 
+    /**
+     * Replaces the content of the document of the live project.
+     *
+     * @param source New source of the document.
+     * @return Live project with the new source.
+     */
+    private Project updateLiveProject(String source) throws InvokerException {
+        try {
+            // Buffer file is kept in sync with the document, although the project reads the in-memory content
+            writeToFile(source);
+        } catch (IOException e) {
+            addErrorDiagnostic("File writing failed: " + e.getMessage());
+            throw new InvokerException(e);
+        }
+        Module module = liveProject.currentPackage().getDefaultModule();
+        Optional<DocumentId> documentId = module.documentIds().stream().findFirst();
+        Document document = module.document(documentId.orElseThrow());
+        Document updatedDocument = document.modify().withContent(source).apply();
+        return updatedDocument.module().project();
+    }
+
     /* Compilation methods */
 
     /**
@@ -300,7 +370,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
         Project project = getProject(context, templateName);
         PackageCompilation compilation = compile(project);
         JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
-        executeProject(jBallerinaBackend);
+        executeProject(project, jBallerinaBackend);
     }
 
     /**
@@ -308,10 +378,11 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * It is expected that the project had no compiler errors.
      * The process is run and the stdout is collected and printed.
      *
+     * @param project           Compiled project.
      * @param jBallerinaBackend Backed to use.
      * @throws InvokerException If execution failed.
      */
-    protected void executeProject(JBallerinaBackend jBallerinaBackend) throws InvokerException {
+    protected void executeProject(Project project, JBallerinaBackend jBallerinaBackend) throws InvokerException {
         if (bufferFile == null) {
             throw new UnsupportedOperationException("Buffer file must be set before execution");
         }
@@ -322,8 +393,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
             String fileName = bufferFile.getName();
             String mainMethodClassName = fileName.substring(0, fileName.length() - TEMP_FILE_SUFFIX.length());
 
-            JarResolver jarResolver = jBallerinaBackend.jarResolver();
-            ClassLoader classLoader = jarResolver.getClassLoaderWithRequiredJarFilesForExecution();
+            ClassLoader classLoader = createClassLoader(project, jBallerinaBackend);
             // First run configure initialization
             invokeMethodDirectly(classLoader, CONFIGURE_INIT_CLASS_NAME, CONFIGURE_INIT_METHOD_NAME,
                     new Class[]{Path.class}, new Object[]{CONFIG_PATH});
@@ -340,7 +410,49 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
             errorStream.println("panic: " + StringUtils.getErrorStringValue(panicError.getCause()));
             addErrorDiagnostic("Execution aborted due to unhandled runtime error.");
             throw panicError;
+        } catch (IOException e) {
+            addErrorDiagnostic("Reading the generated jar failed: " + e.getMessage());
+            throw new InvokerException(e);
+        }
+    }
+
+    /**
+     * Creates the class loader to execute a compiled project.
+     * <p>
+     * The jars of the project are regenerated with the same path and class names for every execution.
+     * Hence the generated classes are defined by a class loader distinct to each execution,
+     * while the classes of the dependencies are loaded once and shared by the executions.
+     *
+     * @param project           Compiled project.
+     * @param jBallerinaBackend Backed to use.
+     * @return Class loader with the jars required for the execution.
+     * @throws IOException If reading the generated jars failed.
+     */
+    private ClassLoader createClassLoader(Project project, JBallerinaBackend jBallerinaBackend) throws IOException {
+        if (jBallerinaBackend.diagnosticResult().hasErrors()) {
+            throw new IllegalStateException("Cannot create a ClassLoader: this compilation has errors.");
+        }
+        Package currentPackage = project.currentPackage();
+        Set<Path> generatedJarPaths = new HashSet<>();
+        for (Module module : currentPackage.modules()) {
+            generatedJarPaths.add(jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(),
+                    module.moduleName()).path());
+        }
+
+        if (dependencyClassLoader == null) {
+            dependencyClassLoader = new DependencyClassLoader();
+        }
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(dependencyClassLoader);
+        JarResolver jarResolver = jBallerinaBackend.jarResolver();
+        for (Path jarFilePath : jarResolver.getJarFilePathsRequiredForExecution()) {
+            if (generatedJarPaths.contains(jarFilePath)) {
+                addDebugDiagnostic("Using jar: " + jarFilePath);
+                classLoader.addJar(jarFilePath);
+            } else {
+                dependencyClassLoader.addJar(jarFilePath);
+            }
         }
+        return classLoader;
     }
 
     /* Invocation methods */
@@ -168,6 +168,8 @@ public class ClassLoadInvoker extends ShellSnippetsInvoker {
         this.initialIdentifiers.clear();
         this.initialized.set(false);
         this.importsManager.reset();
+        resetLiveProject();
+        resetClassLoader();
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.shell.test.unit;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.shell.Evaluator;
+import io.ballerina.shell.EvaluatorBuilder;
+import io.ballerina.shell.exceptions.BallerinaShellException;
+import io.ballerina.shell.exceptions.InvokerException;
+import io.ballerina.shell.invoker.classload.ClassLoadInvoker;
+import io.ballerina.shell.test.TestUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests the live project and the class loading of the invoker.
+ *
+ * @since 2.0.0
+ */
+public class ShellSnippetsInvokerTest {
+    @Test
+    public void testLiveProjectIsReused() throws BallerinaShellException {
+        ProjectRecordingInvoker invoker = new ProjectRecordingInvoker();
+        Evaluator evaluator = createEvaluator(invoker);
+        evaluator.evaluate("int i = 4");
+        evaluator.evaluate("i + 1");
+
+        Assert.assertTrue(invoker.projects.size() > 1);
+        for (Project project : invoker.projects) {
+            Assert.assertSame(project, invoker.projects.get(0));
+        }
+    }
+
+    @Test
+    public void testResetDiscardsLiveProject() throws BallerinaShellException {
+        ProjectRecordingInvoker invoker = new ProjectRecordingInvoker();
+        Evaluator evaluator = createEvaluator(invoker);
+        evaluator.evaluate("int i = 4");
+        Project projectBeforeReset = invoker.projects.get(invoker.projects.size() - 1);
+
+        evaluator.reset();
+        invoker.projects.clear();
+        evaluator.initialize();
+        Assert.assertEquals(evaluator.evaluate("int j = 5; j"), "5");
+
+        Assert.assertFalse(invoker.projects.isEmpty());
+        for (Project project : invoker.projects) {
+            Assert.assertNotSame(project, projectBeforeReset);
+        }
+    }
+
+    @Test
+    public void testBufferFileIsRewritten() throws BallerinaShellException, IOException {
+        ProjectRecordingInvoker invoker = new ProjectRecordingInvoker();
+        Evaluator evaluator = createEvaluator(invoker);
+        evaluator.evaluate("int i = 4");
+        evaluator.evaluate("string s = \"buffer\"");
+
+        Project project = invoker.projects.get(invoker.projects.size() - 1);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        Document document = module.document(documentId);
+        String bufferContent = Files.readString(project.sourceRoot(), Charset.defaultCharset());
+        Assert.assertEquals(bufferContent, document.textDocument().toString());
+    }
+
+    @Test
+    public void testExecutionsUseDistinctJars() throws BallerinaShellException {
+        ProjectRecordingInvoker invoker = new ProjectRecordingInvoker();
+        Evaluator evaluator = createEvaluator(invoker);
+        Assert.assertEquals(evaluator.evaluate("int i = 4; i"), "4");
+        Assert.assertEquals(evaluator.evaluate("i + 1"), "5");
+
+        Assert.assertTrue(invoker.jarUrls.size() > 1);
+        Set<URL> firstExecutionUrls = invoker.jarUrls.get(0);
+        Set<URL> lastExecutionUrls = invoker.jarUrls.get(invoker.jarUrls.size() - 1);
+        Set<URL> sharedUrls = new HashSet<>(firstExecutionUrls);
+        sharedUrls.retainAll(lastExecutionUrls);
+        // Dependency jars are shared, whereas the generated jars are distinct to each execution
+        Assert.assertTrue(sharedUrls.size() < firstExecutionUrls.size());
+        Assert.assertTrue(sharedUrls.size() < lastExecutionUrls.size());
+    }
+
+    private Evaluator createEvaluator(ClassLoadInvoker invoker) throws BallerinaShellException {
+        Evaluator evaluator = new EvaluatorBuilder()
+                .treeParser(TestUtils.getTestTreeParser())
+                .invoker(invoker).build();
+        evaluator.initialize();
+        return evaluator;
+    }
+
+    /**
+     * Invoker which records the projects and the jars used.
+     */
+    private static class ProjectRecordingInvoker extends ClassLoadInvoker {
+        private final List<Project> projects = new ArrayList<>();
+        private final List<Set<URL>> jarUrls = new ArrayList<>();
+
+        @Override
+        protected Project getProject(String source, boolean isOffline) throws InvokerException {
+            Project project = super.getProject(source, isOffline);
+            if (isOffline) {
+                projects.add(project);
+            }
+            return project;
+        }
+
+        @Override
+        protected Object invokeScheduledMethod(ClassLoader classLoader, String className, String methodName)
+                throws InvokerException {
+            if (classLoader instanceof URLClassLoader) {
+                Set<URL> urls = Set.of(((URLClassLoader) classLoader).getURLs());
+                if (jarUrls.isEmpty() || !jarUrls.get(jarUrls.size() - 1).equals(urls)) {
+                    jarUrls.add(urls);
+                }
+            }
+            return super.invokeScheduledMethod(classLoader, className, methodName);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 */
 package io.ballerina.runtime.internal;
 
+import io.ballerina.runtime.internal.scheduling.SchedulerMetrics;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
@@ -49,6 +50,7 @@ public class BLock {
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        strand.scheduler.recordBlockedStrand(SchedulerMetrics.BlockedReason.LOCK);
         return false;
     }
 
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.configurable.exceptions.ConfigException;
+import io.ballerina.runtime.internal.launch.StartupProfiler;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.HashMap;
@@ -61,12 +62,16 @@ public class ConfigResolver {
         }
         List<ConfigProvider> runtimeConfigProviders = new LinkedList<>();
         for (ConfigProvider provider : supportedConfigProviders) {
+            long startTime = StartupProfiler.startTime();
             provider.initialize(configVarMap);
+            StartupProfiler.record(provider.getClass().getSimpleName(), StartupProfiler.CONFIGURATION_PHASE,
+                    startTime);
             if (provider.hasConfigs()) {
                 runtimeConfigProviders.add(provider);
             }
         }
         for (Map.Entry<Module, VariableKey[]> entry : configVarMap.entrySet()) {
+            long startTime = StartupProfiler.startTime();
             Module module = entry.getKey();
             String moduleName = module.getName();
             VariableKey[] variableKeys = entry.getValue();
@@ -79,6 +84,7 @@ public class ConfigResolver {
                 }
                 configValue.ifPresent(o -> configValueMap.put(varKey, o));
             }
+            StartupProfiler.record(module.toString(), StartupProfiler.CONFIGURATION_PHASE, startTime);
         }
         return configValueMap;
     }
@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.launch;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_STARTUP_PROFILE_ENV_VAR;
+
+/**
+ * Records the time spent in each startup phase of each module of a Ballerina program.
+ * <p>
+ * The generated code of a module reports the creation of its types, its initialization and its start, and the
+ * configuration of the module is reported while resolving the configurable variables. Phases are recorded only if
+ * the {@code BALLERINA_STARTUP_PROFILE} environment variable is set to {@code true}. The recorded phases are printed
+ * once the program has started, and are published as metrics if metrics are enabled.
+ *
+ * @since 2.0.0
+ */
+public class StartupProfiler {
+
+    public static final String TYPE_CREATION_PHASE = "type creation";
+    public static final String CONFIGURATION_PHASE = "configuration";
+    public static final String INIT_PHASE = "init";
+    public static final String START_PHASE = "start";
+
+    private static final String STARTUP_TIME_METRIC = "startup_time_seconds";
+    private static final String TAG_KEY_MODULE = "module";
+    private static final String TAG_KEY_PHASE = "phase";
+    private static final PrintStream errStream = System.err;
+
+    private static final boolean enabled = Boolean.parseBoolean(System.getenv(BALLERINA_STARTUP_PROFILE_ENV_VAR));
+    private static final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+    private static final List<PhaseDuration> phaseDurations = new ArrayList<>();
+
+    private StartupProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the start of a startup phase of the given module. Used by the generated code of functions that may
+     * yield, where the start and the end of the phase are in different places.
+     *
+     * @param module module of the phase
+     * @param phase  startup phase
+     */
+    public static void start(Module module, String phase) {
+        if (!enabled) {
+            return;
+        }
+        startTimes.put(getKey(module.toString(), phase), System.nanoTime());
+    }
+
+    /**
+     * Marks the end of a startup phase of the given module, which was started using {@link #start(Module, String)}.
+     *
+     * @param module module of the phase
+     * @param phase  startup phase
+     */
+    public static void end(Module module, String phase) {
+        if (!enabled) {
+            return;
+        }
+        Long startTime = startTimes.remove(getKey(module.toString(), phase));
+        if (startTime != null) {
+            record(module.toString(), phase, startTime);
+        }
+    }
+
+    /**
+     * Returns the start time to be passed to {@link #record(String, String, long)} at the end of a phase.
+     *
+     * @return the current time in nanoseconds, or 0 if profiling is not enabled
+     */
+    public static long startTime() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a startup phase of the given module, which started at the given time and ends now.
+     *
+     * @param module    module of the phase
+     * @param phase     startup phase
+     * @param startTime start time of the phase returned by {@link #startTime()}
+     */
+    public static void record(Module module, String phase, long startTime) {
+        if (!enabled) {
+            return;
+        }
+        record(module.toString(), phase, startTime);
+    }
+
+    /**
+     * Records a startup phase which started at the given time and ends now.
+     *
+     * @param unit      module or component that ran the phase
+     * @param phase     startup phase
+     * @param startTime start time of the phase returned by {@link #startTime()}
+     */
+    public static void record(String unit, String phase, long startTime) {
+        if (!enabled) {
+            return;
+        }
+        long duration = System.nanoTime() - startTime;
+        synchronized (phaseDurations) {
+            phaseDurations.add(new PhaseDuration(unit, phase, duration));
+        }
+    }
+
+    /**
+     * Prints the recorded phases in the order they ended, followed by the total time of each phase, and publishes
+     * them as metrics if metrics are enabled.
+     */
+    public static void report() {
+        if (!enabled) {
+            return;
+        }
+        List<PhaseDuration> durations;
+        synchronized (phaseDurations) {
+            durations = new ArrayList<>(phaseDurations);
+        }
+
+        StringBuilder report = new StringBuilder("startup profile:").append(System.lineSeparator());
+        Map<String, Long> phaseTotals = new LinkedHashMap<>();
+        for (PhaseDuration phaseDuration : durations) {
+            report.append(String.format("\t%-16s%8d ms\t%s%n", phaseDuration.phase,
+                    TimeUnit.NANOSECONDS.toMillis(phaseDuration.duration), phaseDuration.unit));
+            phaseTotals.merge(phaseDuration.phase, phaseDuration.duration, Long::sum);
+        }
+        report.append("total:").append(System.lineSeparator());
+        for (Map.Entry<String, Long> phaseTotal : phaseTotals.entrySet()) {
+            report.append(String.format("\t%-16s%8d ms%n", phaseTotal.getKey(),
+                    TimeUnit.NANOSECONDS.toMillis(phaseTotal.getValue())));
+        }
+        errStream.print(report);
+
+        publishMetrics(durations);
+    }
+
+    private static void publishMetrics(List<PhaseDuration> durations) {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        for (PhaseDuration phaseDuration : durations) {
+            Set<Tag> tags = new HashSet<>();
+            tags.add(Tag.of(TAG_KEY_MODULE, phaseDuration.unit));
+            tags.add(Tag.of(TAG_KEY_PHASE, phaseDuration.phase));
+            metricRegistry.gauge(new MetricId(STARTUP_TIME_METRIC, "Time spent in a startup phase of a module",
+                    tags)).setValue(phaseDuration.duration / 1E9);
+        }
+    }
+
+    private static String getKey(String unit, String phase) {
+        return unit + " " + phase;
+    }
+
+    /**
+     * Represents the time spent in a single startup phase.
+     *
+     * @since 2.0.0
+     */
+    private static class PhaseDuration {
+        private final String unit;
+        private final String phase;
+        private final long duration;
+
+        PhaseDuration(String unit, String phase, long duration) {
+            this.unit = unit;
+            this.phase = phase;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.launch;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CLASS_NAME;
+
+/**
+ * Loads the classes of a Ballerina executable, without initializing them or running any part of the program.
+ * <p>
+ * This is used as the training run of the class data sharing archive of an executable. The training run happens at
+ * the build time, hence it must not run the user code. So neither the configuration nor the module initialization is
+ * run, and the classes are loaded without running their static initializers. It also prints a report of the time
+ * spent and the classes loaded.
+ *
+ * @since 2.0.0
+ */
+public class StartupTrainer {
+
+    private static final String CLASS_FILE_EXT = ".class";
+    private static final String MODULE_INFO_CLASS_FILE = "module-info.class";
+    private static final String REPORT_LINE_FORMAT = "\t%-24s%8d ms%8d classes%n";
+    private static final PrintStream outStream = System.out;
+    private static final PrintStream errStream = System.err;
+
+    private final ClassLoadingMXBean classLoadingMXBean = ManagementFactory.getClassLoadingMXBean();
+    private final StringBuilder report = new StringBuilder();
+
+    public static void main(String[] args) {
+        if (args.length != 1 || !args[0].endsWith(MODULE_INIT_CLASS_NAME)) {
+            errStream.println("error: expected the name of the module init class of the executable");
+            Runtime.getRuntime().exit(1);
+        }
+
+        try {
+            StartupTrainer trainer = new StartupTrainer();
+            ClassLoader classLoader = StartupTrainer.class.getClassLoader();
+            // Fail early if the executable is not the one the training run is meant for
+            Class.forName(args[0], false, classLoader);
+            Path executablePath = Paths.get(System.getProperty("java.class.path"));
+            trainer.train(executablePath, classLoader);
+            outStream.print(trainer.report);
+            Runtime.getRuntime().exit(0);
+        } catch (Throwable e) {
+            errStream.println("error: loading the classes of the executable failed: " + e);
+            Runtime.getRuntime().exit(1);
+        }
+    }
+
+    void train(Path executablePath, ClassLoader classLoader) throws IOException {
+        // Time from the start of the JVM up to the main method
+        long jvmStartupMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        report.append(String.format(REPORT_LINE_FORMAT, "jvm startup", jvmStartupMillis,
+                classLoadingMXBean.getLoadedClassCount()));
+
+        long startTime = System.nanoTime();
+        int startClassCount = classLoadingMXBean.getLoadedClassCount();
+        loadClasses(executablePath, classLoader);
+        report("class loading", startTime, startClassCount);
+    }
+
+    /**
+     * Loads all the classes of a jar file without initializing them.
+     *
+     * @param jarPath     path of the jar file
+     * @param classLoader class loader to load the classes with
+     * @return number of classes loaded
+     * @throws IOException if the jar file cannot be read
+     */
+    public static int loadClasses(Path jarPath, ClassLoader classLoader) throws IOException {
+        int loadedClasses = 0;
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (!entryName.endsWith(CLASS_FILE_EXT) || entryName.endsWith(MODULE_INFO_CLASS_FILE)
+                        || entryName.startsWith("META-INF/")) {
+                    continue;
+                }
+                String className = entryName.substring(0, entryName.length() - CLASS_FILE_EXT.length())
+                        .replace('/', '.');
+                try {
+                    Class.forName(className, false, classLoader);
+                    loadedClasses++;
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // Classes of the optional dependencies of the libraries are not packed in the executable
+                }
+            }
+        }
+        return loadedClasses;
+    }
+
+    private void report(String phase, long startTime, int startClassCount) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        int loadedClasses = classLoadingMXBean.getLoadedClassCount() - startClassCount;
+        report.append(String.format(REPORT_LINE_FORMAT, phase, elapsedMillis, loadedClasses));
+    }
+}
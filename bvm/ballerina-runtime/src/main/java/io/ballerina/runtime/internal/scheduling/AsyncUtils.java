@@ -18,7 +18,10 @@
 
 package io.ballerina.runtime.internal.scheduling;
 
+import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
@@ -28,6 +31,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -35,6 +41,11 @@ import java.util.function.Supplier;
  */
 public class AsyncUtils {
 
+    /**
+     * Minimum number of iterations for which a function pointer is invoked in parallel.
+     */
+    public static final int PARALLEL_INVOCATION_THRESHOLD = 10000;
+
     /**
      * Block the current strand to execute asynchronously.
      *
@@ -157,6 +168,254 @@ public class AsyncUtils {
         invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
     }
 
+    /**
+     * Checks whether {@link #invokeFunctionPointerAsyncInParallel} can be used to invoke the given function pointer.
+     * The function must be isolated, hence the invocations do not access mutable state shared with each other, and
+     * the number of iterations must be large enough to amortize the cost of the parallel invocation.
+     *
+     * @param func           Function Pointer to be invoked.
+     * @param noOfIterations Number of iterations need to call the function pointer.
+     * @param scheduler      The scheduler for invoking functions
+     * @return true if the function pointer can be invoked in parallel
+     */
+    public static boolean canInvokeInParallel(BFunctionPointer<?, ?> func, int noOfIterations, Scheduler scheduler) {
+        return noOfIterations >= PARALLEL_INVOCATION_THRESHOLD && getParallelism(scheduler) > 1 &&
+                SymbolFlags.isFlagOn(((FunctionType) func.getType()).getFlags(), SymbolFlags.ISOLATED);
+    }
+
+    /**
+     * Returns the number of strands which can be run in parallel by the given scheduler.
+     *
+     * @param scheduler The scheduler for running strands
+     * @return the number of scheduler threads, limited by the number of processors
+     */
+    public static int getParallelism(Scheduler scheduler) {
+        return Math.min(scheduler.getPoolSize(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Run the given tasks in parallel, each as a strand of its own on the given scheduler. This will block the
+     * strand, which is unblocked with the final return value once all the tasks are completed. If tasks panic, the
+     * strand panics with the error of the lowest failed task.
+     * <p>
+     * This is used by native functions which split their work into ranges, hence the work is run by the scheduler
+     * threads, along with the other strands of the program.
+     *
+     * @param task                Task to be run, for a task index from 0 to the number of tasks.
+     * @param noOfTasks           Number of tasks to be run.
+     * @param metadata            Meta data of the new strands.
+     * @param returnValueSupplier Suppler used to set the final return value for the parent function invocation. It
+     *                            is called after all the tasks are completed.
+     * @param scheduler           The scheduler for running the tasks
+     */
+    public static void runInParallel(IntConsumer task, int noOfTasks, StrandMetadata metadata,
+                                     Supplier<Object> returnValueSupplier, Scheduler scheduler) {
+        if (noOfTasks <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        blockStrand(strand);
+        ParallelTasks tasks = new ParallelTasks(strand, returnValueSupplier, noOfTasks, scheduler);
+        for (int i = 0; i < noOfTasks; i++) {
+            int index = i;
+            Callback callback = new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    tasks.taskCompleted();
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    tasks.failed(index, error);
+                    tasks.taskCompleted();
+                }
+            };
+            scheduler.schedule(new Object[1], args -> {
+                task.accept(index);
+                return null;
+            }, null, callback, null, metadata);
+        }
+    }
+
+    /**
+     * Tasks which are run in parallel, and unblock the parent strand once all of them are completed.
+     */
+    private static class ParallelTasks {
+
+        private final Strand parent;
+        private final Supplier<Object> returnValueSupplier;
+        private final Scheduler scheduler;
+        private final AtomicInteger remainingTasks;
+        private int failedIndex = Integer.MAX_VALUE;
+        private BError error;
+
+        private ParallelTasks(Strand parent, Supplier<Object> returnValueSupplier, int noOfTasks,
+                              Scheduler scheduler) {
+            this.parent = parent;
+            this.returnValueSupplier = returnValueSupplier;
+            this.scheduler = scheduler;
+            this.remainingTasks = new AtomicInteger(noOfTasks);
+        }
+
+        private synchronized void failed(int index, BError error) {
+            if (index < this.failedIndex) {
+                this.failedIndex = index;
+                this.error = error;
+            }
+        }
+
+        private void taskCompleted() {
+            if (this.remainingTasks.decrementAndGet() != 0) {
+                return;
+            }
+            BError error;
+            synchronized (this) {
+                error = this.error;
+            }
+            if (error != null) {
+                this.parent.panic = error;
+            } else {
+                try {
+                    this.parent.returnValue = this.returnValueSupplier.get();
+                } catch (BError e) {
+                    // The parent strand is unblocked with the panic, instead of being left blocked
+                    this.parent.panic = e;
+                }
+            }
+            this.scheduler.unblockStrand(this.parent);
+        }
+    }
+
+    /**
+     * Invoke Function Pointer asynchronously given number of times, in parallel. This will block the strand, split
+     * the iterations into a contiguous range per scheduler thread, and invoke the function pointer for each iteration
+     * of a range after the previous one is completed. Each range is a strand group of its own, hence the ranges are
+     * run in parallel by the scheduler threads.
+     * <p>
+     * The results are passed to the consumer along with the iteration index, hence they can be kept in the order of
+     * the iterations. If invocations fail, the error of the lowest failed iteration is returned, as done by a serial
+     * invocation. Iterations after a failed iteration are not started once the failure is known.
+     *
+     * @param func                Function Pointer to be invoked.
+     * @param strandName          Name for newly creating strand which is used to execute the function pointer. This
+     *                            is optional and can be null.
+     * @param metadata            Meta data of new strand.
+     * @param noOfIterations      Number of iterations need to call the function pointer.
+     * @param argsFunction        Function provides arguments to function pointer execution for an iteration index.
+     * @param resultConsumer      Consumer used to process the result of an iteration along with its index. It may be
+     *                            called concurrently for different iterations.
+     * @param returnValueSupplier Suppler used to set the final return value for the parent function invocation.
+     * @param scheduler           The scheduler for invoking functions
+     */
+    public static void invokeFunctionPointerAsyncInParallel(BFunctionPointer<?, ?> func, String strandName,
+                                                            StrandMetadata metadata, int noOfIterations,
+                                                            IntFunction<Object[]> argsFunction,
+                                                            ObjIntConsumer<Object> resultConsumer,
+                                                            Supplier<Object> returnValueSupplier,
+                                                            Scheduler scheduler) {
+        if (noOfIterations <= 0) {
+            return;
+        }
+        Strand strand = Scheduler.getStrand();
+        blockStrand(strand);
+        int noOfRanges = Math.min(getParallelism(scheduler), noOfIterations);
+        ParallelInvocation invocation = new ParallelInvocation(func, strand, strandName, metadata, argsFunction,
+                                                               resultConsumer, returnValueSupplier, noOfRanges,
+                                                               scheduler);
+        for (int i = 0; i < noOfRanges; i++) {
+            int start = (int) ((long) noOfIterations * i / noOfRanges);
+            int end = (int) ((long) noOfIterations * (i + 1) / noOfRanges);
+            invocation.invokeNext(start, end, null);
+        }
+    }
+
+    /**
+     * Invocations of a function pointer over ranges of iterations, which are run in parallel.
+     */
+    private static class ParallelInvocation {
+
+        private final BFunctionPointer<?, ?> func;
+        private final Strand parent;
+        private final String strandName;
+        private final StrandMetadata metadata;
+        private final IntFunction<Object[]> argsFunction;
+        private final ObjIntConsumer<Object> resultConsumer;
+        private final Supplier<Object> returnValueSupplier;
+        private final Scheduler scheduler;
+        private final AtomicInteger remainingRanges;
+        private volatile int failedIndex = Integer.MAX_VALUE;
+        private BError error;
+
+        private ParallelInvocation(BFunctionPointer<?, ?> func, Strand parent, String strandName,
+                                   StrandMetadata metadata, IntFunction<Object[]> argsFunction,
+                                   ObjIntConsumer<Object> resultConsumer, Supplier<Object> returnValueSupplier,
+                                   int noOfRanges, Scheduler scheduler) {
+            this.func = func;
+            this.parent = parent;
+            this.strandName = strandName;
+            this.metadata = metadata;
+            this.argsFunction = argsFunction;
+            this.resultConsumer = resultConsumer;
+            this.returnValueSupplier = returnValueSupplier;
+            this.scheduler = scheduler;
+            this.remainingRanges = new AtomicInteger(noOfRanges);
+        }
+
+        private void invokeNext(int index, int end, Strand rangeStrand) {
+            if (index >= end || index > this.failedIndex) {
+                rangeCompleted();
+                return;
+            }
+            FutureValue future = this.scheduler.createFuture(this.parent, null, null,
+                                                             ((BFunctionType) this.func.getType()).retType,
+                                                             this.strandName, this.metadata);
+            // The first strand of a range starts a new strand group, and the rest of the range is run in that group
+            Strand groupStrand = rangeStrand != null ? rangeStrand : future.strand;
+            future.callback = new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    resultConsumer.accept(result, index);
+                    invokeNext(index + 1, end, groupStrand);
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    failed(index, error);
+                    rangeCompleted();
+                }
+            };
+            Object[] args = this.argsFunction.apply(index);
+            if (rangeStrand == null) {
+                this.scheduler.schedule(args, this.func.getFunction(), future);
+            } else {
+                this.scheduler.scheduleLocal(args, this.func, rangeStrand, future);
+            }
+        }
+
+        private synchronized void failed(int index, BError error) {
+            if (index < this.failedIndex) {
+                this.failedIndex = index;
+                this.error = error;
+            }
+        }
+
+        private void rangeCompleted() {
+            if (this.remainingRanges.decrementAndGet() != 0) {
+                return;
+            }
+            BError error;
+            synchronized (this) {
+                error = this.error;
+            }
+            if (error != null) {
+                this.parent.panic = error;
+            } else {
+                this.parent.returnValue = this.returnValueSupplier.get();
+            }
+            this.scheduler.unblockStrand(this.parent);
+        }
+    }
+
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
 
         private Strand strand;
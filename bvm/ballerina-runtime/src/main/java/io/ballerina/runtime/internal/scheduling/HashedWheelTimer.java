@@ -0,0 +1,331 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.util.RuntimeUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed wheel timer, which runs timeouts on a single timer thread.
+ * <p>
+ * Timeouts are kept in a circular array of buckets, one bucket per tick. Adding and cancelling a timeout are O(1)
+ * and do not acquire a lock, hence the timer can hold millions of pending timeouts. Timeouts are expected to be
+ * short tasks, such as completing a future or unblocking a strand, which hand over the actual work to the
+ * {@link Scheduler}. The accuracy of a timeout is one tick, which is one millisecond. The timer thread is started
+ * when the first timeout is added. It does not wake up for the ticks of empty buckets, but parks until the tick of
+ * the next non-empty bucket, or until a new timeout is added. It parks without a deadline while there are no
+ * pending timeouts.
+ *
+ * @since 2.0.0
+ */
+public class HashedWheelTimer {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // Limits the new timeouts added to the wheel per tick, so that a burst of timeouts does not delay the tick
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private static final HashedWheelTimer INSTANCE = new HashedWheelTimer("ballerina-timer");
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread workerThread;
+    private final long startTime;
+    // Time until which the timer thread is parked, relative to the start time
+    private volatile long wakeUpTime = Long.MAX_VALUE;
+
+    // Accessed only by the timer thread
+    private long tick;
+
+    HashedWheelTimer(String threadName) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.workerThread = new Thread(this::run, threadName);
+        this.workerThread.setDaemon(true);
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Returns the timer shared by the runtime.
+     *
+     * @return the shared timer
+     */
+    public static HashedWheelTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules a task to be run once after the given delay. The task is run on the timer thread, hence it must not
+     * block.
+     *
+     * @param task  task to be run
+     * @param delay delay after which the task is run
+     * @param unit  time unit of the delay
+     * @return the timeout, which can be used to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!this.started.get() && this.started.compareAndSet(false, true)) {
+            this.workerThread.start();
+        }
+        long delayNanos = unit.toNanos(Math.max(0, delay));
+        long deadline = System.nanoTime() - this.startTime + delayNanos;
+        if (deadline < 0) {
+            // Overflow of a very long delay
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(this, task, deadline);
+        this.pendingTimeouts.incrementAndGet();
+        this.newTimeouts.add(timeout);
+        if (deadline < this.wakeUpTime) {
+            LockSupport.unpark(this.workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts which are neither expired nor cancelled yet.
+     *
+     * @return the number of pending timeouts
+     */
+    public long getPendingTimeouts() {
+        return this.pendingTimeouts.get();
+    }
+
+    private void run() {
+        while (true) {
+            if (this.pendingTimeouts.get() == 0) {
+                waitForTimeouts();
+            }
+            long currentTime = waitForNextTick();
+            removeCancelledTimeouts();
+            addNewTimeouts();
+            this.wheel[(int) (this.tick & WHEEL_MASK)].expireTimeouts(currentTime);
+            this.tick++;
+        }
+    }
+
+    private void waitForTimeouts() {
+        // The wake up time is set before checking the pending count, and a new timeout is counted before checking the
+        // wake up time. Hence either the timer thread sees the new timeout, or the new timeout unparks the timer
+        // thread.
+        this.wakeUpTime = Long.MAX_VALUE;
+        while (this.pendingTimeouts.get() == 0) {
+            LockSupport.park(this);
+        }
+        // The wheel is empty, hence the ticks missed while parked need not be processed
+        this.tick = (System.nanoTime() - this.startTime) / TICK_NANOS;
+    }
+
+    /**
+     * Waits until the next tick whose bucket has timeouts, skipping the ticks of empty buckets. If new timeouts are
+     * added meanwhile, waits only until the next tick, since they may expire before the next non-empty bucket.
+     *
+     * @return the current time, relative to the start time
+     */
+    private long waitForNextTick() {
+        long targetTick = getNextNonEmptyTick();
+        long deadline = TICK_NANOS * (targetTick + 1);
+        // The wake up time is set before checking the new timeouts, and a new timeout is queued before checking the
+        // wake up time. Hence either the timer thread sees the new timeout, or the new timeout unparks the timer
+        // thread.
+        this.wakeUpTime = deadline;
+        while (true) {
+            long currentTime = System.nanoTime() - this.startTime;
+            if (currentTime < deadline && !this.newTimeouts.isEmpty()) {
+                // The buckets until the target tick are empty, hence the ticks which have already passed are skipped.
+                // Then the new timeouts are added relative to the current tick.
+                targetTick = Math.max(this.tick, currentTime / TICK_NANOS - 1);
+                deadline = TICK_NANOS * (targetTick + 1);
+                this.wakeUpTime = deadline;
+            }
+            long sleepTime = deadline - currentTime;
+            if (sleepTime <= 0) {
+                this.tick = targetTick;
+                return currentTime;
+            }
+            LockSupport.parkNanos(this, sleepTime);
+        }
+    }
+
+    private long getNextNonEmptyTick() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            if (this.wheel[(int) ((this.tick + i) & WHEEL_MASK)].head != null) {
+                return this.tick + i;
+            }
+        }
+        // Only new or cancelled timeouts are pending, which are handled when the thread wakes up
+        return this.tick + WHEEL_SIZE - 1;
+    }
+
+    private void addNewTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = this.newTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / TICK_NANOS;
+            timeout.remainingRounds = (expiryTick - this.tick) / WHEEL_SIZE;
+            // A timeout which should have already expired is expired in the current tick
+            long bucketTick = Math.max(expiryTick, this.tick);
+            this.wheel[(int) (bucketTick & WHEEL_MASK)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        while (true) {
+            Timeout timeout = this.cancelledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+            this.pendingTimeouts.decrementAndGet();
+        }
+    }
+
+    /**
+     * A task scheduled on the timer.
+     */
+    public static class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        // Accessed only by the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, if it is not already run.
+         *
+         * @return true if the task is cancelled, false if the task is already run or cancelled
+         */
+        public boolean cancel() {
+            if (!this.state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            // Removed from the wheel in the next tick
+            this.timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return this.state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!this.state.compareAndSet(INIT, EXPIRED)) {
+                // Cancelled meanwhile, and counted out when the cancellation is processed
+                return;
+            }
+            this.timer.pendingTimeouts.decrementAndGet();
+            try {
+                this.task.run();
+            } catch (Throwable t) {
+                RuntimeUtils.printCrashLog(t);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts which expire in the same tick of a round.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.prev = this.tail;
+            }
+            this.tail = timeout;
+        }
+
+        private void expireTimeouts(long currentTime) {
+            Timeout timeout = this.head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= currentTime) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() != Timeout.CANCELLED) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
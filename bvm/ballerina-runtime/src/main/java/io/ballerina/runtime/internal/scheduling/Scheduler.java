@@ -29,12 +29,13 @@ import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.ObserveUtils;
 
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
@@ -80,6 +81,12 @@ public class Scheduler {
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
 
+    /**
+     * Metrics of this scheduler, which are collected only if the metrics are enabled. These are created when the
+     * scheduler is started, since the configurations are not read yet when the scheduler is created.
+     */
+    private volatile SchedulerMetrics metrics;
+
     public Scheduler(boolean immortal) {
         try {
             if (poolSizeConf != null) {
@@ -155,7 +162,7 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            addToRunnableList(future.strand.strandGroup);
         }
         return future;
     }
@@ -210,7 +217,7 @@ public class Scheduler {
         return schedule(params, function, future);
     }
 
-    private FutureValue schedule(Object[] params, Function function, FutureValue future) {
+    FutureValue schedule(Object[] params, Function function, FutureValue future) {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
@@ -218,7 +225,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
@@ -244,11 +251,19 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
     public void start() {
+        SchedulerMetrics metrics = this.metrics;
+        if (metrics == null && ObserveUtils.isMetricsEnabled()) {
+            metrics = new SchedulerMetrics(this);
+            this.metrics = metrics;
+        }
+        if (metrics != null) {
+            metrics.registerMBean();
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -259,6 +274,9 @@ public class Scheduler {
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
         }
+        if (metrics != null) {
+            metrics.unregisterMBean();
+        }
     }
 
     /**
@@ -276,6 +294,7 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        StrandHolder holder = strandHolder.get();
         while (true) {
             SchedulerItem item;
             ItemGroup group;
@@ -290,14 +309,25 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
+            SchedulerMetrics metrics = this.metrics;
+            if (metrics != null) {
+                metrics.recordQueueWaitTime(group.enqueuedTime);
+                metrics.workerStarted();
+            }
+            while (!group.isEmpty()) {
                 Object result = null;
                 Throwable panic = null;
 
                 item = group.get();
+                long startTime = metrics != null ? System.nanoTime() : 0;
 
                 try {
-                    strandHolder.get().strand = item.future.strand;
+                    Strand strand = item.future.strand;
+                    if (strand.frames == null) {
+                        // Taken only when the strand is run, and returned to the pool when the strand is completed
+                        strand.frames = holder.takeFrames();
+                    }
+                    holder.strand = strand;
                     result = item.execute();
                 } catch (Throwable e) {
                     panic = createError(e);
@@ -312,14 +342,27 @@ public class Scheduler {
                         RuntimeUtils.printCrashLog(panic);
                     }
                 } finally {
-                    strandHolder.get().strand = null;
+                    holder.strand = null;
+                }
+                if (metrics != null) {
+                    metrics.recordRunTime(startTime);
                 }
                 postProcess(item, result, panic);
-                if (group.items.empty()) {
+                if (group.isEmpty()) {
                     group.scheduled.set(false);
                 }
             }
+            if (metrics != null) {
+                metrics.workerStopped();
+            }
+        }
+    }
+
+    private void addToRunnableList(ItemGroup group) {
+        if (metrics != null) {
+            group.enqueuedTime = System.nanoTime();
         }
+        runnableList.add(group);
     }
 
     /**
@@ -337,6 +380,12 @@ public class Scheduler {
                 }
                 item.parked = true;
                 item.future.strand.unlock();
+                if (metrics != null) {
+                    metrics.strandParked();
+                    if (item.future.strand.blockedOnExtern) {
+                        metrics.strandBlocked(SchedulerMetrics.BlockedReason.EXTERN);
+                    }
+                }
                 break;
             case BLOCK_ON_AND_YIELD:
                 WaitContext waitContext = item.future.strand.waitContext;
@@ -345,6 +394,8 @@ public class Scheduler {
                 if (waitContext.runnable) {
                     waitContext.completed = true;
                     reschedule(item);
+                } else if (metrics != null) {
+                    metrics.strandBlocked(SchedulerMetrics.BlockedReason.WAIT);
                 }
                 waitContext.unLock();
                 break;
@@ -373,19 +424,21 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                if (justCompleted.waitingContexts != null) {
+                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                        ctx.lock();
+                        if (!ctx.completed) {
+                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                                if (ctx.intermediate) {
+                                    ctx.runnable = true;
+                                } else {
+                                    ctx.completed = true;
+                                    reschedule(ctx.schedulerItem);
+                                }
                             }
                         }
+                        ctx.unLock();
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -405,6 +458,30 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Records that a strand is blocked, if the metrics are enabled. Strands blocked on external functions and wait
+     * actions are recorded by the scheduler itself.
+     *
+     * @param reason the reason for which the strand is blocked
+     */
+    public void recordBlockedStrand(SchedulerMetrics.BlockedReason reason) {
+        if (metrics != null) {
+            metrics.strandBlocked(reason);
+        }
+    }
+
+    int getPoolSize() {
+        return numThreads;
+    }
+
+    int getRunnableQueueSize() {
+        return runnableList.size();
+    }
+
+    int getActiveStrands() {
+        return totalStrands.get();
+    }
+
     public void setImmortal(boolean immortal) {
         this.immortal = immortal;
     }
@@ -423,6 +500,9 @@ public class Scheduler {
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
             reschedule(strand.schedulerItem);
+            if (metrics != null) {
+                metrics.strandUnparked();
+            }
         } else {
             // item not returned to scheduler, yet.
             // scheduler will simply reschedule since this is already unlocked.
@@ -433,13 +513,19 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
-        justCompleted.frames = null;
+        if (justCompleted.frames != null) {
+            strandHolder.get().releaseFrames(justCompleted.frames);
+            justCompleted.frames = null;
+        }
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
@@ -469,7 +555,7 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                addToRunnableList(group);
             }
         }
     }
@@ -488,9 +574,8 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        // The frames of the new strand are taken from the pool of the worker thread which runs it
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
@@ -596,18 +681,25 @@ class ItemGroup {
 
     /**
      * Keep the list of items that should run on same thread.
-     * Using a stack to get advantage of the locality.
+     * Using a stack to get advantage of the locality. Most groups hold a single strand, hence the initial capacity is
+     * kept small.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final ArrayDeque<SchedulerItem> items;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * The time this group was added to the runnable list, which is set only if the scheduler metrics are enabled.
+     */
+    long enqueuedTime;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
+        items = new ArrayDeque<>(1);
         items.push(item);
     }
 
@@ -615,11 +707,15 @@ class ItemGroup {
         items = null;
     }
 
-    public void add(SchedulerItem item) {
+    public synchronized void add(SchedulerItem item) {
         items.push(item);
     }
 
-    public SchedulerItem get() {
+    public synchronized SchedulerItem get() {
         return items.pop();
     }
+
+    public synchronized boolean isEmpty() {
+        return items.isEmpty();
+    }
 }
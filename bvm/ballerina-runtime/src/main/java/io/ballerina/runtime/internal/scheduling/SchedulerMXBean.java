@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Management interface of the strand {@link Scheduler}, which is registered as
+ * {@code io.ballerina.runtime:type=Scheduler} when the metrics are enabled.
+ *
+ * @since 2.0.0
+ */
+public interface SchedulerMXBean {
+
+    /**
+     * Returns the number of worker threads of the scheduler.
+     *
+     * @return pool size
+     */
+    int getPoolSize();
+
+    /**
+     * Returns the number of worker threads which are running strands at the moment.
+     *
+     * @return busy worker count
+     */
+    int getBusyWorkers();
+
+    /**
+     * Returns the number of strand groups which are ready to run and waiting for a worker thread.
+     *
+     * @return runnable queue size
+     */
+    int getRunnableQueueSize();
+
+    /**
+     * Returns the number of strands which are not yet completed.
+     *
+     * @return active strand count
+     */
+    int getActiveStrands();
+
+    /**
+     * Returns the number of strands which are parked until they are unblocked.
+     *
+     * @return parked strand count
+     */
+    long getParkedStrands();
+
+    /**
+     * Returns the number of times a strand was run by a worker thread.
+     *
+     * @return strand run count
+     */
+    long getStrandRuns();
+
+    /**
+     * Returns the average time a strand group waited in the runnable queue, in microseconds.
+     *
+     * @return average queue wait time
+     */
+    double getAverageQueueWaitTimeMicros();
+
+    /**
+     * Returns the average time a strand ran before it completed or yielded, in microseconds.
+     *
+     * @return average run time
+     */
+    double getAverageRunTimeMicros();
+
+    /**
+     * Returns the number of times strands were blocked on a lock.
+     *
+     * @return lock block count
+     */
+    long getBlockedOnLockCount();
+
+    /**
+     * Returns the number of times strands were blocked on a worker channel, a sync send or a flush.
+     *
+     * @return worker channel block count
+     */
+    long getBlockedOnWorkerChannelCount();
+
+    /**
+     * Returns the number of times strands were blocked on an external function.
+     *
+     * @return extern block count
+     */
+    long getBlockedOnExternCount();
+
+    /**
+     * Returns the number of times strands were blocked on a wait action.
+     *
+     * @return wait block count
+     */
+    long getBlockedOnWaitCount();
+}
@@ -0,0 +1,307 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.internal.util.RuntimeUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Collects the metrics of a {@link Scheduler}, which show whether the strands are waiting for worker threads, or are
+ * blocked on locks, worker channels, external functions or wait actions.
+ * <p>
+ * The metrics are exposed through the {@link SchedulerMXBean} and, once the metric provider is initialized by the
+ * observe module, through the default {@link MetricRegistry}. The metrics of the registry are tagged with the id of
+ * the scheduler, since a program may run several schedulers. A scheduler creates this when it is started, only if the
+ * metrics are enabled, hence a scheduler without metrics only checks for a null field.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics implements SchedulerMXBean {
+
+    private static final String OBJECT_NAME = "io.ballerina.runtime:type=Scheduler";
+    private static final String TAG_KEY_SCHEDULER = "scheduler";
+    private static final String TAG_KEY_REASON = "reason";
+    private static final StatisticConfig[] TIME_STATISTIC_CONFIGS = new StatisticConfig[]{
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+    private static final AtomicInteger schedulerCount = new AtomicInteger();
+
+    /**
+     * Reasons for which a strand is blocked.
+     */
+    public enum BlockedReason {
+        LOCK,
+        WORKER_CHANNEL,
+        EXTERN,
+        WAIT
+    }
+
+    private final Scheduler scheduler;
+    private final int schedulerId;
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final LongAdder parkedStrands = new LongAdder();
+    private final LongAdder strandRuns = new LongAdder();
+    private final LongAdder totalRunTime = new LongAdder();
+    private final LongAdder queuedGroups = new LongAdder();
+    private final LongAdder totalQueueWaitTime = new LongAdder();
+    private final LongAdder[] blockedCounts = new LongAdder[BlockedReason.values().length];
+    private ObjectName objectName;
+
+    // Gauges of the default metric registry, which are set once the registry is available
+    private volatile boolean registered;
+    private MetricRegistry metricRegistry;
+    private Gauge queueWaitTimeGauge;
+    private Gauge runTimeGauge;
+    private final List<PolledGauge> polledGauges = new ArrayList<>();
+
+    public SchedulerMetrics(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        this.schedulerId = schedulerCount.getAndIncrement();
+        for (int i = 0; i < this.blockedCounts.length; i++) {
+            this.blockedCounts[i] = new LongAdder();
+        }
+    }
+
+    public int getSchedulerId() {
+        return this.schedulerId;
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(
+                    this.schedulerId == 0 ? OBJECT_NAME : OBJECT_NAME + ",id=" + this.schedulerId);
+            mBeanServer.registerMBean(this, name);
+            this.objectName = name;
+        } catch (JMException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+    }
+
+    public void unregisterMBean() {
+        unregisterMetrics();
+        if (this.objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (JMException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+        this.objectName = null;
+    }
+
+    public void workerStarted() {
+        this.busyWorkers.incrementAndGet();
+    }
+
+    public void workerStopped() {
+        this.busyWorkers.decrementAndGet();
+    }
+
+    public void recordQueueWaitTime(long enqueuedTime) {
+        if (enqueuedTime == 0) {
+            // The group was added to the runnable list before the metrics were created
+            return;
+        }
+        long queueWaitTime = System.nanoTime() - enqueuedTime;
+        this.queuedGroups.increment();
+        this.totalQueueWaitTime.add(queueWaitTime);
+        if (this.registered || register()) {
+            this.queueWaitTimeGauge.setValue(queueWaitTime / 1E9);
+        }
+    }
+
+    public void recordRunTime(long startTime) {
+        long runTime = System.nanoTime() - startTime;
+        this.strandRuns.increment();
+        this.totalRunTime.add(runTime);
+        if (this.registered || register()) {
+            this.runTimeGauge.setValue(runTime / 1E9);
+        }
+    }
+
+    public void strandParked() {
+        this.parkedStrands.increment();
+    }
+
+    public void strandUnparked() {
+        this.parkedStrands.decrement();
+    }
+
+    public void strandBlocked(BlockedReason reason) {
+        this.blockedCounts[reason.ordinal()].increment();
+    }
+
+    private boolean register() {
+        // The registry is set by the observe module, after the scheduler has started running strands
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null) {
+            return false;
+        }
+        synchronized (this) {
+            if (!this.registered) {
+                registerMetrics(metricRegistry);
+                this.registered = true;
+            }
+        }
+        return true;
+    }
+
+    private void registerMetrics(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+        this.queueWaitTimeGauge = metricRegistry.gauge(newMetricId("scheduler_queue_wait_time_seconds",
+                "Time strands waited for a worker thread"), TIME_STATISTIC_CONFIGS);
+        this.runTimeGauge = metricRegistry.gauge(newMetricId("scheduler_strand_run_time_seconds",
+                "Time strands ran before they completed or yielded"), TIME_STATISTIC_CONFIGS);
+        registerPolledGauge(newMetricId("scheduler_pool_size", "Number of worker threads"),
+                SchedulerMetrics::getPoolSize);
+        registerPolledGauge(newMetricId("scheduler_busy_workers", "Number of worker threads running strands"),
+                SchedulerMetrics::getBusyWorkers);
+        registerPolledGauge(newMetricId("scheduler_runnable_queue_size",
+                "Number of strand groups waiting for a worker thread"), SchedulerMetrics::getRunnableQueueSize);
+        registerPolledGauge(newMetricId("scheduler_active_strands", "Number of strands not yet completed"),
+                SchedulerMetrics::getActiveStrands);
+        registerPolledGauge(newMetricId("scheduler_parked_strands", "Number of strands parked until unblocked"),
+                SchedulerMetrics::getParkedStrands);
+        for (BlockedReason reason : BlockedReason.values()) {
+            LongAdder blockedCount = this.blockedCounts[reason.ordinal()];
+            registerPolledGauge(newMetricId("scheduler_strands_blocked_total", "Number of times strands were blocked",
+                    Tag.of(TAG_KEY_REASON, reason.name().toLowerCase(Locale.ENGLISH))),
+                    metrics -> blockedCount.sum());
+        }
+    }
+
+    private MetricId newMetricId(String name, String description, Tag... tags) {
+        Set<Tag> metricTags = new HashSet<>();
+        metricTags.add(Tag.of(TAG_KEY_SCHEDULER, Integer.toString(this.schedulerId)));
+        metricTags.addAll(List.of(tags));
+        return new MetricId(name, description, metricTags);
+    }
+
+    private void registerPolledGauge(MetricId id, ToDoubleFunction<SchedulerMetrics> valueFunction) {
+        this.polledGauges.add(this.metricRegistry.polledGauge(id, this, valueFunction));
+    }
+
+    private void unregisterMetrics() {
+        synchronized (this) {
+            if (!this.registered) {
+                return;
+            }
+            this.metricRegistry.unregister(this.queueWaitTimeGauge);
+            this.metricRegistry.unregister(this.runTimeGauge);
+            for (PolledGauge polledGauge : this.polledGauges) {
+                this.metricRegistry.unregister(polledGauge);
+            }
+            this.polledGauges.clear();
+            this.metricRegistry = null;
+            // The metrics are registered again if the scheduler is started again
+            this.registered = false;
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return this.scheduler.getPoolSize();
+    }
+
+    @Override
+    public int getBusyWorkers() {
+        return this.busyWorkers.get();
+    }
+
+    @Override
+    public int getRunnableQueueSize() {
+        return this.scheduler.getRunnableQueueSize();
+    }
+
+    @Override
+    public int getActiveStrands() {
+        return this.scheduler.getActiveStrands();
+    }
+
+    @Override
+    public long getParkedStrands() {
+        return this.parkedStrands.sum();
+    }
+
+    @Override
+    public long getStrandRuns() {
+        return this.strandRuns.sum();
+    }
+
+    @Override
+    public double getAverageQueueWaitTimeMicros() {
+        return average(this.totalQueueWaitTime, this.queuedGroups);
+    }
+
+    @Override
+    public double getAverageRunTimeMicros() {
+        return average(this.totalRunTime, this.strandRuns);
+    }
+
+    @Override
+    public long getBlockedOnLockCount() {
+        return this.blockedCounts[BlockedReason.LOCK.ordinal()].sum();
+    }
+
+    @Override
+    public long getBlockedOnWorkerChannelCount() {
+        return this.blockedCounts[BlockedReason.WORKER_CHANNEL.ordinal()].sum();
+    }
+
+    @Override
+    public long getBlockedOnExternCount() {
+        return this.blockedCounts[BlockedReason.EXTERN.ordinal()].sum();
+    }
+
+    @Override
+    public long getBlockedOnWaitCount() {
+        return this.blockedCounts[BlockedReason.WAIT.ordinal()].sum();
+    }
+
+    private static double average(LongAdder totalNanos, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) totalNanos.sum() / n / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
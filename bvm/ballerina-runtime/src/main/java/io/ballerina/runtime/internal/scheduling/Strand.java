@@ -69,8 +69,10 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    // Number of functions running on the strand which are called synchronously from Java, hence cannot yield
+    private int synchronousCalls;
+    // Created on demand, since most strands neither use channels, nor are waited on, nor run in transactions
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public boolean cancel;
 
     SchedulerItem schedulerItem;
@@ -89,14 +91,10 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
         //TODO: improve by using a copy on write map #26710
@@ -108,10 +106,8 @@ public class Strand {
                         createTrxContextBranch((TransactionLocalContext) currentContext, name);
                 setCurrentTransactionContext(branchedContext);
             }
-        } else if (parent != null) {
+        } else if (parent != null && parent.globalProps != null && !parent.globalProps.isEmpty()) {
             this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
         }
     }
 
@@ -119,6 +115,10 @@ public class Strand {
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
+            // The child pushes to the stack of the parent
+            if (parent.trxContexts == null) {
+                parent.trxContexts = new Stack<>();
+            }
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
@@ -153,7 +153,7 @@ public class Strand {
      */
     @Deprecated
     public Object getProperty(String key) {
-        return this.globalProps.get(key);
+        return this.globalProps != null ? this.globalProps.get(key) : null;
     }
 
     /**
@@ -162,7 +162,7 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getGlobalProps().put(key, value);
     }
 
     public boolean isInTransaction() {
@@ -175,7 +175,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -184,10 +184,20 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        getGlobalProps().putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+    }
+
+    private Map<String, Object> getGlobalProps() {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
+        return this.globalProps;
     }
 
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
@@ -224,6 +234,7 @@ public class Strand {
             }
             flushDetail.inProgress = true;
             this.setState(BLOCK_AND_YIELD);
+            this.scheduler.recordBlockedStrand(SchedulerMetrics.BlockedReason.WORKER_CHANNEL);
             return null;
         } finally {
             this.flushDetail.flushLock.unlock();
@@ -260,7 +271,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -300,7 +311,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -322,7 +333,18 @@ public class Strand {
         return waitResult;
     }
 
+    private void addWaitingContext(WaitContext ctx) {
+        // Called while holding the lock of this strand
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -364,6 +386,25 @@ public class Strand {
         return blockedOnExtern;
     }
 
+    /**
+     * Checks whether the strand can yield. A function called synchronously through
+     * {@link io.ballerina.runtime.api.values.BFunctionPointer#call} cannot yield, since its caller expects the result
+     * once the call returns.
+     *
+     * @return true if the strand can yield
+     */
+    public boolean canYield() {
+        return synchronousCalls == 0;
+    }
+
+    public void startSynchronousCall() {
+        synchronousCalls++;
+    }
+
+    public void endSynchronousCall() {
+        synchronousCalls--;
+    }
+
     public void lock() {
         this.strandLock.lock();
     }
@@ -16,11 +16,37 @@
  */
 package io.ballerina.runtime.internal.scheduling;
 
+import java.util.ArrayDeque;
+
 /**
  * Keeps a volatile reference to strand. only to be used from the Scheduler.
+ * <p>
+ * Also keeps the frame arrays of the completed strands run by the worker thread, so that they can be reused by the
+ * next strands instead of allocating a new array for each strand.
  *
  * @since 1.0.0
  */
 class StrandHolder {
+
+    static final int FRAMES_SIZE = 100;
+    private static final int MAX_POOLED_FRAMES = 64;
+
     Strand strand;
+    private final ArrayDeque<Object[]> framesPool = new ArrayDeque<>();
+
+    Object[] takeFrames() {
+        Object[] frames = framesPool.poll();
+        return frames != null ? frames : new Object[FRAMES_SIZE];
+    }
+
+    void releaseFrames(Object[] frames) {
+        if (frames.length != FRAMES_SIZE || framesPool.size() >= MAX_POOLED_FRAMES) {
+            return;
+        }
+        // Frames are pushed from the start of the array, hence the used slots end at the first empty slot
+        for (int i = 0; i < frames.length && frames[i] != null; i++) {
+            frames[i] = null;
+        }
+        framesPool.push(frames);
+    }
 }
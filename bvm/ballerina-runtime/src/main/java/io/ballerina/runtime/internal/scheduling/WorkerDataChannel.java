@@ -19,46 +19,51 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Async sends and receives of available messages do not acquire the channel lock. The sender wakes the receiver
+ * only if the receiver is waiting for a message, and the receiver takes the messages sent meanwhile without
+ * waiting. Hence a batch of messages wakes the receiver once. Sync sends, flushes, errors and panics still use
+ * the channel lock.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    // Represents the nil value in the message queue, since the queue does not accept nulls
+    private static final Object NIL_MESSAGE = new Object();
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private final AtomicReference<WaitingSender> flushSender = new AtomicReference<>();
+    private final AtomicInteger senderCounter = new AtomicInteger();
+    private final AtomicInteger receiverCounter = new AtomicInteger();
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
     private boolean reschedule;
+    private boolean syncSendPending;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue channel = new WorkerDataQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
     }
     public WorkerDataChannel(String channelName) {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
         this.chnlName = channelName;
     }
 
@@ -70,19 +75,10 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.senderCounter.incrementAndGet();
+        this.channel.offer(data == null ? NIL_MESSAGE : data);
+        unblockReceiver();
     }
 
     /**
@@ -97,35 +93,32 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                this.senderCounter.incrementAndGet();
                 this.waitingSender = new WaitingSender(strand, -1);
-
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+                this.syncSendPending = true;
+                this.channel.offer(new WorkerResult(data, true));
+
+                if (!unblockReceiver()) {
+                    if (this.panic != null) {
+                        Throwable panic = this.panic;
+                        this.panic = null;
+                        throw panic;
+                    } else if (this.error != null) {
+                        return this.error;
+                    }
                 }
 
                 reschedule = true;
                 strand.setState(BLOCK_AND_YIELD);
+                strand.scheduler.recordBlockedStrand(SchedulerMetrics.BlockedReason.WORKER_CHANNEL);
                 return null;
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
-                Throwable e = this.panic;
-                throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
-                ErrorValue ret = this.error;
-                return ret;
+            if (this.panic != null && this.syncSendPending) {
+                throw this.panic;
+            } else if (this.error != null && this.syncSendPending) {
+                return this.error;
             }
 
             // sync send done
@@ -135,48 +128,89 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object message = this.channel.poll();
+        if (message != null) {
+            return takeMessage(message);
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
+            if (this.panic != null && this.senderCounter.get() == this.receiverCounter.get() + 1) {
+                this.receiverCounter.incrementAndGet();
                 throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
+            } else if (this.error != null && this.senderCounter.get() == this.receiverCounter.get() + 1) {
+                this.receiverCounter.incrementAndGet();
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
+            }
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver.set(strand);
+            // A message sent after the queue was polled may not have seen the waiting receiver. If the sender has
+            // already claimed the receiver, the sender unblocks it and the message is taken after the reschedule.
+            if (this.channel.isEmpty() || !this.receiver.compareAndSet(strand, null)) {
+                strand.scheduler.recordBlockedStrand(SchedulerMetrics.BlockedReason.WORKER_CHANNEL);
                 return null;
             }
+            strand.setState(RUNNABLE);
         } finally {
             releaseChannelLock();
         }
+        return takeMessage(this.channel.poll());
+    }
+
+    private Object takeMessage(Object message) {
+        this.receiverCounter.incrementAndGet();
+        if (message instanceof WorkerResult) {
+            try {
+                acquireChannelLock();
+                // sync sender will pick the this.error as result, which is null
+                this.syncSendPending = false;
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+            return ((WorkerResult) message).value;
+        }
+
+        WaitingSender flushWaiter = this.flushSender.get();
+        if (flushWaiter != null && this.receiverCounter.get() >= flushWaiter.flushCount &&
+                this.flushSender.compareAndSet(flushWaiter, null)) {
+            notifyFlushSender(flushWaiter.waitingStrand);
+        }
+        return message == NIL_MESSAGE ? null : message;
+    }
+
+    private boolean unblockReceiver() {
+        if (this.receiver.get() == null) {
+            return false;
+        }
+        Strand waitingReceiver = this.receiver.getAndSet(null);
+        if (waitingReceiver == null) {
+            return false;
+        }
+        waitingReceiver.scheduler.unblockStrand(waitingReceiver);
+        return true;
+    }
+
+    private void notifyFlushSender(Strand flushStrand) {
+        Strand.FlushDetail flushDetail = flushStrand.flushDetail;
+        flushDetail.flushLock.lock();
+        try {
+            // The flush may have already completed with an error of another channel
+            if (!flushDetail.inProgress) {
+                return;
+            }
+            flushDetail.flushedCount++;
+            if (flushDetail.flushedCount == flushDetail.flushChannels.length && flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+        } finally {
+            flushDetail.flushLock.unlock();
+        }
     }
 
     /**
@@ -186,11 +220,8 @@ public class WorkerDataChannel {
     public void setSendError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -202,22 +233,26 @@ public class WorkerDataChannel {
     public void setReceiveError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            if (flushStrand.isBlocked()) {
-                flushStrand.flushDetail.result = error;
-                flushStrand.scheduler.unblockStrand(flushStrand);
-            }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
+        this.receiverCounter.incrementAndGet();
+        WaitingSender flushWaiter = this.flushSender.getAndSet(null);
+        if (flushWaiter == null && this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
         releaseChannelLock();
+
+        // The flush lock is acquired after releasing the channel lock, since the flush sender acquires the flush
+        // lock before the channel lock
+        if (flushWaiter != null) {
+            Strand flushStrand = flushWaiter.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            if (flushStrand.isBlocked()) {
+                flushStrand.flushDetail.result = error;
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+            flushStrand.flushDetail.flushLock.unlock();
+        }
     }
 
     /**
@@ -234,13 +269,17 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            }
+
+            WaitingSender flushWaiter = new WaitingSender(strand, this.senderCounter.get());
+            this.flushSender.set(flushWaiter);
+            // The receiver may have taken the last message before the flush sender is set, without seeing it
+            if (this.receiverCounter.get() >= flushWaiter.flushCount &&
+                    this.flushSender.compareAndSet(flushWaiter, null)) {
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
             return null;
         } finally {
             releaseChannelLock();
@@ -248,9 +287,7 @@ public class WorkerDataChannel {
     }
 
     public void removeFlushWait() {
-        acquireChannelLock();
-        this.flushSender = null;
-        releaseChannelLock();
+        this.flushSender.set(null);
     }
 
     /**
@@ -262,11 +299,8 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.panic  = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            this.senderCounter.incrementAndGet();
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -280,22 +314,24 @@ public class WorkerDataChannel {
     public void setReceiverPanic(Throwable panic) {
         acquireChannelLock();
         this.panic  = panic;
-        this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
-            if (flushStrand.isBlocked()) {
-                flushStrand.scheduler.unblockStrand(flushStrand);
-            }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
-        } else if (this.waitingSender != null) {
+        this.receiverCounter.incrementAndGet();
+        WaitingSender flushWaiter = this.flushSender.getAndSet(null);
+        if (flushWaiter == null && this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
         releaseChannelLock();
+
+        if (flushWaiter != null) {
+            Strand flushStrand = flushWaiter.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.panic = panic;
+            if (flushStrand.isBlocked()) {
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+            flushStrand.flushDetail.flushLock.unlock();
+        }
     }
 
     /**
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An unbounded, lock-free message queue of a worker data channel, with a single producer and a single consumer.
+ * <p>
+ * Messages are stored in fixed size segments, and a new segment is linked once the last segment is full. Hence
+ * sending a message does not allocate a node per message. The sending worker is the only producer and the
+ * receiving worker is the only consumer of a channel, and the scheduler orders the calls made by the same worker
+ * from different threads.
+ *
+ * @since 2.0.0
+ */
+class WorkerDataQueue {
+
+    private static final int SEGMENT_SIZE = 32;
+
+    // Accessed only by the consumer
+    private Segment head;
+    private int headIndex;
+
+    // Accessed only by the producer
+    private Segment tail;
+    private int tailIndex;
+
+    WorkerDataQueue() {
+        this.head = new Segment();
+        this.tail = this.head;
+    }
+
+    /**
+     * Adds a message to the end of the queue. Must only be called by the producer.
+     *
+     * @param message non-null message
+     */
+    void offer(Object message) {
+        if (this.tailIndex == SEGMENT_SIZE) {
+            Segment segment = new Segment();
+            this.tail.next = segment;
+            this.tail = segment;
+            this.tailIndex = 0;
+        }
+        // A volatile write, so that a producer which checks for a waiting consumer afterwards does not miss it
+        this.tail.messages.set(this.tailIndex++, message);
+    }
+
+    /**
+     * Removes the message at the head of the queue. Must only be called by the consumer.
+     *
+     * @return the message, or null if the queue is empty
+     */
+    Object poll() {
+        if (this.headIndex == SEGMENT_SIZE) {
+            Segment next = this.head.next;
+            if (next == null) {
+                return null;
+            }
+            this.head = next;
+            this.headIndex = 0;
+        }
+        Object message = this.head.messages.get(this.headIndex);
+        if (message == null) {
+            return null;
+        }
+        this.head.messages.lazySet(this.headIndex++, null);
+        return message;
+    }
+
+    /**
+     * Checks whether the queue is empty. Must only be called by the consumer.
+     *
+     * @return true if there are no messages in the queue
+     */
+    boolean isEmpty() {
+        if (this.headIndex == SEGMENT_SIZE) {
+            Segment next = this.head.next;
+            return next == null || next.messages.get(0) == null;
+        }
+        return this.head.messages.get(this.headIndex) == null;
+    }
+
+    /**
+     * A fixed size segment of the queue.
+     */
+    private static class Segment {
+
+        private final AtomicReferenceArray<Object> messages = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        private volatile Segment next;
+    }
+}
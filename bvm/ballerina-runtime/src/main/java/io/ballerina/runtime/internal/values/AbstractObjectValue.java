@@ -59,7 +59,8 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     private BObjectType type;
 
-    private final HashMap<String, Object> nativeData = new HashMap<>();
+    // Native data is rarely used, hence it is allocated only when the first native value is added
+    private HashMap<String, Object> nativeData;
 
     public AbstractObjectValue(BObjectType type) {
         this.type = type;
@@ -67,16 +68,19 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     @Override
     public void addNativeData(String key, Object data) {
-        this.nativeData.put(key, data);
+        getNativeData().put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return this.nativeData.get(key);
+        return this.nativeData == null ? null : this.nativeData.get(key);
     }
 
     @Override
     public HashMap<String, Object> getNativeData() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return nativeData;
     }
 
@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.values.BFuture;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.Map;
 import java.util.function.Consumer;
@@ -59,7 +60,17 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
     }
 
     public R call(T t) {
-        return this.function.apply(t);
+        // The function runs on the strand of the caller, which is passed as the first argument
+        if (!(t instanceof Object[]) || ((Object[]) t).length == 0 || !(((Object[]) t)[0] instanceof Strand)) {
+            return this.function.apply(t);
+        }
+        Strand strand = (Strand) ((Object[]) t)[0];
+        strand.startSynchronousCall();
+        try {
+            return this.function.apply(t);
+        } finally {
+            strand.endSynchronousCall();
+        }
     }
 
     public BFuture asyncCall(Object[] args, StrandMetadata metaData) {
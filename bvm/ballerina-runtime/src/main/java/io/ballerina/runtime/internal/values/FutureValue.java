@@ -49,13 +49,16 @@ package io.ballerina.runtime.internal.values;
 
      public Callback callback;
 
-     Type type;
+     private final Type constraint;
+
+     // Created on demand, since the type of most futures is never read
+     private Type type;
 
      @Deprecated
      public FutureValue(Strand strand, Callback callback, Type constraint) {
          this.strand = strand;
          this.callback = callback;
-         this.type = new BFutureType(constraint);
+         this.constraint = constraint;
      }
 
      @Override
@@ -78,6 +81,9 @@ package io.ballerina.runtime.internal.values;
 
     @Override
      public Type getType() {
+         if (this.type == null) {
+             this.type = new BFutureType(this.constraint);
+         }
          return this.type;
      }
 
@@ -90,7 +90,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private TypedescValue typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Native data is rarely used, hence it is allocated only when the first native value is added
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -569,7 +570,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -578,7 +579,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -592,6 +593,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
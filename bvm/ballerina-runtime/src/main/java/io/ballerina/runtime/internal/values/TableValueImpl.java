@@ -88,7 +88,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private boolean nextKeySupported;
 
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
 
     public TableValueImpl(TableType type) {
         this.type = type;
@@ -300,12 +300,15 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -28,11 +28,14 @@ import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
 import io.ballerina.runtime.observability.tracer.BSpan;
+import io.ballerina.runtime.observability.tracer.TraceSampler;
 
+import java.io.PrintStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
@@ -40,6 +43,7 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUIL
 import static io.ballerina.runtime.observability.ObservabilityConstants.CHECKPOINT_EVENT_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.DEFAULT_SERVICE_NAME;
 import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_OBSERVER_CONTEXT;
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_TRACE_PROPERTIES;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_MODULE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_POSITION;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_CLIENT_REMOTE;
@@ -68,6 +72,15 @@ public class ObserveUtils {
     private static final BString metricsReporter;
     private static final boolean tracingEnabled;
     private static final BString tracingProvider;
+    private static final TraceSampler tracingSampler;
+    private static final PrintStream consoleError = System.err;
+
+    /**
+     * Checkpoint events, by module and position. The events of a checkpoint are the same for every invocation, hence
+     * they are created once per checkpoint and shared by all the spans.
+     */
+    private static final Map<BString, Map<BString, Map<String, Object>>> checkpointEvents =
+            new ConcurrentHashMap<>();
 
     static {
         // TODO: Move config initialization to ballerina level once checking config key is possible at ballerina level
@@ -79,15 +92,30 @@ public class ObserveUtils {
         VariableKey metricsReporterKey = new VariableKey(observeModule, "metricsReporter");
         VariableKey tracingEnabledKey = new VariableKey(observeModule, "tracingEnabled");
         VariableKey tracingProviderKey = new VariableKey(observeModule, "tracingProvider");
+        VariableKey tracingSamplerTypeKey = new VariableKey(observeModule, "tracingSamplerType");
+        VariableKey tracingSamplerParamKey = new VariableKey(observeModule, "tracingSamplerParam");
 
         metricsEnabled = readConfig(metricsEnabledKey, enabledKey, false);
         metricsProvider = readConfig(metricsProviderKey, null, StringUtils.fromString("default"));
         metricsReporter = readConfig(metricsReporterKey, providerKey, StringUtils.fromString("prometheus"));
         tracingEnabled = readConfig(tracingEnabledKey, enabledKey, false);
         tracingProvider = readConfig(tracingProviderKey, providerKey, StringUtils.fromString("jaeger"));
+        BString tracingSamplerType = readConfig(tracingSamplerTypeKey, null,
+                StringUtils.fromString(TraceSampler.CONST_SAMPLER));
+        double tracingSamplerParam = readConfig(tracingSamplerParamKey, null, 1.0);
+        tracingSampler = createTraceSampler(tracingSamplerType.getValue(), tracingSamplerParam);
         enabled = metricsEnabled || tracingEnabled;
     }
 
+    private static TraceSampler createTraceSampler(String type, double param) {
+        try {
+            return TraceSampler.create(type, param);
+        } catch (IllegalArgumentException e) {
+            consoleError.println("error: " + e.getMessage() + ", hence all the traces are sampled");
+            return TraceSampler.create(TraceSampler.CONST_SAMPLER, 1);
+        }
+    }
+
     private static <T> T readConfig(VariableKey specificKey, VariableKey inheritedKey, T defaultValue) {
         T value;
         if (ConfigMap.containsKey(specificKey)) {
@@ -165,10 +193,17 @@ public class ObserveUtils {
             newObserverContext.setEntrypointFunctionModule(observerContext.getEntrypointFunctionModule());
             newObserverContext.setEntrypointFunctionPosition(observerContext.getEntrypointFunctionPosition());
             newObserverContext.setParent(observerContext);
+            newObserverContext.setSampled(observerContext.isSampled());
             observerContext = newObserverContext;
         } else {    // If created now or the listener created to add more tags
             observerContext.setEntrypointFunctionModule(module.getValue());
             observerContext.setEntrypointFunctionPosition(position.getValue());
+            // The sampling decision of a trace propagated by the caller is honored
+            @SuppressWarnings("unchecked")
+            Map<String, String> traceContext =
+                    (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+            observerContext.setSampled(traceContext != null && !traceContext.isEmpty()
+                    ? TraceSampler.isSampled(traceContext) : isTraceSampled());
         }
         observerContext.setServiceName(serviceName.getValue());
 
@@ -229,15 +264,22 @@ public class ObserveUtils {
         if (span == null) {
             return;
         }
+        span.addEvent(getCheckpointEvent(pkg, position));
+    }
 
-        // Adding Position and Module ID to the Jaeger Span
-        Map<String, String> eventAttributes = new HashMap<>(2);
-        eventAttributes.put(TAG_KEY_SRC_MODULE, pkg.getValue());
-        eventAttributes.put(TAG_KEY_SRC_POSITION, position.getValue());
-
-        HashMap<String, Object> event = new HashMap<>(1);
-        event.put(CHECKPOINT_EVENT_NAME, eventAttributes);
-        span.addEvent(event);
+    private static Map<String, Object> getCheckpointEvent(BString pkg, BString position) {
+        Map<BString, Map<String, Object>> moduleCheckpointEvents =
+                checkpointEvents.computeIfAbsent(pkg, key -> new ConcurrentHashMap<>());
+        Map<String, Object> event = moduleCheckpointEvents.get(position);
+        if (event == null) {
+            // Adding Position and Module ID to the Jaeger Span
+            Map<String, String> eventAttributes = new HashMap<>(2);
+            eventAttributes.put(TAG_KEY_SRC_MODULE, pkg.getValue());
+            eventAttributes.put(TAG_KEY_SRC_POSITION, position.getValue());
+            event = Collections.singletonMap(CHECKPOINT_EVENT_NAME, Collections.unmodifiableMap(eventAttributes));
+            moduleCheckpointEvents.putIfAbsent(position, event);
+        }
+        return event;
     }
 
     /**
@@ -309,7 +351,9 @@ public class ObserveUtils {
             newObContext.setEntrypointFunctionModule(prevObserverCtx.getEntrypointFunctionModule());
             newObContext.setEntrypointFunctionPosition(prevObserverCtx.getEntrypointFunctionPosition());
             newObContext.setParent(prevObserverCtx);
+            newObContext.setSampled(prevObserverCtx.isSampled());
         } else {
+            newObContext.setSampled(isTraceSampled());
             newObContext.setServiceName(DEFAULT_SERVICE_NAME);
             newObContext.setEntrypointFunctionModule(module.getValue());
             newObContext.setEntrypointFunctionPosition(position.getValue());
@@ -351,6 +395,15 @@ public class ObserveUtils {
         }
     }
 
+    /**
+     * Decides whether a new trace is sampled, when its root span is started.
+     *
+     * @return true if the trace is sampled
+     */
+    public static boolean isTraceSampled() {
+        return !tracingEnabled || tracingSampler.isSampled();
+    }
+
     /**
      * Get context properties of the observer context.
      *
@@ -362,7 +415,7 @@ public class ObserveUtils {
         if (bSpan != null) {
             return bSpan.extractContextAsHttpHeaders();
         }
-        return Collections.emptyMap();
+        return observerContext.isSampled() ? Collections.emptyMap() : TraceSampler.NOT_SAMPLED_TRACE_CONTEXT;
     }
 
     /**
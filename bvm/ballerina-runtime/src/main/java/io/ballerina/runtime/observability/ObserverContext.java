@@ -68,6 +68,8 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    private boolean sampled = true;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
@@ -175,6 +177,19 @@ public class ObserverContext {
         isSystemSpan = userSpan;
     }
 
+    /**
+     * Check whether the trace this context belongs to is sampled. Spans are not created for unsampled traces.
+     *
+     * @return true if the trace is sampled
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
     @Deprecated
     public void setObjectName(String objectName) {
         // TODO: Remove once connector usages are removed (Connectors should directly add connector tag instead)
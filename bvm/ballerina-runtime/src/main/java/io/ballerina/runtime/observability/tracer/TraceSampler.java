@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.observability.tracer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether a trace is sampled, at the start of the root span of the trace.
+ * <p>
+ * The following sampler types are supported.
+ * <ul>
+ * <li>{@code const} samples all the traces if the parameter is 1, and none of the traces if it is 0.</li>
+ * <li>{@code probabilistic} samples a trace with the probability given by the parameter.</li>
+ * <li>{@code ratelimiting} samples at most the number of traces per second given by the parameter.</li>
+ * </ul>
+ * The spans of a trace which is not sampled are not created at all, hence an unsampled trace does not have a
+ * tracing overhead. The sampling decision of a trace propagated by an upstream caller is honored, and a trace which
+ * is not sampled is propagated to the downstream services as not sampled.
+ *
+ * @since 2.0.0
+ */
+public abstract class TraceSampler {
+
+    public static final String CONST_SAMPLER = "const";
+    public static final String PROBABILISTIC_SAMPLER = "probabilistic";
+    public static final String RATE_LIMITING_SAMPLER = "ratelimiting";
+
+    private static final String JAEGER_TRACE_HEADER = "uber-trace-id";
+    private static final String B3_SAMPLED_HEADER = "X-B3-Sampled";
+    private static final String B3_SINGLE_HEADER = "b3";
+    private static final String W3C_TRACE_PARENT_HEADER = "traceparent";
+    private static final int SAMPLED_FLAG = 1;
+
+    /**
+     * Trace context propagated to the downstream services by a trace which is not sampled. The B3 sampling flag can
+     * be sent without a trace id to deny sampling.
+     */
+    public static final Map<String, String> NOT_SAMPLED_TRACE_CONTEXT = Collections.singletonMap(B3_SAMPLED_HEADER,
+                                                                                                  "0");
+
+    private TraceSampler() {
+    }
+
+    /**
+     * Creates a sampler of the given type.
+     *
+     * @param type  sampler type
+     * @param param sampler parameter
+     * @return the sampler
+     */
+    public static TraceSampler create(String type, double param) {
+        switch (type) {
+            case CONST_SAMPLER:
+                return new ConstSampler(param != 0);
+            case PROBABILISTIC_SAMPLER:
+                if (param >= 1) {
+                    return new ConstSampler(true);
+                }
+                return param <= 0 ? new ConstSampler(false) : new ProbabilisticSampler(param);
+            case RATE_LIMITING_SAMPLER:
+                return param <= 0 ? new ConstSampler(false) : new RateLimitingSampler(param);
+            default:
+                throw new IllegalArgumentException("unsupported trace sampler type '" + type + "'");
+        }
+    }
+
+    /**
+     * Checks whether a trace propagated by an upstream caller is sampled, using the sampling flag of the Jaeger, B3
+     * or W3C trace context headers. A trace without a known sampling flag is considered sampled, since the caller
+     * propagated it.
+     *
+     * @param traceContext trace context headers propagated by the caller
+     * @return true if the trace is sampled
+     */
+    public static boolean isSampled(Map<String, String> traceContext) {
+        for (Map.Entry<String, String> header : traceContext.entrySet()) {
+            String name = header.getKey();
+            String value = header.getValue();
+            if (name == null || value == null) {
+                continue;
+            }
+            int flags = -1;
+            if (JAEGER_TRACE_HEADER.equalsIgnoreCase(name)) {
+                // {trace-id}:{span-id}:{parent-span-id}:{flags}, where the colons may be URL encoded
+                String[] parts = value.replace("%3A", ":").replace("%3a", ":").split(":");
+                if (parts.length == 4) {
+                    flags = parseHexFlags(parts[3]);
+                }
+            } else if (W3C_TRACE_PARENT_HEADER.equalsIgnoreCase(name)) {
+                // {version}-{trace-id}-{parent-id}-{trace-flags}
+                String[] parts = value.split("-");
+                if (parts.length >= 4) {
+                    flags = parseHexFlags(parts[3]);
+                }
+            } else if (B3_SAMPLED_HEADER.equalsIgnoreCase(name)) {
+                return !"0".equals(value) && !"false".equalsIgnoreCase(value);
+            } else if (B3_SINGLE_HEADER.equalsIgnoreCase(name)) {
+                // {trace-id}-{span-id}-{sampling-state}-{parent-span-id}, or only {sampling-state}
+                String[] parts = value.split("-");
+                if (parts.length == 1 || parts.length >= 3) {
+                    return !"0".equals(parts[parts.length == 1 ? 0 : 2]);
+                }
+            }
+            if (flags >= 0) {
+                return (flags & SAMPLED_FLAG) == SAMPLED_FLAG;
+            }
+        }
+        return true;
+    }
+
+    private static int parseHexFlags(String flags) {
+        try {
+            return Integer.parseInt(flags, 16);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Decides whether a new trace is sampled.
+     *
+     * @return true if the trace is sampled
+     */
+    public abstract boolean isSampled();
+
+    /**
+     * Samples either all or none of the traces.
+     */
+    private static class ConstSampler extends TraceSampler {
+
+        private final boolean sampled;
+
+        ConstSampler(boolean sampled) {
+            this.sampled = sampled;
+        }
+
+        @Override
+        public boolean isSampled() {
+            return sampled;
+        }
+    }
+
+    /**
+     * Samples traces with a fixed probability.
+     */
+    private static class ProbabilisticSampler extends TraceSampler {
+
+        private final double probability;
+
+        ProbabilisticSampler(double probability) {
+            this.probability = probability;
+        }
+
+        @Override
+        public boolean isSampled() {
+            return ThreadLocalRandom.current().nextDouble() < probability;
+        }
+    }
+
+    /**
+     * Samples at most a fixed number of traces per second, allowing bursts of up to one second worth of traces.
+     * Uses the generic cell rate algorithm, which needs only a single atomic variable.
+     */
+    private static class RateLimitingSampler extends TraceSampler {
+
+        private static final long BURST_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final long intervalNanos;
+        // Theoretical arrival time of the next sampled trace
+        private final AtomicLong nextSampleTime = new AtomicLong(System.nanoTime());
+
+        RateLimitingSampler(double tracesPerSecond) {
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / tracesPerSecond));
+        }
+
+        @Override
+        public boolean isSampled() {
+            long now = System.nanoTime();
+            while (true) {
+                long sampleTime = nextSampleTime.get();
+                if (sampleTime - now > BURST_NANOS) {
+                    return false;
+                }
+                long nextTime = Math.max(sampleTime, now - BURST_NANOS) + intervalNanos;
+                if (nextSampleTime.compareAndSet(sampleTime, nextTime)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
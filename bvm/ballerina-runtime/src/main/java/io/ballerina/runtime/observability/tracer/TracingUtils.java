@@ -46,12 +46,22 @@ public class TracingUtils {
      * @param isClient        true if the starting span is a client
      */
     public static void startObservation(ObserverContext observerContext, boolean isClient) {
+        ObserverContext parent = observerContext.getParent();
+        if (parent != null) {
+            // A span is sampled only if its parent span is sampled
+            observerContext.setSampled(parent.isSampled() && parent.getSpan() != null);
+        }
+        if (!observerContext.isSampled()) {
+            if (isClient) {
+                observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, TraceSampler.NOT_SAMPLED_TRACE_CONTEXT);
+            }
+            return;
+        }
         BSpan span;
         String serviceName = observerContext.getServiceName();
         String operationName = observerContext.getOperationName();
-        if (observerContext.getParent() != null) {
-            BSpan parentSpan = observerContext.getParent().getSpan();
-            span = BSpan.start(parentSpan, serviceName, operationName, isClient);
+        if (parent != null) {
+            span = BSpan.start(parent.getSpan(), serviceName, operationName, isClient);
         } else {
             Map<String, String> httpHeaders =
                     (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
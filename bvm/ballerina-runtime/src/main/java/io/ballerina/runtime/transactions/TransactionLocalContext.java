@@ -63,7 +63,9 @@ public class TransactionLocalContext {
         this.rollbackOnlyError = null;
         this.isTransactional = true;
         this.transactionId = ValueCreator.createArrayValue(globalTransactionId.getBytes());
-        transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        if (infoRecord != null) {
+            transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        }
     }
 
     public static TransactionLocalContext createTransactionParticipantLocalCtx(String globalTransactionId,
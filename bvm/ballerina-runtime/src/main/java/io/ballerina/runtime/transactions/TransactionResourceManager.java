@@ -27,9 +27,16 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.scheduling.BLangThreadFactory;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,13 +46,20 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
@@ -85,6 +99,18 @@ public class TransactionResourceManager {
     private static final String ATOMIKOS_LOG_NAME_PROPERTY = "com.atomikos.icatch.log_base_name";
     private static final String ATOMIKOS_REGISTERED_PROPERTY = "com.atomikos.icatch.registered";
 
+    private static final String PREPARE_TIME_METRIC = "transaction_prepare_time_seconds";
+    private static final String COMMIT_TIME_METRIC = "transaction_commit_time_seconds";
+    private static final String ABORT_TIME_METRIC = "transaction_abort_time_seconds";
+    private static final String TRANSACTIONS_TOTAL_METRIC = "transactions_total";
+    private static final String TAG_KEY_OUTCOME = "outcome";
+    private static final StatisticConfig[] TIME_STATISTIC_CONFIGS = new StatisticConfig[]{
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
     private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
     private Map<String, Transaction> trxRegistry;
@@ -96,6 +122,8 @@ public class TransactionResourceManager {
     private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
+    // Runs the prepare, commit and abort of resources in parallel when more than one resource is enlisted
+    private volatile ExecutorService participantExecutor;
 
     private boolean transactionManagerEnabled;
     private static final PrintStream stderr = System.err;
@@ -103,17 +131,17 @@ public class TransactionResourceManager {
     public Map<BArray, Object> transactionInfoMap;
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
-        transactionInfoMap = new HashMap<>();
+        resourceRegistry = new ConcurrentHashMap<>();
+        committedFuncRegistry = new ConcurrentHashMap<>();
+        abortedFuncRegistry = new ConcurrentHashMap<>();
+        transactionInfoMap = new ConcurrentHashMap<>();
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
+            trxRegistry = new ConcurrentHashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
         } else {
-            xidRegistry = new HashMap<>();
+            xidRegistry = new ConcurrentHashMap<>();
         }
     }
 
@@ -196,7 +224,7 @@ public class TransactionResourceManager {
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new CopyOnWriteArrayList<>()).add(txContext);
     }
 
     /**
@@ -207,7 +235,8 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>())
+                    .add(fpValue);
         }
     }
 
@@ -219,7 +248,7 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>()).add(fpValue);
         }
     }
 
@@ -238,7 +267,10 @@ public class TransactionResourceManager {
     }
 
     /**
-     * This method acts as the callback which notify all the resources participated in the given transaction. 
+     * This method acts as the callback which notify all the resources participated in the given transaction.
+     * <p>
+     * The resources are prepared in parallel. All the XA resources are prepared, since a successful prepare is a
+     * vote to commit the transaction.
      *
      * @param transactionId      the global transaction id
      * @param transactionBlockId the block id of the transaction
@@ -246,6 +278,7 @@ public class TransactionResourceManager {
      */
     //TODO:Comment for now, might need it for distributed transactions.
     public boolean prepare(String transactionId, String transactionBlockId) {
+        long startTime = System.nanoTime();
         endXATransaction(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
             return true;
@@ -254,17 +287,9 @@ public class TransactionResourceManager {
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
         if (txContextList != null) {
             Xid xid = xidRegistry.get(combinedId);
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    if (xaResource != null) {
-                        xaResource.prepare(xid);
-                    }
-                } catch (XAException e) {
-                    log.error("error at transaction prepare phase in transaction " + transactionId
-                            + ":" + e.getMessage(), e);
-                    return false;
-                }
+            if (!runOnResources(txContextList, ctx -> prepareResource(ctx, xid, transactionId))) {
+                recordDuration(PREPARE_TIME_METRIC, "Time spent in the prepare phase of a transaction", startTime);
+                return false;
             }
         }
 
@@ -273,10 +298,35 @@ public class TransactionResourceManager {
             // resource participant reported failure.
             status = false;
         }
-        log.info(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
+        }
+        recordDuration(PREPARE_TIME_METRIC, "Time spent in the prepare phase of a transaction", startTime);
         return status;
     }
 
+    private boolean prepareResource(BallerinaTransactionContext ctx, Xid xid, String transactionId) {
+        try {
+            XAResource xaResource = ctx.getXAResource();
+            if (xaResource != null) {
+                xaResource.prepare(xid);
+            }
+            return true;
+        } catch (XAException e) {
+            log.error("error at transaction prepare phase in transaction " + transactionId
+                    + ":" + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private boolean isOnePhaseCommitEligible(String transactionId, List<BallerinaTransactionContext> txContextList) {
+        if (txContextList.size() != 1 || txContextList.get(0).getXAResource() == null) {
+            return false;
+        }
+        ConcurrentSkipListSet<String> participantBlockIds = localParticipants.get(transactionId);
+        return participantBlockIds == null || participantBlockIds.isEmpty();
+    }
+
     /**
      * This method acts as the callback which commits all the resources participated in the given transaction.
      *
@@ -285,6 +335,40 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(String transactionId, String transactionBlockId) {
+        return commitResources(transactionId, transactionBlockId, false);
+    }
+
+    /**
+     * This method commits all the resources participated in the given transaction, when the caller is the
+     * coordinator of the transaction and there are no other participants to prepare.
+     * <p>
+     * If the transaction has a single XA resource and no other local participants, the prepare phase is skipped and
+     * the resource is committed in one phase. Otherwise, the resources are prepared and then committed. A
+     * participant of a distributed transaction must use {@link #prepare(String, String)} and
+     * {@link #notifyCommit(String, String)} instead, since its coordinator waits for its prepare vote.
+     *
+     * @param transactionId      the global transaction id
+     * @param transactionBlockId the block id of the transaction
+     * @return the status of the commit operation
+     */
+    public boolean commitOnePhase(String transactionId, String transactionBlockId) {
+        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        if (transactionManagerEnabled || txContextList == null
+                || !isOnePhaseCommitEligible(transactionId, txContextList)) {
+            return prepare(transactionId, transactionBlockId) && notifyCommit(transactionId, transactionBlockId);
+        }
+
+        endXATransaction(transactionId, transactionBlockId);
+        if (failedResourceParticipantSet.contains(transactionId) || failedLocalParticipantSet.contains(transactionId)) {
+            // resource participant reported failure, so the transaction has to be aborted.
+            return false;
+        }
+        return commitResources(transactionId, transactionBlockId, true);
+    }
+
+    private boolean commitResources(String transactionId, String transactionBlockId, boolean onePhase) {
+        long startTime = System.nanoTime();
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
@@ -302,30 +386,38 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    if (transactionManagerEnabled && xaResource == null) {
-                        ctx.commit();
-                    } else {
-                        if (xaResource != null) {
-                            Xid xid = xidRegistry.get(combinedId);
-                            xaResource.commit(xid, false);
-                        } else {
-                            ctx.commit();
-                        }
-                    }
-                } catch (XAException e) {
-                    log.error("error when committing transaction " + transactionId + ":" + e.getMessage(), e);
-                    commitSuccess = false;
-                } finally {
-                    ctx.close();
-                }
+            if (!runOnResources(txContextList, ctx -> commitResource(ctx, combinedId, transactionId, onePhase))) {
+                commitSuccess = false;
             }
         }
+        recordDuration(COMMIT_TIME_METRIC, "Time spent in the commit phase of a transaction", startTime);
+        recordOutcome(commitSuccess ? "committed" : "commit_failed");
         return commitSuccess;
     }
 
+    private boolean commitResource(BallerinaTransactionContext ctx, String combinedId, String transactionId,
+                                   boolean onePhase) {
+        try {
+            XAResource xaResource = ctx.getXAResource();
+            if (transactionManagerEnabled && xaResource == null) {
+                ctx.commit();
+            } else {
+                if (xaResource != null) {
+                    Xid xid = xidRegistry.get(combinedId);
+                    xaResource.commit(xid, onePhase);
+                } else {
+                    ctx.commit();
+                }
+            }
+            return true;
+        } catch (XAException e) {
+            log.error("error when committing transaction " + transactionId + ":" + e.getMessage(), e);
+            return false;
+        } finally {
+            ctx.close();
+        }
+    }
+
     public void cleanTransaction(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         removeContextsFromRegistry(combinedId, transactionId);
@@ -342,6 +434,7 @@ public class TransactionResourceManager {
      * @return the status of the abort operation
      */
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
+        long startTime = System.nanoTime();
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
@@ -359,25 +452,8 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    if (transactionManagerEnabled && xaResource == null) {
-                        ctx.rollback();
-                    } else {
-                        Xid xid = xidRegistry.get(combinedId);
-                        if (xaResource != null) {
-                            ctx.getXAResource().rollback(xid);
-                        } else {
-                            ctx.rollback();
-                        }
-                    }
-                } catch (XAException e) {
-                    log.error("error when aborting the transaction " + transactionId + ":" + e.getMessage(), e);
-                    abortSuccess = false;
-                } finally {
-                    ctx.close();
-                }
+            if (!runOnResources(txContextList, ctx -> abortResource(ctx, combinedId, transactionId))) {
+                abortSuccess = false;
             }
         }
         //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when the
@@ -389,9 +465,104 @@ public class TransactionResourceManager {
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        recordDuration(ABORT_TIME_METRIC, "Time spent in aborting a transaction", startTime);
+        recordOutcome("aborted");
         return abortSuccess;
     }
 
+    private boolean abortResource(BallerinaTransactionContext ctx, String combinedId, String transactionId) {
+        try {
+            XAResource xaResource = ctx.getXAResource();
+            if (transactionManagerEnabled && xaResource == null) {
+                ctx.rollback();
+            } else {
+                Xid xid = xidRegistry.get(combinedId);
+                if (xaResource != null) {
+                    ctx.getXAResource().rollback(xid);
+                } else {
+                    ctx.rollback();
+                }
+            }
+            return true;
+        } catch (XAException e) {
+            log.error("error when aborting the transaction " + transactionId + ":" + e.getMessage(), e);
+            return false;
+        } finally {
+            ctx.close();
+        }
+    }
+
+    /**
+     * Runs the given action on each of the given resources, and waits for all of them to complete. The action is
+     * run in parallel for each resource if there are several resources, so that a transaction waits only for the
+     * slowest resource.
+     *
+     * @param txContextList resources of the transaction
+     * @param action        action to run on a resource, which returns whether the action succeeded
+     * @return true if the action succeeded for all the resources
+     */
+    private boolean runOnResources(List<BallerinaTransactionContext> txContextList,
+                                   Predicate<BallerinaTransactionContext> action) {
+        if (txContextList.size() == 1) {
+            return action.test(txContextList.get(0));
+        }
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(txContextList.size());
+        ExecutorService executor = getParticipantExecutor();
+        for (BallerinaTransactionContext ctx : txContextList) {
+            results.add(CompletableFuture.supplyAsync(() -> action.test(ctx), executor));
+        }
+
+        boolean success = true;
+        for (CompletableFuture<Boolean> result : results) {
+            try {
+                success &= result.get();
+            } catch (ExecutionException e) {
+                log.error("error when completing a transaction resource:" + e.getCause().getMessage(), e.getCause());
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                success = false;
+            }
+        }
+        return success;
+    }
+
+    private ExecutorService getParticipantExecutor() {
+        if (participantExecutor == null) {
+            synchronized (this) {
+                if (participantExecutor == null) {
+                    ThreadFactory threadFactory = new BLangThreadFactory("transaction-resource");
+                    // Daemon threads, so that idle threads do not keep the program running
+                    participantExecutor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = threadFactory.newThread(runnable);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return participantExecutor;
+    }
+
+    private void recordDuration(String metricName, String description, long startTime) {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        metricRegistry.gauge(new MetricId(metricName, description, Collections.emptySet()),
+                TIME_STATISTIC_CONFIGS).setValue((System.nanoTime() - startTime) / 1E9);
+    }
+
+    private void recordOutcome(String outcome) {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (!ObserveUtils.isMetricsEnabled() || metricRegistry == null) {
+            return;
+        }
+        metricRegistry.counter(new MetricId(TRANSACTIONS_TOTAL_METRIC, "Total number of completed transactions",
+                Collections.singleton(Tag.of(TAG_KEY_OUTCOME, outcome)))).increment();
+    }
+
     /**
      * This method starts a transaction for the given xa resource. If there is no transaction is started for the
      * given XID a new transaction is created.
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.HashedWheelTimer;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for {@link HashedWheelTimer}.
+ *
+ * @since 2.0.0
+ */
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = HashedWheelTimer.getInstance();
+
+    @Test
+    public void testTimeoutIsNotRunBeforeDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicLong expiredTime = new AtomicLong();
+        long startTime = System.nanoTime();
+        timer.schedule(() -> {
+            expiredTime.set(System.nanoTime());
+            latch.countDown();
+        }, 100, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(expiredTime.get() - startTime >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testTimeoutLongerThanARound() throws InterruptedException {
+        // A round of the wheel is 512 ticks
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        timer.schedule(latch::countDown, 1200, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(1200));
+    }
+
+    @Test
+    public void testCancelledTimeoutIsNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(runs.get(), 0);
+        Assert.assertTrue(timeout.isCancelled());
+        Assert.assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void testManyTimeouts() throws InterruptedException {
+        int count = 200000;
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long delay = 100 + i % 1000;
+            if (i % 2 == 0) {
+                HashedWheelTimer.Timeout timeout = timer.schedule(cancelledRuns::incrementAndGet, delay,
+                        TimeUnit.MILLISECONDS);
+                Assert.assertTrue(timeout.cancel());
+            } else {
+                timeouts.add(timer.schedule(latch::countDown, delay, TimeUnit.MILLISECONDS));
+            }
+        }
+
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(cancelledRuns.get(), 0);
+        for (HashedWheelTimer.Timeout timeout : timeouts) {
+            Assert.assertTrue(timeout.isExpired());
+        }
+    }
+
+    @Test
+    public void testEarlierTimeoutWakesUpParkedTimer() throws InterruptedException {
+        HashedWheelTimer.Timeout laterTimeout = timer.schedule(() -> {
+        }, 3, TimeUnit.SECONDS);
+        // Lets the timer thread park until the bucket of the later timeout
+        Thread.sleep(100);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50));
+        laterTimeout.cancel();
+    }
+
+    @Test
+    public void testTimerDoesNotTickForEmptyBuckets() throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadCpuTimeSupported()) {
+            throw new SkipException("thread CPU time is not supported");
+        }
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+        }, 10, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        Thread timerThread = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("ballerina-timer"))
+                .findFirst()
+                .orElseThrow();
+
+        long startCpuTime = threadMXBean.getThreadCpuTime(timerThread.getId());
+        Thread.sleep(1000);
+        long cpuTime = threadMXBean.getThreadCpuTime(timerThread.getId()) - startCpuTime;
+        timeout.cancel();
+        // Ticking every millisecond takes more than 15 ms of CPU time per second, while the timer thread now wakes up
+        // only about twice a second, for the bucket of the pending timeout
+        Assert.assertTrue(cpuTime < TimeUnit.MILLISECONDS.toNanos(5), "timer thread used " + cpuTime + " ns");
+    }
+}
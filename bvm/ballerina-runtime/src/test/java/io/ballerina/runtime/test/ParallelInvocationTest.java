@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.values.FPValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Test cases for {@link AsyncUtils#invokeFunctionPointerAsyncInParallel} and {@link AsyncUtils#runInParallel}, and
+ * for the strands of synchronous calls, which cannot run them.
+ *
+ * @since 2.0.0
+ */
+public class ParallelInvocationTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int ITERATIONS = 20000;
+
+    private final Type functionType = new BFunctionType(new Type[]{PredefinedTypes.TYPE_INT}, null,
+                                                        PredefinedTypes.TYPE_INT, SymbolFlags.ISOLATED);
+    private Scheduler scheduler;
+    private Thread schedulerThread;
+
+    @BeforeClass
+    public void setup() {
+        scheduler = new Scheduler(POOL_SIZE, true);
+        schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        scheduler.poison();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    public void testResultsAreInIterationOrder() throws Exception {
+        FPValue<Object, Object> square = new FPValue<>(args -> {
+            long value = (long) ((Object[]) args)[1];
+            return value * value;
+        }, functionType, null, false);
+        long[] results = new long[ITERATIONS];
+        AtomicInteger invocations = new AtomicInteger();
+
+        Object returnValue = invokeInParallel(square, (result, i) -> {
+            results[i] = (long) result;
+            invocations.incrementAndGet();
+        });
+
+        Assert.assertEquals(returnValue, "done");
+        Assert.assertEquals(invocations.get(), ITERATIONS);
+        for (int i = 0; i < ITERATIONS; i++) {
+            Assert.assertEquals(results[i], (long) i * i);
+        }
+    }
+
+    @Test
+    public void testErrorOfLowestFailedIterationIsReturned() throws Exception {
+        FPValue<Object, Object> failing = new FPValue<>(args -> {
+            long value = (long) ((Object[]) args)[1];
+            if (value == ITERATIONS / 2 || value == ITERATIONS - 1) {
+                throw ErrorCreator.createError(StringUtils.fromString("failed at " + value));
+            }
+            return value;
+        }, functionType, null, false);
+
+        Object returnValue = invokeInParallel(failing, (result, i) -> {
+        });
+
+        Assert.assertTrue(returnValue instanceof BError);
+        Assert.assertEquals(((BError) returnValue).getMessage(), "failed at " + ITERATIONS / 2);
+    }
+
+    @Test
+    public void testTasksRunInParallel() throws Exception {
+        int noOfTasks = POOL_SIZE;
+        // Each task waits until all the tasks have started, hence they have to be run by different threads
+        CountDownLatch latch = new CountDownLatch(noOfTasks);
+        boolean[] completed = new boolean[noOfTasks];
+
+        Object returnValue = runOnStrand(strand -> AsyncUtils.runInParallel(i -> {
+            latch.countDown();
+            try {
+                completed[i] = latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, noOfTasks, null, () -> "done", scheduler));
+
+        Assert.assertEquals(returnValue, "done");
+        for (int i = 0; i < noOfTasks; i++) {
+            Assert.assertTrue(completed[i], "task " + i + " is not run in parallel");
+        }
+    }
+
+    @Test
+    public void testErrorOfLowestFailedTaskIsReturned() throws Exception {
+        Object returnValue = runOnStrand(strand -> AsyncUtils.runInParallel(i -> {
+            if (i > 0) {
+                throw ErrorCreator.createError(StringUtils.fromString("failed at " + i));
+            }
+        }, 3, null, () -> "done", scheduler));
+
+        Assert.assertTrue(returnValue instanceof BError);
+        Assert.assertEquals(((BError) returnValue).getMessage(), "failed at 1");
+    }
+
+    @Test
+    public void testStrandCannotYieldInSynchronousCall() throws Exception {
+        FPValue<Object, Object> canYield = new FPValue<>(args -> ((Strand) ((Object[]) args)[0]).canYield(),
+                                                         functionType, null, false);
+        boolean[] yieldable = new boolean[3];
+
+        runOnStrand(strand -> {
+            yieldable[0] = strand.canYield();
+            yieldable[1] = (boolean) canYield.call(new Object[]{strand, 1L, true});
+            yieldable[2] = strand.canYield();
+        });
+
+        Assert.assertTrue(yieldable[0]);
+        Assert.assertFalse(yieldable[1], "strand can yield in a synchronous call");
+        Assert.assertTrue(yieldable[2]);
+    }
+
+    private Object invokeInParallel(FPValue<Object, Object> func, ObjIntConsumer<Object> consumer) throws Exception {
+        return runOnStrand(strand -> AsyncUtils.invokeFunctionPointerAsyncInParallel(
+                func, null, null, ITERATIONS, i -> new Object[]{strand, (long) i, true}, consumer, () -> "done",
+                scheduler));
+    }
+
+    private Object runOnStrand(Consumer<Strand> asyncCall) throws Exception {
+        CompletableFuture<Object> returnValue = new CompletableFuture<>();
+        // Calls the native function and returns the value set when the strand is unblocked, as done by the
+        // generated code
+        Function<Object[], Object> caller = args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.blockedOnExtern) {
+                strand.blockedOnExtern = false;
+                if (strand.panic != null) {
+                    throw strand.panic;
+                }
+                return strand.returnValue;
+            }
+            asyncCall.accept(strand);
+            return null;
+        };
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                returnValue.complete(result);
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                returnValue.complete(error);
+            }
+        };
+        scheduler.schedule(new Object[1], caller, null, callback, "caller", null);
+        return returnValue.get(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMetrics;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Test cases for the {@link SchedulerMetrics} of a {@link Scheduler}, which are registered per scheduler.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetricsTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void setup() {
+        // The default registry can be set only once, and is set by the observe module at runtime
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new TestMetricProvider()));
+        }
+        metricRegistry = DefaultMetricRegistry.getInstance();
+    }
+
+    @Test
+    public void testMetricsAreTaggedWithSchedulerId() {
+        SchedulerMetrics first = new SchedulerMetrics(new Scheduler(2, false));
+        SchedulerMetrics second = new SchedulerMetrics(new Scheduler(3, false));
+        Assert.assertNotEquals(first.getSchedulerId(), second.getSchedulerId());
+
+        // The metrics are registered once the first strand has run
+        first.recordRunTime(System.nanoTime());
+        second.recordRunTime(System.nanoTime());
+        Assert.assertEquals(getMetricCount(first), 11);
+        Assert.assertEquals(getMetricCount(second), 11);
+        Assert.assertEquals(((PolledGauge) lookup(first, "scheduler_pool_size")).getValue(), 2.0);
+        Assert.assertEquals(((PolledGauge) lookup(second, "scheduler_pool_size")).getValue(), 3.0);
+
+        first.strandBlocked(SchedulerMetrics.BlockedReason.LOCK);
+        Assert.assertEquals(((PolledGauge) lookup(first, "scheduler_strands_blocked_total",
+                Tag.of("reason", "lock"))).getValue(), 1.0);
+        Assert.assertEquals(((PolledGauge) lookup(second, "scheduler_strands_blocked_total",
+                Tag.of("reason", "lock"))).getValue(), 0.0);
+
+        first.unregisterMBean();
+        second.unregisterMBean();
+    }
+
+    @Test
+    public void testUnregisterMetrics() throws Exception {
+        SchedulerMetrics first = new SchedulerMetrics(new Scheduler(2, false));
+        SchedulerMetrics second = new SchedulerMetrics(new Scheduler(2, false));
+        first.registerMBean();
+        second.registerMBean();
+        first.recordRunTime(System.nanoTime());
+        second.recordRunTime(System.nanoTime());
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        // The first scheduler of the program is registered without an id
+        ObjectName firstName = new ObjectName(first.getSchedulerId() == 0 ? "io.ballerina.runtime:type=Scheduler" :
+                "io.ballerina.runtime:type=Scheduler,id=" + first.getSchedulerId());
+        Assert.assertTrue(mBeanServer.isRegistered(firstName));
+        Assert.assertEquals(mBeanServer.getAttribute(firstName, "PoolSize"), 2);
+
+        // The metrics of the other scheduler are not unregistered
+        first.unregisterMBean();
+        Assert.assertFalse(mBeanServer.isRegistered(firstName));
+        Assert.assertEquals(getMetricCount(first), 0);
+        Assert.assertEquals(getMetricCount(second), 11);
+
+        // The metrics are registered again when the scheduler is started again
+        first.registerMBean();
+        first.recordQueueWaitTime(System.nanoTime());
+        Assert.assertTrue(mBeanServer.isRegistered(firstName));
+        Assert.assertEquals(getMetricCount(first), 11);
+
+        first.unregisterMBean();
+        second.unregisterMBean();
+        Assert.assertEquals(getMetricCount(second), 0);
+    }
+
+    @Test
+    public void testQueueWaitTimeOfGroupQueuedBeforeMetrics() {
+        SchedulerMetrics metrics = new SchedulerMetrics(new Scheduler(2, false));
+        metrics.recordQueueWaitTime(0);
+        Assert.assertEquals(metrics.getAverageQueueWaitTimeMicros(), 0.0);
+
+        metrics.recordQueueWaitTime(System.nanoTime());
+        Assert.assertTrue(metrics.getAverageQueueWaitTimeMicros() < 1_000_000);
+        metrics.unregisterMBean();
+    }
+
+    private long getMetricCount(SchedulerMetrics metrics) {
+        Tag schedulerTag = Tag.of("scheduler", Integer.toString(metrics.getSchedulerId()));
+        return Arrays.stream(metricRegistry.getAllMetrics())
+                .filter(metric -> metric.getId().getTags().contains(schedulerTag))
+                .count();
+    }
+
+    private Metric lookup(SchedulerMetrics metrics, String name, Tag... tags) {
+        Set<Tag> metricTags = new HashSet<>(Arrays.asList(tags));
+        metricTags.add(Tag.of("scheduler", Integer.toString(metrics.getSchedulerId())));
+        Metric metric = metricRegistry.lookup(new MetricId(name, null, metricTags));
+        Assert.assertNotNull(metric, name + " is not registered");
+        return metric;
+    }
+
+    /**
+     * A metric provider which creates simple gauges, without any statistics.
+     */
+    private static class TestMetricProvider implements MetricProvider {
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            throw new UnsupportedOperationException("counters are not used by the scheduler");
+        }
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            return new TestGauge(metricId, statisticConfigs);
+        }
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new TestPolledGauge<>(metricId, obj, toDoubleFunction);
+        }
+    }
+
+    /**
+     * A gauge which keeps its last value.
+     */
+    private static class TestGauge extends AbstractMetric implements Gauge {
+
+        private final StatisticConfig[] statisticConfigs;
+        private volatile double value;
+
+        TestGauge(MetricId id, StatisticConfig[] statisticConfigs) {
+            super(id);
+            this.statisticConfigs = statisticConfigs;
+        }
+
+        @Override
+        public void increment(double amount) {
+            value += amount;
+        }
+
+        @Override
+        public void decrement(double amount) {
+            value -= amount;
+        }
+
+        @Override
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public long getCount() {
+            return 0;
+        }
+
+        @Override
+        public double getSum() {
+            return value;
+        }
+
+        @Override
+        public Snapshot[] getSnapshots() {
+            return new Snapshot[0];
+        }
+
+        @Override
+        public StatisticConfig[] getStatisticsConfig() {
+            return statisticConfigs;
+        }
+    }
+
+    /**
+     * A polled gauge which computes its value from the state object.
+     *
+     * @param <T> the type of the state object
+     */
+    private static class TestPolledGauge<T> extends AbstractMetric implements PolledGauge {
+
+        private final T obj;
+        private final ToDoubleFunction<T> valueFunction;
+
+        TestPolledGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
+            super(id);
+            this.obj = obj;
+            this.valueFunction = valueFunction;
+        }
+
+        @Override
+        public double getValue() {
+            return valueFunction.applyAsDouble(obj);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.HashedWheelTimer;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests that sleeping strands are parked and do not occupy the threads of the scheduler.
+ *
+ * @since 2.0.0
+ */
+public class SleepingStrandsTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int STRAND_COUNT = 10000;
+    private static final long SLEEP_MILLIS = 500;
+
+    @Test
+    public void testSleepingStrandsDoNotUseWorkerThreads() throws InterruptedException {
+        Scheduler scheduler = new Scheduler(POOL_SIZE, true);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        AtomicInteger runningStrands = new AtomicInteger();
+        AtomicInteger maxRunningStrands = new AtomicInteger();
+        CountDownLatch sleeping = new CountDownLatch(STRAND_COUNT);
+        CountDownLatch completed = new CountDownLatch(STRAND_COUNT);
+        Function<Object[], Object> sleepFunction = args -> {
+            int running = runningStrands.incrementAndGet();
+            maxRunningStrands.accumulateAndGet(running, Math::max);
+            boolean sleepStarted = false;
+            try {
+                Strand strand = (Strand) args[0];
+                if (strand.blockedOnExtern) {
+                    // Resumed after the sleep
+                    strand.blockedOnExtern = false;
+                    return null;
+                }
+                // Same as the runtime:sleep native function
+                Future future = new Environment(strand, null).markAsync();
+                HashedWheelTimer.getInstance().schedule(() -> future.complete(null), SLEEP_MILLIS,
+                        TimeUnit.MILLISECONDS);
+                sleepStarted = true;
+                return null;
+            } finally {
+                runningStrands.decrementAndGet();
+                if (sleepStarted) {
+                    sleeping.countDown();
+                }
+            }
+        };
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                completed.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                completed.countDown();
+            }
+        };
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            scheduler.schedule(new Object[1], sleepFunction, null, callback, "sleeper", null);
+        }
+
+        try {
+            Assert.assertTrue(sleeping.await(10, TimeUnit.SECONDS));
+            // All the strands are sleeping, and none of them occupies a worker thread
+            Assert.assertEquals(runningStrands.get(), 0);
+            Assert.assertTrue(maxRunningStrands.get() <= POOL_SIZE);
+
+            // Blocking sleeps would take STRAND_COUNT * SLEEP_MILLIS / POOL_SIZE, which is 2500 seconds
+            Assert.assertTrue(completed.await(10, TimeUnit.SECONDS));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            Assert.assertTrue(elapsedMillis >= SLEEP_MILLIS);
+            Assert.assertTrue(elapsedMillis < 10 * SLEEP_MILLIS, "sleeping strands took " + elapsedMillis + "ms");
+        } finally {
+            scheduler.poison();
+            schedulerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
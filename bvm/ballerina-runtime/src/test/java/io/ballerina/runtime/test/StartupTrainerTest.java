@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.launch.StartupTrainer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Test cases for {@link StartupTrainer}.
+ *
+ * @since 2.0.0
+ */
+public class StartupTrainerTest {
+
+    private static final String INITIALIZED_PROPERTY = "ballerina.test.startup.trainer.initialized";
+
+    private Path jarPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        // Executable with a class that records its initialization, along with resources
+        jarPath = Files.createTempFile("startup-trainer-", ".jar");
+        String classEntryName = InitRecorder.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jarPath));
+             InputStream classStream = InitRecorder.class.getClassLoader().getResourceAsStream(classEntryName)) {
+            Assert.assertNotNull(classStream);
+            jarStream.putNextEntry(new JarEntry(classEntryName));
+            classStream.transferTo(jarStream);
+            jarStream.putNextEntry(new JarEntry("META-INF/versions/9/module-info.class"));
+            jarStream.putNextEntry(new JarEntry("Config.toml"));
+            jarStream.write("key = 1".getBytes(StandardCharsets.UTF_8));
+            jarStream.putNextEntry(new JarEntry("missing/Missing.class"));
+            jarStream.write(new byte[]{0});
+        }
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(jarPath);
+    }
+
+    @Test
+    public void testClassesAreLoadedWithoutInitialization() throws Exception {
+        System.clearProperty(INITIALIZED_PROPERTY);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jarPath.toUri().toURL()},
+                ClassLoader.getPlatformClassLoader())) {
+            // Invalid class files are skipped
+            Assert.assertEquals(StartupTrainer.loadClasses(jarPath, classLoader), 1);
+
+            Class<?> loadedClass = Class.forName(InitRecorder.class.getName(), false, classLoader);
+            Assert.assertSame(loadedClass.getClassLoader(), classLoader);
+            // Static initializers must not be run at the build time
+            Assert.assertNull(System.getProperty(INITIALIZED_PROPERTY));
+        }
+    }
+
+    /**
+     * Class which records its initialization.
+     */
+    public static class InitRecorder {
+        static {
+            System.setProperty(INITIALIZED_PROPERTY, "true");
+        }
+    }
+}
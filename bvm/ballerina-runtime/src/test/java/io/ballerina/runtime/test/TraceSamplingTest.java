@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.tracer.TraceSampler;
+import io.ballerina.runtime.observability.tracer.TracersStore;
+import io.ballerina.runtime.observability.tracer.TracingUtils;
+import io.ballerina.runtime.observability.tracer.spi.TracerProvider;
+import io.opentracing.Tracer;
+import io.opentracing.noop.NoopTracerFactory;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_TRACE_PROPERTIES;
+
+/**
+ * Test cases for the sampling of traces, with sampled and unsampled spans.
+ *
+ * @since 2.0.0
+ */
+public class TraceSamplingTest {
+
+    @BeforeClass
+    public void setup() {
+        TracersStore.getInstance().setTracerGenerator(new TracerProvider() {
+            @Override
+            public String getName() {
+                return "noop";
+            }
+
+            @Override
+            public void init() {
+            }
+
+            @Override
+            public Tracer getTracer(String serviceName) {
+                return NoopTracerFactory.create();
+            }
+        });
+    }
+
+    @Test
+    public void testSampledSpans() {
+        ObserverContext root = newObserverContext(null, true);
+        TracingUtils.startObservation(root, false);
+        Assert.assertNotNull(root.getSpan());
+
+        ObserverContext child = newObserverContext(root, true);
+        TracingUtils.startObservation(child, true);
+        Assert.assertTrue(child.isSampled());
+        Assert.assertNotNull(child.getSpan());
+        Assert.assertNotNull(ObserveUtils.getContextProperties(child));
+
+        TracingUtils.stopObservation(child);
+        TracingUtils.stopObservation(root);
+    }
+
+    @Test
+    public void testUnsampledSpans() {
+        ObserverContext root = newObserverContext(null, false);
+        TracingUtils.startObservation(root, false);
+        Assert.assertNull(root.getSpan());
+
+        // A child is not sampled, even though a new context is sampled by default
+        ObserverContext child = newObserverContext(root, true);
+        TracingUtils.startObservation(child, false);
+        Assert.assertFalse(child.isSampled());
+        Assert.assertNull(child.getSpan());
+
+        // The downstream services are told that the trace is not sampled
+        ObserverContext client = newObserverContext(child, true);
+        TracingUtils.startObservation(client, true);
+        Assert.assertFalse(client.isSampled());
+        Assert.assertNull(client.getSpan());
+        Assert.assertEquals(client.getProperty(PROPERTY_TRACE_PROPERTIES), TraceSampler.NOT_SAMPLED_TRACE_CONTEXT);
+        Assert.assertEquals(ObserveUtils.getContextProperties(client), TraceSampler.NOT_SAMPLED_TRACE_CONTEXT);
+        Assert.assertFalse(TraceSampler.isSampled(ObserveUtils.getContextProperties(client)));
+
+        TracingUtils.stopObservation(client);
+        TracingUtils.stopObservation(child);
+        TracingUtils.stopObservation(root);
+    }
+
+    @Test
+    public void testSpansOfUnstartedParentAreNotSampled() {
+        ObserverContext parent = newObserverContext(null, true);
+        ObserverContext child = newObserverContext(parent, true);
+        TracingUtils.startObservation(child, false);
+        Assert.assertFalse(child.isSampled());
+        Assert.assertNull(child.getSpan());
+    }
+
+    @Test(dataProvider = "upstream-trace-contexts")
+    public void testUpstreamSamplingDecision(String header, String value, boolean sampled) {
+        Assert.assertEquals(TraceSampler.isSampled(Collections.singletonMap(header, value)), sampled);
+    }
+
+    @DataProvider(name = "upstream-trace-contexts")
+    public Object[][] getUpstreamTraceContexts() {
+        return new Object[][]{
+                {"uber-trace-id", "4bf92f3577b34da6:a3ce929d0e0e4736:0:1", true},
+                {"uber-trace-id", "4bf92f3577b34da6:a3ce929d0e0e4736:0:0", false},
+                {"Uber-Trace-Id", "4bf92f3577b34da6%3Aa3ce929d0e0e4736%3A0%3A2", false},
+                {"X-B3-Sampled", "1", true},
+                {"x-b3-sampled", "0", false},
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-0", false},
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-1-05e3ac9a4f6e3b90", true},
+                {"b3", "0", false},
+                {"traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", true},
+                {"traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00", false},
+                // A trace without a known sampling flag is continued
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1", true},
+                {"uber-trace-id", "malformed", true},
+                {"X-Custom-Trace", "0", true}
+        };
+    }
+
+    @Test
+    public void testTraceSamplers() {
+        Assert.assertTrue(TraceSampler.create(TraceSampler.CONST_SAMPLER, 1).isSampled());
+        Assert.assertFalse(TraceSampler.create(TraceSampler.CONST_SAMPLER, 0).isSampled());
+        Assert.assertTrue(TraceSampler.create(TraceSampler.PROBABILISTIC_SAMPLER, 1).isSampled());
+        Assert.assertFalse(TraceSampler.create(TraceSampler.PROBABILISTIC_SAMPLER, 0).isSampled());
+
+        TraceSampler rateLimitingSampler = TraceSampler.create(TraceSampler.RATE_LIMITING_SAMPLER, 2);
+        int sampledCount = 0;
+        for (int i = 0; i < 100; i++) {
+            if (rateLimitingSampler.isSampled()) {
+                sampledCount++;
+            }
+        }
+        // One second worth of traces can be sampled in a burst
+        Assert.assertTrue(sampledCount >= 2 && sampledCount <= 4, "sampled " + sampledCount + " traces");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "unsupported trace sampler type 'remote'")
+    public void testUnsupportedTraceSampler() {
+        TraceSampler.create("remote", 1);
+    }
+
+    @Test
+    public void testTracesAreSampledByDefault() {
+        Assert.assertTrue(ObserveUtils.isTraceSampled());
+    }
+
+    private static ObserverContext newObserverContext(ObserverContext parent, boolean sampled) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.setServiceName("sampling_test");
+        observerContext.setOperationName("operation");
+        observerContext.setParent(parent);
+        observerContext.setSampled(sampled);
+        return observerContext;
+    }
+}
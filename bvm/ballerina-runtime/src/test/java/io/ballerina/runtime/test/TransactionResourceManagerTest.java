@@ -0,0 +1,299 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for the prepare, commit and abort of the resources of a transaction in
+ * {@link TransactionResourceManager}, using stub XA resources.
+ *
+ * @since 2.0.0
+ */
+public class TransactionResourceManagerTest {
+
+    private static final String BLOCK_ID = "block";
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testPrepareSingleResource() {
+        String transactionId = newTransactionId();
+        StubXAResource resource = enlist(transactionId, new StubXAResource());
+
+        Assert.assertTrue(resourceManager.prepare(transactionId, BLOCK_ID));
+        Assert.assertEquals(resource.prepareCount, 1);
+        Assert.assertTrue(resource.ended);
+
+        Assert.assertTrue(resourceManager.notifyCommit(transactionId, BLOCK_ID));
+        Assert.assertEquals(resource.commits, List.of(false));
+        Assert.assertTrue(resource.closed);
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testCommitOnePhaseSingleResource() {
+        String transactionId = newTransactionId();
+        StubXAResource resource = enlist(transactionId, new StubXAResource());
+
+        Assert.assertTrue(resourceManager.commitOnePhase(transactionId, BLOCK_ID));
+        Assert.assertEquals(resource.prepareCount, 0);
+        Assert.assertTrue(resource.ended);
+        Assert.assertEquals(resource.commits, List.of(true));
+        Assert.assertTrue(resource.closed);
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testCommitOnePhaseMultipleResources() {
+        String transactionId = newTransactionId();
+        StubXAResource first = enlist(transactionId, new StubXAResource());
+        StubXAResource second = enlist(transactionId, new StubXAResource());
+
+        // Several resources are prepared and committed in two phases
+        Assert.assertTrue(resourceManager.commitOnePhase(transactionId, BLOCK_ID));
+        for (StubXAResource resource : new StubXAResource[]{first, second}) {
+            Assert.assertEquals(resource.prepareCount, 1);
+            Assert.assertEquals(resource.commits, List.of(false));
+            Assert.assertTrue(resource.closed);
+        }
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testResourcesArePreparedAndCommittedInParallel() {
+        String transactionId = newTransactionId();
+        int resourceCount = 3;
+        // Each resource waits until all the resources have started the same phase
+        CountDownLatch prepareLatch = new CountDownLatch(resourceCount);
+        CountDownLatch commitLatch = new CountDownLatch(resourceCount);
+        List<StubXAResource> resources = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            StubXAResource resource = new StubXAResource();
+            resource.prepareLatch = prepareLatch;
+            resource.commitLatch = commitLatch;
+            resources.add(enlist(transactionId, resource));
+        }
+
+        Assert.assertTrue(resourceManager.prepare(transactionId, BLOCK_ID));
+        Assert.assertTrue(resourceManager.notifyCommit(transactionId, BLOCK_ID));
+        for (StubXAResource resource : resources) {
+            Assert.assertEquals(resource.prepareCount, 1);
+            Assert.assertEquals(resource.commits, List.of(false));
+            Assert.assertTrue(resource.closed);
+        }
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testPrepareFailure() {
+        String transactionId = newTransactionId();
+        StubXAResource prepared = enlist(transactionId, new StubXAResource());
+        StubXAResource failing = new StubXAResource();
+        failing.failPrepare = true;
+        enlist(transactionId, failing);
+
+        Assert.assertFalse(resourceManager.prepare(transactionId, BLOCK_ID));
+        Assert.assertTrue(resourceManager.notifyAbort(transactionId, BLOCK_ID));
+        for (StubXAResource resource : new StubXAResource[]{prepared, failing}) {
+            Assert.assertEquals(resource.prepareCount, 1);
+            Assert.assertTrue(resource.commits.isEmpty());
+            Assert.assertTrue(resource.rolledBack);
+            Assert.assertTrue(resource.closed);
+        }
+    }
+
+    @Test
+    public void testCommitFailure() {
+        String transactionId = newTransactionId();
+        StubXAResource committed = enlist(transactionId, new StubXAResource());
+        StubXAResource failing = new StubXAResource();
+        failing.failCommit = true;
+        enlist(transactionId, failing);
+
+        Assert.assertTrue(resourceManager.prepare(transactionId, BLOCK_ID));
+        Assert.assertFalse(resourceManager.notifyCommit(transactionId, BLOCK_ID));
+        Assert.assertEquals(committed.commits, List.of(false));
+        Assert.assertEquals(failing.commits, List.of(false));
+        Assert.assertTrue(committed.closed);
+        Assert.assertTrue(failing.closed);
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testCommitOnePhaseFailure() {
+        String transactionId = newTransactionId();
+        StubXAResource failing = new StubXAResource();
+        failing.failCommit = true;
+        enlist(transactionId, failing);
+
+        Assert.assertFalse(resourceManager.commitOnePhase(transactionId, BLOCK_ID));
+        Assert.assertEquals(failing.prepareCount, 0);
+        Assert.assertEquals(failing.commits, List.of(true));
+        Assert.assertTrue(failing.closed);
+        resourceManager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testCommitOnePhaseAfterResourceFailure() {
+        String transactionId = newTransactionId();
+        StubXAResource resource = enlist(transactionId, new StubXAResource());
+        resourceManager.notifyResourceFailure(transactionId);
+
+        // The transaction has to be aborted, so the resource is neither prepared nor committed
+        Assert.assertFalse(resourceManager.commitOnePhase(transactionId, BLOCK_ID));
+        Assert.assertEquals(resource.prepareCount, 0);
+        Assert.assertTrue(resource.commits.isEmpty());
+
+        Assert.assertTrue(resourceManager.notifyAbort(transactionId, BLOCK_ID));
+        Assert.assertTrue(resource.rolledBack);
+        Assert.assertTrue(resource.closed);
+    }
+
+    private StubXAResource enlist(String transactionId, StubXAResource resource) {
+        resourceManager.register(transactionId, BLOCK_ID, resource);
+        resourceManager.beginXATransaction(transactionId, BLOCK_ID, resource);
+        return resource;
+    }
+
+    private static String newTransactionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static void await(CountDownLatch latch) throws XAException {
+        latch.countDown();
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new XAException("resources are not run in parallel");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XAException(XAException.XAER_RMERR);
+        }
+    }
+
+    /**
+     * A transaction context with an XA resource, which records the calls made to it.
+     */
+    private static class StubXAResource implements BallerinaTransactionContext, XAResource {
+
+        private volatile int prepareCount = 0;
+        private final List<Boolean> commits = new ArrayList<>();
+        private volatile boolean ended = false;
+        private volatile boolean rolledBack = false;
+        private volatile boolean closed = false;
+        private boolean failPrepare = false;
+        private boolean failCommit = false;
+        private CountDownLatch prepareLatch;
+        private CountDownLatch commitLatch;
+
+        @Override
+        public void commit() {
+            throw new IllegalStateException("the XA resource has to be committed");
+        }
+
+        @Override
+        public void rollback() {
+            throw new IllegalStateException("the XA resource has to be rolled back");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return this;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+            ended = true;
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            prepareCount++;
+            if (prepareLatch != null) {
+                await(prepareLatch);
+            }
+            if (failPrepare) {
+                throw new XAException(XAException.XA_RBROLLBACK);
+            }
+            return XA_OK;
+        }
+
+        @Override
+        public synchronized void commit(Xid xid, boolean onePhase) throws XAException {
+            commits.add(onePhase);
+            if (commitLatch != null) {
+                await(commitLatch);
+            }
+            if (failCommit) {
+                throw new XAException(XAException.XAER_RMFAIL);
+            }
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+            rolledBack = true;
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+    }
+}
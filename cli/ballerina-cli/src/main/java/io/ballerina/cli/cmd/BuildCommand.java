@@ -157,6 +157,18 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--taint-check", description = "perform taint flow analysis")
     private Boolean taintCheck;
 
+    @CommandLine.Option(names = "--incremental", description = "reuse the artifacts of unchanged modules from the " +
+            "previous build")
+    private Boolean incremental;
+
+    @CommandLine.Option(names = "--profile-compiler", description = "record the time and the memory spent in each " +
+            "compiler phase")
+    private Boolean profileCompiler;
+
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive to reduce the " +
+            "startup time of the executable")
+    private boolean classDataSharing;
+
     @CommandLine.Option(names = "--includes", hidden = true,
             description = "hidden option for code coverage to include all classes")
     private String includes;
@@ -229,7 +241,7 @@ public class BuildCommand implements BLauncherCmd {
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
                 // clean the target directory(projects only)
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)
+                .addTask(new CleanTargetDirTask(project.buildOptions().incrementalBuild()), isSingleFileBuild)
                 // resolve maven dependencies in Ballerina.toml
                 .addTask(new ResolveMavenDependenciesTask(outStream))
                 // compile the modules
@@ -241,7 +253,7 @@ public class BuildCommand implements BLauncherCmd {
                 // create the BALA if -c provided (build projects only)
                 .addTask(new CreateBalaTask(outStream), isSingleFileBuild || !this.compile)
                 // create the executable jar, skip if -c flag is provided
-                .addTask(new CreateExecutableTask(outStream, this.output), this.compile)
+                .addTask(new CreateExecutableTask(outStream, this.output, this.classDataSharing), this.compile)
                 .build();
 
         taskExecutor.executeTasks(project);
@@ -262,6 +274,8 @@ public class BuildCommand implements BLauncherCmd {
                 .taintCheck(taintCheck)
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
+                .incrementalBuild(incremental)
+                .profileCompiler(profileCompiler)
                 .build();
     }
 
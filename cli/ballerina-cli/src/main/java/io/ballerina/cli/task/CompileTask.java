@@ -18,20 +18,28 @@
 
 package io.ballerina.cli.task;
 
+import io.ballerina.projects.CompilerProfile;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.internal.model.Target;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
+import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
 
 /**
  * Task for compiling a package.
@@ -39,6 +47,7 @@ import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
  * @since 2.0.0
  */
 public class CompileTask implements Task {
+    private static final String COMPILER_PROFILE_FILE_NAME = "compiler_profile.json";
     private final transient PrintStream out;
     private final transient PrintStream err;
 
@@ -69,6 +78,9 @@ public class CompileTask implements Task {
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_11);
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics().forEach(d -> err.println(convertDiagnosticToString(d)));
+            if (project.buildOptions().profileCompiler()) {
+                writeCompilerProfile(project, packageCompilation.compilerProfile());
+            }
             if (diagnosticResult.hasErrors()) {
                 throw createLauncherException("compilation contains errors");
             }
@@ -78,6 +90,23 @@ public class CompileTask implements Task {
         }
     }
 
+    private void writeCompilerProfile(Project project, CompilerProfile compilerProfile) {
+        Path profilePath;
+        try {
+            if (project.kind() == ProjectKind.BUILD_PROJECT) {
+                profilePath = new Target(project.sourceRoot()).getReportPath().resolve(COMPILER_PROFILE_FILE_NAME);
+            } else {
+                profilePath = Paths.get(System.getProperty(USER_DIR)).resolve(COMPILER_PROFILE_FILE_NAME);
+            }
+            Files.writeString(profilePath, compilerProfile.toJson());
+        } catch (IOException e) {
+            throw createLauncherException("unable to write the compiler profile: " + e.getMessage());
+        }
+        this.out.println();
+        this.out.println("Compiler profile");
+        this.out.println("\t" + profilePath.toAbsolutePath().normalize());
+    }
+
     private String convertDiagnosticToString(Diagnostic diagnostic) {
         LineRange lineRange = diagnostic.location().lineRange();
 
@@ -20,7 +20,9 @@ package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JarResolver;
 import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
@@ -34,6 +36,8 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ServiceLoader;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
@@ -41,6 +45,7 @@ import static io.ballerina.cli.utils.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
 import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
 import static io.ballerina.projects.util.ProjectUtils.checkWritePermission;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CLASS_NAME;
 
 /**
  * Task for creating the executable jar file.
@@ -48,12 +53,22 @@ import static io.ballerina.projects.util.ProjectUtils.checkWritePermission;
  * @since 2.0.0
  */
 public class CreateExecutableTask implements Task {
+    private static final String STARTUP_TRAINER_CLASS_NAME = "io.ballerina.runtime.internal.launch.StartupTrainer";
+    private static final String CLASS_LIST_EXT = ".classlist";
+    private static final String SHARED_ARCHIVE_EXT = ".jsa";
+
     private final transient PrintStream out;
+    private final boolean classDataSharing;
     private Path output;
     private Path currentDir;
 
     public CreateExecutableTask(PrintStream out, String output) {
+        this(out, output, false);
+    }
+
+    public CreateExecutableTask(PrintStream out, String output, boolean classDataSharing) {
         this.out = out;
+        this.classDataSharing = classDataSharing;
         if (output != null) {
             this.output = Paths.get(output);
         }
@@ -115,6 +130,97 @@ public class CreateExecutableTask implements Task {
         } else {
             this.out.println("\t" + relativePathToExecutable.toString());
         }
+
+        if (this.classDataSharing) {
+            createSharedArchive(project.currentPackage(), executablePath);
+        }
+    }
+
+    /**
+     * Creates an application class data sharing archive of the classes loaded at the startup of the executable.
+     * <p>
+     * The classes are recorded by a training run, which loads the classes of the executable without initializing
+     * them. Since it runs at the build time, the training run does not configure or initialize the modules, hence
+     * no user code is run. The archive can be used only with the executable it was created from, at the same
+     * location.
+     *
+     * @param pkg            package of the executable
+     * @param executablePath path of the executable jar
+     */
+    private void createSharedArchive(Package pkg, Path executablePath) {
+        this.out.println();
+        this.out.println("Generating class data sharing archive");
+
+        String executableName = getFileNameWithoutExtension(executablePath.getFileName());
+        Path classListPath = executablePath.resolveSibling(executableName + CLASS_LIST_EXT);
+        Path sharedArchivePath = executablePath.resolveSibling(executableName + SHARED_ARCHIVE_EXT);
+        String initClassName = JarResolver.getQualifiedClassName(pkg.packageOrg().toString(),
+                pkg.packageName().toString(), pkg.packageVersion().toString(), MODULE_INIT_CLASS_NAME);
+        try {
+            // Record the classes of the executable. This also prints the class loading report of the executable.
+            List<String> trainingCommand = new ArrayList<>();
+            trainingCommand.add(getJavaCommand());
+            trainingCommand.add("-XX:DumpLoadedClassList=" + classListPath);
+            trainingCommand.add("-cp");
+            trainingCommand.add(executablePath.toString());
+            trainingCommand.add(STARTUP_TRAINER_CLASS_NAME);
+            trainingCommand.add(initClassName);
+            if (runProcess(trainingCommand, true) != 0) {
+                this.out.println("warning: skipping the class data sharing archive since loading the classes of " +
+                        "the executable failed");
+                return;
+            }
+
+            List<String> dumpCommand = new ArrayList<>();
+            dumpCommand.add(getJavaCommand());
+            dumpCommand.add("-Xshare:dump");
+            dumpCommand.add("-XX:SharedClassListFile=" + classListPath);
+            dumpCommand.add("-XX:SharedArchiveFile=" + sharedArchivePath);
+            dumpCommand.add("-cp");
+            dumpCommand.add(executablePath.toString());
+            // The output of the dump lists every class that is archived, hence it is not shown
+            if (runProcess(dumpCommand, false) != 0) {
+                this.out.println("warning: failed to create the class data sharing archive");
+                return;
+            }
+        } catch (IOException e) {
+            this.out.println("warning: failed to create the class data sharing archive: " + e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.out.println("warning: class data sharing archive creation was interrupted");
+            return;
+        } finally {
+            try {
+                Files.deleteIfExists(classListPath);
+            } catch (IOException e) {
+                // Ignore since the class list is only an intermediate file
+            }
+        }
+
+        this.out.println("\t" + sharedArchivePath);
+        this.out.println();
+        this.out.println("Run the executable with the archive using");
+        this.out.println("\tjava -XX:SharedArchiveFile=" + sharedArchivePath + " -jar " + executablePath);
+    }
+
+    private static String getJavaCommand() {
+        String javaCommand = System.getProperty("java.command");
+        if (javaCommand != null) {
+            return javaCommand;
+        }
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private int runProcess(List<String> command, boolean showOutput) throws IOException, InterruptedException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        if (showOutput) {
+            processBuilder.inheritIO();
+        } else {
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD);
+        }
+        return processBuilder.start().waitFor();
     }
 
     private void notifyPlugins(Project project, Target target) {
@@ -97,6 +97,7 @@ public class RunTestsTask implements Task {
     private boolean coverage;
     private boolean isSingleTestExecution;
     private boolean isRerunTestExecution;
+    private boolean isParallelExecution;
     private List<String> singleExecTests;
     TestReport testReport;
 
@@ -107,11 +108,13 @@ public class RunTestsTask implements Task {
     }
 
     public RunTestsTask(PrintStream out, PrintStream err, boolean rerunTests, List<String> groupList,
-                        List<String> disableGroupList, List<String> testList, String includes) {
+                        List<String> disableGroupList, List<String> testList, String includes,
+                        boolean parallelTests) {
         this.out = out;
         this.err = err;
         this.isSingleTestExecution = false;
         this.isRerunTestExecution = rerunTests;
+        this.isParallelExecution = parallelTests;
 
         // If rerunTests is true, we get the rerun test list and assign it to 'testList'
         if (this.isRerunTestExecution) {
@@ -200,6 +203,7 @@ public class RunTestsTask implements Task {
                 suite.setTests(TesterinaUtils.getSingleExecutionTests(suite, singleExecTests));
             }
             suite.setReportRequired(report || coverage);
+            suite.setParallelExecution(isParallelExecution);
             String resolvedModuleName =
                     module.isDefaultModule() ? moduleName.toString() : module.moduleName().moduleNamePart();
             testSuiteMap.put(resolvedModuleName, suite);
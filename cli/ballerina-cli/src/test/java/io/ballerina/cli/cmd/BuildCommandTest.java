@@ -91,6 +91,28 @@ public class BuildCommandTest extends BaseCommandTest {
                 .resolve("hello_world.jar"));
     }
 
+    @Test(description = "Build a ballerina file with a class data sharing archive")
+    public void testBuildBalFileWithClassDataSharing() throws IOException {
+        Path balFileDir = this.testResources.resolve("bal-file-with-panicking-init");
+        Path balFilePath = balFileDir.resolve("panicking_init.bal");
+
+        System.setProperty("user.dir", balFileDir.toString());
+        BuildCommand buildCommand = new BuildCommand(balFilePath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--cds", balFilePath.toString());
+        buildCommand.execute();
+
+        // Module init panics, hence the archive is created only if the training run does not run the module init
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("Generating class data sharing archive"), buildLog);
+        Assert.assertFalse(buildLog.contains("warning:"), buildLog);
+        Assert.assertTrue(Files.exists(balFileDir.resolve("panicking_init.jar")));
+        Assert.assertTrue(Files.exists(balFileDir.resolve("panicking_init.jsa")));
+        Assert.assertFalse(Files.exists(balFileDir.resolve("panicking_init.classlist")));
+
+        Files.delete(balFileDir.resolve("panicking_init.jar"));
+        Files.delete(balFileDir.resolve("panicking_init.jsa"));
+    }
+
     @Test(description = "Build a valid ballerina file with output flag")
     public void testBuildBalFileWithOutputFlag() throws IOException {
         Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
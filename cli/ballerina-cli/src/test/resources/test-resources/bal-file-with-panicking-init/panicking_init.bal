@@ -0,0 +1,6 @@
+function init() {
+    panic error("module init must not run at the build time");
+}
+
+public function main() {
+}
@@ -77,6 +77,7 @@ public class BallerinaSemanticModel implements SemanticModel {
     private final SymbolFactory symbolFactory;
     private final TypesFactory typesFactory;
     private final SymbolTable symbolTable;
+    private volatile ReferenceIndex referenceIndex;
 
     public BallerinaSemanticModel(BLangPackage bLangPackage, CompilerContext context) {
         this.compilerContext = context;
@@ -170,10 +171,7 @@ public class BallerinaSemanticModel implements SemanticModel {
             return Collections.emptyList();
         }
 
-        BLangNode node = new NodeFinder().lookupEnclosingContainer(this.bLangPackage, symbolLocation.get().lineRange());
-
-        ReferenceFinder refFinder = new ReferenceFinder();
-        return refFinder.findReferences(node, getInternalSymbol(symbol));
+        return getReferenceIndex().references(getInternalSymbol(symbol));
     }
 
     /**
@@ -189,10 +187,7 @@ public class BallerinaSemanticModel implements SemanticModel {
             return Collections.emptyList();
         }
 
-        BLangNode node = new NodeFinder().lookupEnclosingContainer(this.bLangPackage, symbolAtCursor.pos.lineRange());
-
-        ReferenceFinder refFinder = new ReferenceFinder();
-        return refFinder.findReferences(node, symbolAtCursor);
+        return getReferenceIndex().references(symbolAtCursor);
     }
 
     /**
@@ -254,6 +249,23 @@ public class BallerinaSemanticModel implements SemanticModel {
 
     // Private helper methods for the public APIs above.
 
+    private ReferenceIndex getReferenceIndex() {
+        // The references of all the symbols are indexed with a single walk over the module, when the references
+        // are looked up for the first time. A symbol can only be referred to within its enclosing container.
+        // Hence the references found in the whole module are the same as the ones found in the container.
+        ReferenceIndex index = this.referenceIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = this.referenceIndex;
+                if (index == null) {
+                    index = ReferenceIndex.from(this.bLangPackage);
+                    this.referenceIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
     private Optional<Symbol> lookupSymbol(BLangCompilationUnit compilationUnit, LinePosition position) {
         SymbolFinder symbolFinder = new SymbolFinder();
         BSymbol symbolAtCursor = symbolFinder.lookup(compilationUnit, position);
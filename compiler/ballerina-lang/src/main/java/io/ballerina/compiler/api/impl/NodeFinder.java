@@ -167,7 +167,6 @@ class NodeFinder extends BaseVisitor {
 
     private LineRange range;
     private BLangNode enclosingNode;
-    private BLangNode enclosingContainer;
 
     BLangNode lookup(BLangPackage module, LineRange range) {
         List<TopLevelNode> topLevelNodes = new ArrayList<>(module.topLevelNodes);
@@ -184,12 +183,6 @@ class NodeFinder extends BaseVisitor {
         return lookupTopLevelNodes(unit.topLevelNodes, range);
     }
 
-    BLangNode lookupEnclosingContainer(BLangPackage module, LineRange range) {
-        this.enclosingContainer = module;
-        lookup(module, range);
-        return this.enclosingContainer;
-    }
-
     private BLangNode lookupTopLevelNodes(List<TopLevelNode> nodes, LineRange range) {
         this.range = range;
         this.enclosingNode = null;
@@ -247,12 +240,6 @@ class NodeFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangFunction funcNode) {
-        // Compare the target lookup pos with the function symbol pos to ensure that we are not looking for the
-        // container of the function.
-        if (!this.range.equals(funcNode.symbol.pos.lineRange())) {
-            this.enclosingContainer = funcNode;
-        }
-
         lookupNodes(funcNode.requiredParams);
         lookupNode(funcNode.restParam);
         lookupNode(funcNode.returnTypeNode);
@@ -266,7 +253,6 @@ class NodeFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangBlockFunctionBody blockFuncBody) {
-        this.enclosingContainer = blockFuncBody;
         lookupNodes(blockFuncBody.stmts);
     }
 
@@ -330,7 +316,6 @@ class NodeFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangBlockStmt blockNode) {
-        this.enclosingContainer = blockNode;
         lookupNodes(blockNode.stmts);
     }
 
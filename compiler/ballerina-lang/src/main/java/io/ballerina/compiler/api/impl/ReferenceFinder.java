@@ -184,14 +184,29 @@ public class ReferenceFinder extends BaseVisitor {
 
     private List<Location> referenceLocations;
     private BSymbol targetSymbol;
+    private ReferenceIndex referenceIndex;
 
     public List<Location> findReferences(BLangNode node, BSymbol symbol) {
         this.referenceLocations = new ArrayList<>();
         this.targetSymbol = symbol;
+        this.referenceIndex = null;
         find(node);
         return this.referenceLocations;
     }
 
+    /**
+     * Adds the references of all the symbols within the given AST node to the given index.
+     *
+     * @param node           AST node to look for references in
+     * @param referenceIndex index to add the references to
+     */
+    void indexReferences(BLangNode node, ReferenceIndex referenceIndex) {
+        this.referenceLocations = null;
+        this.targetSymbol = null;
+        this.referenceIndex = referenceIndex;
+        find(node);
+    }
+
     void find(BLangNode node) {
         if (node == null) {
             return;
@@ -1175,6 +1190,11 @@ public class ReferenceFinder extends BaseVisitor {
     // Private methods
 
     private void addIfSameSymbol(BSymbol symbol, Location location) {
+        if (symbol != null && this.referenceIndex != null) {
+            this.referenceIndex.addReference(symbol, location);
+            return;
+        }
+
         if (symbol != null
                 && this.targetSymbol.name.equals(symbol.name)
                 && this.targetSymbol.pkgID.equals(symbol.pkgID)
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An index of the references of all the symbols used within a module.
+ * <p>
+ * The index is built with a single walk over the module. Hence the references of any number of symbols can be
+ * looked up without walking the module again. Symbols are identified the same way as {@code ReferenceFinder} does,
+ * i.e., by their names, module IDs and positions.
+ *
+ * @since 2.0.0
+ */
+class ReferenceIndex {
+
+    private final Map<SymbolKey, List<Location>> references = new HashMap<>();
+
+    private ReferenceIndex() {
+    }
+
+    static ReferenceIndex from(BLangPackage bLangPackage) {
+        ReferenceIndex referenceIndex = new ReferenceIndex();
+        new ReferenceFinder().indexReferences(bLangPackage, referenceIndex);
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the references of the given symbol in the order they appear in the module.
+     *
+     * @param symbol symbol to look up
+     * @return the locations of the references
+     */
+    List<Location> references(BSymbol symbol) {
+        List<Location> locations = references.get(new SymbolKey(symbol));
+        return locations == null ? Collections.emptyList() : new ArrayList<>(locations);
+    }
+
+    void addReference(BSymbol symbol, Location location) {
+        references.computeIfAbsent(new SymbolKey(symbol), key -> new ArrayList<>()).add(location);
+    }
+
+    /**
+     * Identifies a symbol by its name, module ID and position.
+     *
+     * @since 2.0.0
+     */
+    private static class SymbolKey {
+        private final Name name;
+        private final PackageID pkgID;
+        private final Location pos;
+
+        SymbolKey(BSymbol symbol) {
+            this.name = symbol.name;
+            this.pkgID = symbol.pkgID;
+            this.pos = symbol.pos;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof SymbolKey)) {
+                return false;
+            }
+
+            SymbolKey symbolKey = (SymbolKey) o;
+            return Objects.equals(name, symbolKey.name) && Objects.equals(pkgID, symbolKey.pkgID)
+                    && Objects.equals(pos, symbolKey.pos);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, pkgID, pos);
+        }
+    }
+}
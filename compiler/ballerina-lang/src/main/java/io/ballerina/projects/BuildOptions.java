@@ -63,6 +63,14 @@ public class BuildOptions {
         return this.compilationOptions.getCloud();
     }
 
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
+    public boolean profileCompiler() {
+        return this.compilationOptions.profileCompiler();
+    }
+
     CompilationOptions compilationOptions() {
         return compilationOptions;
     }
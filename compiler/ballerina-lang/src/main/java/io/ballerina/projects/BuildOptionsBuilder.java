@@ -83,6 +83,16 @@ public class BuildOptionsBuilder {
         return this;
     }
 
+    public BuildOptionsBuilder incrementalBuild(Boolean value) {
+        compilationOptionsBuilder.incrementalBuild(value);
+        return this;
+    }
+
+    public BuildOptionsBuilder profileCompiler(Boolean value) {
+        compilationOptionsBuilder.profileCompiler(value);
+        return this;
+    }
+
     public BuildOptions build() {
         CompilationOptions compilationOptions = compilationOptionsBuilder.build();
         return new BuildOptions(testReport, codeCoverage, compilationOptions);
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LineRange;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnostic;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serializes the diagnostics of a module along with the artifacts cached by an incremental build, so that a
+ * module loaded from the build cache reports the same diagnostics as when it was compiled.
+ * <p>
+ * Only the code, the severity, the message and the line range of a diagnostic are kept. The properties of the
+ * diagnostic refer to compiler symbols and types, and are therefore not available in replayed diagnostics.
+ *
+ * @since 2.0.0
+ */
+final class CachedDiagnostics {
+    private static final String CODE = "code";
+    private static final String MESSAGE_FORMAT = "messageFormat";
+    private static final String SEVERITY = "severity";
+    private static final String MESSAGE = "message";
+    private static final String FILE_PATH = "filePath";
+    private static final String START_LINE = "startLine";
+    private static final String START_COLUMN = "startColumn";
+    private static final String END_LINE = "endLine";
+    private static final String END_COLUMN = "endColumn";
+
+    private CachedDiagnostics() {
+    }
+
+    static String toJson(List<Diagnostic> diagnostics) {
+        JsonArray diagnosticsJson = new JsonArray();
+        for (Diagnostic diagnostic : diagnostics) {
+            JsonObject diagnosticJson = new JsonObject();
+            DiagnosticInfo diagnosticInfo = diagnostic.diagnosticInfo();
+            diagnosticJson.addProperty(CODE, diagnosticInfo.code());
+            diagnosticJson.addProperty(MESSAGE_FORMAT, diagnosticInfo.messageFormat());
+            diagnosticJson.addProperty(SEVERITY, diagnosticInfo.severity().name());
+            diagnosticJson.addProperty(MESSAGE, diagnostic.message());
+
+            LineRange lineRange = diagnostic.location().lineRange();
+            diagnosticJson.addProperty(FILE_PATH, lineRange.filePath());
+            diagnosticJson.addProperty(START_LINE, lineRange.startLine().line());
+            diagnosticJson.addProperty(START_COLUMN, lineRange.startLine().offset());
+            diagnosticJson.addProperty(END_LINE, lineRange.endLine().line());
+            diagnosticJson.addProperty(END_COLUMN, lineRange.endLine().offset());
+            diagnosticsJson.add(diagnosticJson);
+        }
+        return diagnosticsJson.toString();
+    }
+
+    /**
+     * Reads the diagnostics serialized by {@link #toJson(List)}.
+     *
+     * @param diagnosticsJson serialized diagnostics
+     * @return the diagnostics, or empty if the given content is not a valid set of serialized diagnostics
+     */
+    static Optional<List<Diagnostic>> fromJson(String diagnosticsJson) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        try {
+            for (JsonElement element : JsonParser.parseString(diagnosticsJson).getAsJsonArray()) {
+                JsonObject diagnosticJson = element.getAsJsonObject();
+                JsonElement code = diagnosticJson.get(CODE);
+                String diagnosticCode = code == null || code.isJsonNull() ? null : code.getAsString();
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticCode,
+                        diagnosticJson.get(MESSAGE_FORMAT).getAsString(),
+                        DiagnosticSeverity.valueOf(diagnosticJson.get(SEVERITY).getAsString()));
+                BLangDiagnosticLocation location = new BLangDiagnosticLocation(
+                        diagnosticJson.get(FILE_PATH).getAsString(),
+                        diagnosticJson.get(START_LINE).getAsInt(), diagnosticJson.get(END_LINE).getAsInt(),
+                        diagnosticJson.get(START_COLUMN).getAsInt(), diagnosticJson.get(END_COLUMN).getAsInt());
+                diagnostics.add(new BLangDiagnostic(location, diagnosticJson.get(MESSAGE).getAsString(),
+                        diagnosticInfo, null));
+            }
+        } catch (JsonParseException | IllegalStateException | IllegalArgumentException | NullPointerException e) {
+            // A corrupted file should only cause the module to be recompiled
+            return Optional.empty();
+        }
+        return Optional.of(diagnostics);
+    }
+}
@@ -396,6 +396,11 @@ class CodeAnalyzerManager {
         }
 
         private void runTasks(ModuleContext moduleContext, List<Diagnostic> reportedDiagnostics) {
+            // Modules loaded from the incremental build cache have not changed since they were last analyzed
+            if (moduleContext.compilationState() != ModuleCompilationState.COMPILED) {
+                return;
+            }
+
             for (DocumentId srcDocumentId : moduleContext.srcDocumentIds()) {
                 DocumentContext documentContext = moduleContext.documentContext(srcDocumentId);
                 runTasks(documentContext.syntaxTree(), moduleContext.moduleId(),
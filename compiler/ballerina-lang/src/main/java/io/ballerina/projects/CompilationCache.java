@@ -18,8 +18,11 @@
 package io.ballerina.projects;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Represents the compilation cache of a single Package.
@@ -42,4 +45,86 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Moves the given platform-specific library file into the cache.
+     * <p>
+     * This allows a large library to be written to a temporary file instead of being held in memory. Caches that
+     * are not backed by the file system read the content of the file.
+     *
+     * @param compilerBackend compiler backend that generated the library
+     * @param libraryName     name of the library
+     * @param libraryFile     file that contains the library, which is moved into the cache
+     */
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName, Path libraryFile) {
+        ByteArrayOutputStream libraryContent = new ByteArrayOutputStream();
+        try {
+            Files.copy(libraryFile, libraryContent);
+            Files.delete(libraryFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read library: " + libraryFile, e);
+        }
+        cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+    }
+
+    /**
+     * Removes the cached platform-specific libraries whose names match the given predicate.
+     *
+     * @param compilerBackend compiler backend that generated the libraries
+     * @param libraryNameFilter predicate that selects the names of the libraries to be removed
+     */
+    public void removePlatformSpecificLibraries(CompilerBackend compilerBackend, Predicate<String> libraryNameFilter) {
+    }
+
+    /**
+     * Returns the BIR of the given module cached by a previous build, if it was built from the same inputs.
+     * <p>
+     * Caches that do not persist build hashes never return a BIR from this method.
+     *
+     * @param moduleName name of the module
+     * @param buildHash  hash of the module sources, compiler options and the interface hashes of its dependencies
+     * @return the cached BIR if the recorded build hash matches the given one
+     */
+    public Optional<byte[]> getBir(ModuleName moduleName, String buildHash) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the interface hash recorded along with the cached BIR of the given module.
+     *
+     * @param moduleName name of the module
+     * @return the hash of the exported symbol signatures of the module
+     */
+    public Optional<String> getInterfaceHash(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the hashes of a module whose BIR and platform-specific libraries have been cached.
+     *
+     * @param moduleName    name of the module
+     * @param buildHash     hash of the inputs that produced the cached artifacts
+     * @param interfaceHash hash of the exported symbol signatures of the module
+     */
+    public void cacheBuildHashes(ModuleName moduleName, String buildHash, String interfaceHash) {
+    }
+
+    /**
+     * Returns the diagnostics recorded along with the cached BIR of the given module.
+     *
+     * @param moduleName name of the module
+     * @return the serialized diagnostics reported when the module was compiled
+     */
+    public Optional<String> getDiagnostics(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the diagnostics reported when compiling a module whose BIR has been cached.
+     *
+     * @param moduleName  name of the module
+     * @param diagnostics serialized diagnostics of the module
+     */
+    public void cacheDiagnostics(ModuleName moduleName, String diagnostics) {
+    }
 }
@@ -33,10 +33,13 @@ class CompilationOptions {
     private String dumpBirFile;
     private String cloud;
     private Boolean taintCheck;
+    private Boolean incrementalBuild;
+    private Boolean profileCompiler;
 
     public CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental,
                               Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile,
-                              String cloud, Boolean taintCheck) {
+                              String cloud, Boolean taintCheck, Boolean incrementalBuild,
+                              Boolean profileCompiler) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
@@ -45,6 +48,8 @@ class CompilationOptions {
         this.dumpBirFile = dumpBirFile;
         this.cloud = cloud;
         this.taintCheck = taintCheck;
+        this.incrementalBuild = incrementalBuild;
+        this.profileCompiler = profileCompiler;
     }
 
     boolean skipTests() {
@@ -79,6 +84,14 @@ class CompilationOptions {
         return toBooleanDefaultIfNull(taintCheck);
     }
 
+    boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(incrementalBuild);
+    }
+
+    boolean profileCompiler() {
+        return toBooleanDefaultIfNull(profileCompiler);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -100,6 +113,10 @@ class CompilationOptions {
         this.dumpBirFile = theirOptions.dumpBirFile;
         this.taintCheck = Objects.requireNonNullElseGet(theirOptions.taintCheck,
                 () -> toBooleanDefaultIfNull(this.taintCheck));
+        this.incrementalBuild = Objects.requireNonNullElseGet(theirOptions.incrementalBuild,
+                () -> toBooleanDefaultIfNull(this.incrementalBuild));
+        this.profileCompiler = Objects.requireNonNullElseGet(theirOptions.profileCompiler,
+                () -> toBooleanDefaultIfNull(this.profileCompiler));
         return this;
     }
 
@@ -33,6 +33,8 @@ class CompilationOptionsBuilder {
     private String dumpBirFile;
     private String cloud;
     private Boolean taintCheck;
+    private Boolean incrementalBuild;
+    private Boolean profileCompiler;
 
     public CompilationOptionsBuilder() {
     }
@@ -77,8 +79,18 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder profileCompiler(Boolean value) {
+        profileCompiler = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                dumpBirFile, cloud, taintCheck);
+                dumpBirFile, cloud, taintCheck, incrementalBuild, profileCompiler);
     }
 }
@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ServiceLoader;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +57,31 @@ class CompilerPluginManager {
         return new CompilerPluginManager(compilation, compilerPluginContexts);
     }
 
+    /**
+     * Checks whether the current package engages any compiler plugin, including the plugins loaded through the
+     * {@code ServiceLoader}.
+     * <p>
+     * Compiler plugins analyze the syntax trees and the semantic models of all the modules of the current package.
+     * Therefore, modules cannot be loaded from the incremental build cache if a compiler plugin is engaged.
+     *
+     * @param packageResolution resolution of the current package
+     * @return true if a compiler plugin is engaged
+     */
+    static boolean hasEngagedCompilerPlugins(PackageResolution packageResolution) {
+        if (ServiceLoader.load(org.ballerinalang.compiler.plugins.CompilerPlugin.class).iterator().hasNext()) {
+            return true;
+        }
+
+        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(
+                packageResolution.packageContext().project().currentPackage(), PackageDependencyScope.DEFAULT);
+        for (Package pkgDependency : getDirectDependencies(rootPkgNode, packageResolution.dependencyGraph())) {
+            if (pkgDependency.manifest().compilerPluginDescriptor().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     PackageCompilation compilation() {
         return compilation;
     }
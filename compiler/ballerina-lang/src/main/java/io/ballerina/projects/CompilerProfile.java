@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.ballerinalang.compiler.CompilerOptionName.PROFILE_COMPILER;
+
+/**
+ * Records the wall time, the allocated memory and the number of syntax tree nodes of each compiler phase per module.
+ * <p>
+ * Phases are recorded only if the {@code profileCompiler} compiler option is set. Otherwise the phases are run
+ * as they are, without any bookkeeping.
+ *
+ * @since 2.0.0
+ */
+public class CompilerProfile {
+    private static final CompilerContext.Key<CompilerProfile> COMPILER_PROFILE_KEY = new CompilerContext.Key<>();
+
+    private final boolean enabled;
+    private static final String PARENT_FIELD_NAME = "parent";
+
+    private final Map<String, List<PhaseProfile>> moduleProfiles = new LinkedHashMap<>();
+    private final Map<Class<?>, List<Field>> nodeFields = new ConcurrentHashMap<>();
+    private com.sun.management.ThreadMXBean allocationMXBean;
+
+    public static CompilerProfile getInstance(CompilerContext context) {
+        CompilerProfile compilerProfile = context.get(COMPILER_PROFILE_KEY);
+        if (compilerProfile == null) {
+            compilerProfile = new CompilerProfile(context);
+        }
+        return compilerProfile;
+    }
+
+    private CompilerProfile(CompilerContext context) {
+        context.put(COMPILER_PROFILE_KEY, this);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        this.enabled = options.isSet(PROFILE_COMPILER) && Boolean.parseBoolean(options.get(PROFILE_COMPILER));
+        if (!this.enabled) {
+            return;
+        }
+
+        // Allocated memory is recorded only on JVMs that support measuring the allocations of a thread
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+                this.allocationMXBean = sunThreadMXBean;
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the given compiler phase on the given package and records it in the profile.
+     *
+     * @param phase       compiler phase to run
+     * @param pkgNode     package on which the phase is run
+     * @param phaseRunner runs the phase
+     * @param <T>         type of the result of the phase
+     * @return the result of the phase
+     */
+    public <T> T profile(CompilerPhase phase, BLangPackage pkgNode, Supplier<T> phaseRunner) {
+        if (!enabled) {
+            return phaseRunner.get();
+        }
+
+        long startAllocatedBytes = allocatedBytes();
+        long startTime = System.nanoTime();
+        T result = phaseRunner.get();
+        long wallTime = System.nanoTime() - startTime;
+        long allocatedBytes = allocationMXBean == null ? -1 : allocatedBytes() - startAllocatedBytes;
+
+        PhaseProfile phaseProfile = new PhaseProfile(phase, wallTime, allocatedBytes, pkgNode.topLevelNodes.size(),
+                countNodes(pkgNode));
+        synchronized (moduleProfiles) {
+            moduleProfiles.computeIfAbsent(pkgNode.packageID.toString(), moduleName -> new ArrayList<>())
+                    .add(phaseProfile);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the recorded profile as a JSON document.
+     * <p>
+     * The document contains the profile of each phase per module in the order the phases were run, and the
+     * totals of each phase across all the modules. Times are in nanoseconds and the allocated memory is in bytes.
+     * The allocated memory is -1 if the JVM does not support measuring it.
+     *
+     * @return the profile as a JSON string
+     */
+    public String toJson() {
+        JsonArray modules = new JsonArray();
+        Map<CompilerPhase, PhaseProfile> phaseTotals = new EnumMap<>(CompilerPhase.class);
+        synchronized (moduleProfiles) {
+            for (Map.Entry<String, List<PhaseProfile>> moduleProfile : moduleProfiles.entrySet()) {
+                JsonArray phases = new JsonArray();
+                long moduleWallTime = 0;
+                for (PhaseProfile phaseProfile : moduleProfile.getValue()) {
+                    phases.add(phaseProfile.toJson());
+                    moduleWallTime += phaseProfile.wallTime;
+                    phaseTotals.merge(phaseProfile.phase, phaseProfile, PhaseProfile::add);
+                }
+
+                JsonObject module = new JsonObject();
+                module.addProperty("module", moduleProfile.getKey());
+                module.addProperty("wallTimeNanos", moduleWallTime);
+                module.add("phases", phases);
+                modules.add(module);
+            }
+        }
+
+        JsonArray totals = new JsonArray();
+        for (PhaseProfile phaseTotal : phaseTotals.values()) {
+            totals.add(phaseTotal.toJson());
+        }
+
+        JsonObject profile = new JsonObject();
+        profile.add("modules", modules);
+        profile.add("phaseTotals", totals);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(profile);
+    }
+
+    /**
+     * Counts the syntax tree nodes reachable from the given package, including the nodes added by desugaring.
+     * <p>
+     * The nodes are found through the fields of the nodes, since there is no visitor which visits all the kinds
+     * of nodes. Each node is counted once even if it is shared between multiple parents.
+     */
+    private int countNodes(BLangPackage pkgNode) {
+        Set<BLangNode> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BLangNode> pendingNodes = new ArrayDeque<>();
+        pendingNodes.push(pkgNode);
+        while (!pendingNodes.isEmpty()) {
+            BLangNode node = pendingNodes.pop();
+            if (!visitedNodes.add(node)) {
+                continue;
+            }
+
+            for (Field field : nodeFields(node.getClass())) {
+                Object value;
+                try {
+                    value = field.get(node);
+                } catch (IllegalAccessException e) {
+                    continue;
+                }
+                addChildNodes(value, pendingNodes);
+            }
+        }
+        return visitedNodes.size();
+    }
+
+    private static void addChildNodes(Object value, Deque<BLangNode> pendingNodes) {
+        if (value instanceof BLangNode) {
+            pendingNodes.push((BLangNode) value);
+        } else if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                addChildNodes(element, pendingNodes);
+            }
+        } else if (value instanceof Map) {
+            for (Object element : ((Map<?, ?>) value).values()) {
+                addChildNodes(element, pendingNodes);
+            }
+        }
+    }
+
+    private List<Field> nodeFields(Class<?> nodeClass) {
+        return nodeFields.computeIfAbsent(nodeClass, key -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> clazz = nodeClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    // The parent of a node is not a child of it
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()
+                            || PARENT_FIELD_NAME.equals(field.getName()) || !field.trySetAccessible()) {
+                        continue;
+                    }
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private long allocatedBytes() {
+        return allocationMXBean == null ? 0 : allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Represents the recorded profile of a single run of a compiler phase.
+     *
+     * @since 2.0.0
+     */
+    private static class PhaseProfile {
+        private final CompilerPhase phase;
+        private final long wallTime;
+        private final long allocatedBytes;
+        private final int topLevelNodes;
+        private final int nodes;
+
+        PhaseProfile(CompilerPhase phase, long wallTime, long allocatedBytes, int topLevelNodes, int nodes) {
+            this.phase = phase;
+            this.wallTime = wallTime;
+            this.allocatedBytes = allocatedBytes;
+            this.topLevelNodes = topLevelNodes;
+            this.nodes = nodes;
+        }
+
+        PhaseProfile add(PhaseProfile other) {
+            long totalAllocatedBytes = allocatedBytes < 0 ? -1 : allocatedBytes + other.allocatedBytes;
+            return new PhaseProfile(phase, wallTime + other.wallTime, totalAllocatedBytes,
+                    topLevelNodes + other.topLevelNodes, nodes + other.nodes);
+        }
+
+        JsonObject toJson() {
+            JsonObject phaseProfile = new JsonObject();
+            phaseProfile.addProperty("phase", phase.toString());
+            phaseProfile.addProperty("wallTimeNanos", wallTime);
+            phaseProfile.addProperty("allocatedBytes", allocatedBytes);
+            phaseProfile.addProperty("topLevelNodes", topLevelNodes);
+            phaseProfile.addProperty("nodes", nodes);
+            return phaseProfile;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.maven.Dependency;
 import org.ballerinalang.maven.MavenResolver;
 import org.ballerinalang.maven.Utils;
@@ -41,13 +42,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
+import org.wso2.ballerinalang.util.RepoUtils;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -60,6 +62,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -82,6 +86,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
+    private static final String DEPENDENCIES_JAR_FILE_NAME_PREFIX = "dependencies-";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
 
     private final PackageResolution pkgResolution;
@@ -93,6 +98,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final InteropValidator interopValidator;
     private final JarResolver jarResolver;
     private final CompilerOptions compilerOptions;
+    private final CompilerProfile compilerProfile;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
 
@@ -115,6 +121,7 @@ public class JBallerinaBackend extends CompilerBackend {
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
         this.compilerOptions = CompilerOptions.getInstance(compilerContext);
+        this.compilerProfile = CompilerProfile.getInstance(compilerContext);
 
         // TODO: Move to a compiler extension once Compiler revamp is complete
         if (packageContext.compilationOptions().observabilityIncluded()) {
@@ -259,7 +266,8 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
-        CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
+        CompiledJarFile compiledJarFile = compilerProfile.profile(CompilerPhase.CODE_GEN, bLangPackage,
+                () -> jvmCodeGenerator.generate(bLangPackage));
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
         try {
             ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
@@ -278,7 +286,8 @@ public class JBallerinaBackend extends CompilerBackend {
         }
 
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
-        CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
+        CompiledJarFile compiledTestJarFile = compilerProfile.profile(CompilerPhase.CODE_GEN, bLangPackage,
+                () -> jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0)));
         try {
             ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile);
             compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
@@ -330,14 +339,96 @@ public class JBallerinaBackend extends CompilerBackend {
             }
 
             // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
+            writeServiceEntries(outStream, serviceEntries);
+        }
+    }
+
+    /**
+     * Returns the jar files required for execution, with the jar files of the dependencies replaced by a single
+     * jar cached in the compilation cache.
+     * <p>
+     * The dependencies of a package rarely change between two builds of the package. Hence the entries of the
+     * dependency jars are copied, de-duplicated and their SPI files merged only once. Subsequent builds copy the
+     * raw entries of the cached jar and append the jars of the current package only.
+     *
+     * @param jarFilePaths jar files required for execution, starting with the jar files of the current package
+     * @return jar files to be assembled into the executable jar
+     * @throws IOException if the cached dependencies jar cannot be created
+     */
+    private Collection<Path> replaceDependencyJarsWithCachedJar(Collection<Path> jarFilePaths) throws IOException {
+        Set<Path> rootPackageJarPaths = new HashSet<>();
+        PackageId rootPackageId = packageContext.packageId();
+        for (ModuleId moduleId : packageContext.moduleIds()) {
+            ModuleName moduleName = packageContext.moduleContext(moduleId).moduleName();
+            rootPackageJarPaths.add(codeGeneratedLibrary(rootPackageId, moduleName).path());
+        }
+        for (PlatformLibrary platformLibrary : platformLibraryDependencies(rootPackageId,
+                PlatformLibraryScope.DEFAULT)) {
+            rootPackageJarPaths.add(platformLibrary.path());
+        }
+
+        List<Path> assembledJarPaths = new ArrayList<>();
+        List<Path> dependencyJarPaths = new ArrayList<>();
+        StringBuilder dependenciesKey = new StringBuilder(RepoUtils.getBallerinaVersion());
+        for (Path jarFilePath : jarFilePaths) {
+            if (rootPackageJarPaths.contains(jarFilePath)) {
+                assembledJarPaths.add(jarFilePath);
+                continue;
             }
+            File jarFile = jarFilePath.toFile();
+            dependencyJarPaths.add(jarFilePath);
+            dependenciesKey.append('\n').append(jarFilePath.toAbsolutePath()).append(':')
+                    .append(jarFile.length()).append(':').append(jarFile.lastModified());
+        }
+
+        // The name of the cached jar is derived from the paths and the timestamps of the dependency jars.
+        // Therefore a cached jar is never reused once a dependency is added, removed or rebuilt.
+        String dependenciesJarName = DEPENDENCIES_JAR_FILE_NAME_PREFIX + UUID.nameUUIDFromBytes(
+                dependenciesKey.toString().getBytes(StandardCharsets.UTF_8));
+        CompilationCache compilationCache = packageContext.project().projectEnvironmentContext()
+                .getService(CompilationCache.class);
+        Optional<Path> dependenciesJarPath = compilationCache.getPlatformSpecificLibrary(this, dependenciesJarName);
+        if (dependenciesJarPath.isEmpty()) {
+            // The merged jar is streamed to a temporary file, since it contains the whole runtime and the
+            // dependencies of the package, and then moved into the cache.
+            Path tempJarPath = Files.createTempFile(DEPENDENCIES_JAR_FILE_NAME_PREFIX, libraryFileExtension());
+            try {
+                HashSet<String> copiedEntries = new HashSet<>();
+                HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
+                try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tempJarPath)))) {
+                    for (Path jarFilePath : dependencyJarPaths) {
+                        copyJar(outStream, jarFilePath, copiedEntries, serviceEntries);
+                    }
+                    // The merged SPI files get merged again with the SPI files of the current package
+                    writeServiceEntries(outStream, serviceEntries);
+                }
+                compilationCache.cachePlatformSpecificLibrary(this, dependenciesJarName, tempJarPath);
+            } finally {
+                Files.deleteIfExists(tempJarPath);
+            }
+
+            // Jars cached for a previous set of dependencies are never reused
+            compilationCache.removePlatformSpecificLibraries(this, libraryName ->
+                    libraryName.startsWith(DEPENDENCIES_JAR_FILE_NAME_PREFIX)
+                            && !libraryName.equals(dependenciesJarName));
+            dependenciesJarPath = compilationCache.getPlatformSpecificLibrary(this, dependenciesJarName);
+        }
+
+        assembledJarPaths.add(dependenciesJarPath.orElseThrow(() -> new IllegalStateException(
+                "Cannot find the cached dependencies jar of package: " + packageContext.packageName())));
+        return assembledJarPaths;
+    }
+
+    private void writeServiceEntries(ZipArchiveOutputStream outStream,
+                                     HashMap<String, StringBuilder> serviceEntries) throws IOException {
+        for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+            String s = entry.getKey();
+            StringBuilder service = entry.getValue();
+            JarArchiveEntry e = new JarArchiveEntry(s);
+            outStream.putArchiveEntry(e);
+            outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
+            outStream.closeArchiveEntry();
         }
     }
 
@@ -381,7 +472,13 @@ public class JBallerinaBackend extends CompilerBackend {
     private void copyJar(ZipArchiveOutputStream outStream, Path jarFilePath, HashSet<String> copiedEntries,
                          HashMap<String, StringBuilder> services) throws IOException {
 
-        ZipFile zipFile = new ZipFile(jarFilePath.toFile());
+        try (ZipFile zipFile = new ZipFile(jarFilePath.toFile())) {
+            copyJar(outStream, zipFile, copiedEntries, services);
+        }
+    }
+
+    private void copyJar(ZipArchiveOutputStream outStream, ZipFile zipFile, HashSet<String> copiedEntries,
+                         HashMap<String, StringBuilder> services) throws IOException {
         ZipArchiveEntryPredicate predicate = entry -> {
             String entryName = entry.getName();
             if (entryName.equals("META-INF/MANIFEST.MF")) {
@@ -394,18 +491,15 @@ public class JBallerinaBackend extends CompilerBackend {
                     s = new StringBuilder();
                     services.put(entryName, s);
                 }
-                char c = '\n';
 
-                int len;
-                try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
+                String service;
+                try (InputStream inStream = zipFile.getInputStream(entry)) {
+                    service = new String(inStream.readAllBytes(), StandardCharsets.UTF_8);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
-                if (c != '\n') {
+                s.append(service);
+                if (!service.isEmpty() && !service.endsWith("\n")) {
                     s.append('\n');
                 }
 
@@ -426,7 +520,6 @@ public class JBallerinaBackend extends CompilerBackend {
         // Transfers selected entries from this zip file to the output stream, while preserving its compression and
         // all the other original attributes.
         zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
     }
 
     private static boolean isCopiedOrExcludedEntry(String entryName, HashSet<String> copiedEntries) {
@@ -454,6 +547,9 @@ public class JBallerinaBackend extends CompilerBackend {
         Collection<Path> jarLibraryPaths = jarResolver.getJarFilePathsRequiredForExecution();
 
         try {
+            if (packageContext.compilationOptions().incrementalBuild()) {
+                jarLibraryPaths = replaceDependencyJarsWithCachedJar(jarLibraryPaths);
+            }
             assembleExecutableJar(executableFilePath, manifest, jarLibraryPaths);
 
             // TODO: Move to a compiler extension once Compiler revamp is complete
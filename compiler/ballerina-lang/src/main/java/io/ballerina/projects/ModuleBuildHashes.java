@@ -0,0 +1,352 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BStructureTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BErrorType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BFiniteType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BFutureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BXMLType;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.util.Flags;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
+import static org.ballerinalang.compiler.CompilerOptionName.TAINT_CHECK;
+
+/**
+ * Computes the hashes used by incremental builds to decide whether the cached artifacts of a module can be reused.
+ * <p>
+ * The build hash of a module covers its sources, the compiler options and the interface hashes of its
+ * dependencies. The interface hash of a module covers only the signatures of its public symbols. Hence a change
+ * in a function body recompiles the changed module, but not the modules that depend on it.
+ *
+ * @since 2.0.0
+ */
+final class ModuleBuildHashes {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final CompilerOptionName[] HASHED_COMPILER_OPTIONS = {
+            SKIP_TESTS, EXPERIMENTAL_FEATURES_ENABLED, OBSERVABILITY_INCLUDED, CLOUD, TAINT_CHECK
+    };
+
+    private ModuleBuildHashes() {
+    }
+
+    static String buildHash(ModuleContext moduleContext,
+                            CompilerOptions compilerOptions,
+                            Collection<String> dependencyInterfaceHashes) {
+        MessageDigest digest = newDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, moduleContext.descriptor().moduleCompilationId().toString());
+        for (CompilerOptionName optionName : HASHED_COMPILER_OPTIONS) {
+            update(digest, optionName.toString() + "=" + compilerOptions.get(optionName));
+        }
+
+        // Documents are hashed in the order of their names, so that the hash does not depend on the map order
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+            documentContexts.add(moduleContext.documentContext(documentId));
+        }
+        for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+            documentContexts.add(moduleContext.documentContext(documentId));
+        }
+        documentContexts.sort((doc1, doc2) -> doc1.name().compareTo(doc2.name()));
+        for (DocumentContext documentContext : documentContexts) {
+            update(digest, documentContext.name());
+            update(digest, documentContext.textDocument().toString());
+        }
+
+        List<String> sortedDependencyHashes = new ArrayList<>(dependencyInterfaceHashes);
+        Collections.sort(sortedDependencyHashes);
+        for (String dependencyHash : sortedDependencyHashes) {
+            update(digest, dependencyHash);
+        }
+        return toHexString(digest.digest());
+    }
+
+    static String interfaceHash(BPackageSymbol packageSymbol) {
+        // Scope entries are kept in the insertion order, which follows the source order of the definitions.
+        // Sorting the signatures makes the hash independent of the order of the definitions.
+        List<String> signatures = new ArrayList<>();
+        for (Scope.ScopeEntry scopeEntry : packageSymbol.scope.entries.values()) {
+            for (Scope.ScopeEntry entry = scopeEntry; entry != null && entry.symbol != null; entry = entry.next) {
+                if (Symbols.isFlagOn(entry.symbol.flags, Flags.PUBLIC)) {
+                    signatures.add(signature(entry.symbol));
+                }
+            }
+        }
+        Collections.sort(signatures);
+
+        MessageDigest digest = newDigest();
+        for (String signature : signatures) {
+            update(digest, signature);
+        }
+        return toHexString(digest.digest());
+    }
+
+    static String interfaceHash(ModuleDescriptor moduleDescriptor) {
+        // Modules of other packages are not rebuilt along with the current package. They change only
+        // when a different version of the package gets resolved.
+        MessageDigest digest = newDigest();
+        update(digest, moduleDescriptor.org().value());
+        update(digest, moduleDescriptor.name().toString());
+        update(digest, moduleDescriptor.version().toString());
+        return toHexString(digest.digest());
+    }
+
+    private static String signature(BSymbol symbol) {
+        StringBuilder signature = new StringBuilder();
+        signature.append(symbol.tag).append(' ').append(symbol.name.value).append(' ').append(symbol.flags);
+        if (symbol instanceof BConstantSymbol) {
+            // Constant values are inlined in the dependent modules
+            signature.append(" = ").append(((BConstantSymbol) symbol).value);
+        }
+
+        BType type = symbol.type;
+        if (type == null) {
+            return signature.toString();
+        }
+        signature.append(" : ");
+        // Named types are identified only by their names when they are referred to. Hence the type defined by a
+        // type definition, and the type of any other symbol, is added by its structure.
+        appendTypeStructure(signature, type, new HashSet<>());
+        if (symbol instanceof BInvokableSymbol) {
+            appendParams(signature, (BInvokableSymbol) symbol);
+        }
+        if (type.tsymbol instanceof BStructureTypeSymbol) {
+            for (BAttachedFunction attachedFunc : ((BStructureTypeSymbol) type.tsymbol).attachedFuncs) {
+                signature.append(" method ").append(attachedFunc.funcName.value).append(' ')
+                        .append(attachedFunc.symbol.flags).append(' ');
+                appendTypeIdentity(signature, attachedFunc.type, new HashSet<>());
+                appendParams(signature, attachedFunc.symbol);
+            }
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Appends the names, flags and types of the parameters of the given function. Named arguments are bound to the
+     * parameter positions, and omitted defaultable arguments are filled in, when the calls are compiled. Hence the
+     * calls of a dependent module have to be compiled again when a parameter is renamed, reordered or made required.
+     */
+    private static void appendParams(StringBuilder signature, BInvokableSymbol invokableSymbol) {
+        if (invokableSymbol.params != null) {
+            for (BVarSymbol param : invokableSymbol.params) {
+                signature.append(" param ");
+                appendParam(signature, param);
+            }
+        }
+        if (invokableSymbol.restParam != null) {
+            signature.append(" rest ");
+            appendParam(signature, invokableSymbol.restParam);
+        }
+    }
+
+    private static void appendParam(StringBuilder signature, BVarSymbol param) {
+        // The included record parameters are marked by the INCLUDED flag
+        signature.append(param.name.value).append(' ').append(param.flags).append(' ')
+                .append(param.defaultableParam ? "defaultable " : "");
+        appendTypeIdentity(signature, param.type, new HashSet<>());
+    }
+
+    /**
+     * Appends an identity of the given type which does not depend on {@code toString()} of the type.
+     * <p>
+     * {@code toString()} omits the module of named types, prints the generated names of anonymous types, which
+     * depend on the order in which the types are defined, and is not guaranteed to stay the same across
+     * releases. Instead, named types are identified by the module and the name, and all the other types by
+     * their structure.
+     */
+    private static void appendTypeIdentity(StringBuilder identity, BType type, Set<BType> visitedTypes) {
+        if (type == null) {
+            identity.append("()");
+            return;
+        }
+
+        if (isNamedType(type)) {
+            identity.append(type.tag).append('/').append(type.flags);
+            identity.append(' ').append(type.tsymbol.pkgID).append(':').append(type.tsymbol.name.value);
+            return;
+        }
+        appendTypeStructure(identity, type, visitedTypes);
+    }
+
+    /**
+     * Appends the structure of the given type, even if it is a named type. The types it refers to are appended by
+     * their identities.
+     */
+    private static void appendTypeStructure(StringBuilder identity, BType type, Set<BType> visitedTypes) {
+        identity.append(type.tag).append('/').append(type.flags);
+        // Recursive types are identified by the structure up to the first recursive reference
+        if (!visitedTypes.add(type)) {
+            identity.append(" <recursive>");
+            return;
+        }
+
+        identity.append('(');
+        if (type instanceof BUnionType) {
+            List<String> memberIdentities = new ArrayList<>();
+            for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                StringBuilder memberIdentity = new StringBuilder();
+                appendTypeIdentity(memberIdentity, memberType, visitedTypes);
+                memberIdentities.add(memberIdentity.toString());
+            }
+            // Union members are unordered
+            Collections.sort(memberIdentities);
+            identity.append(String.join("|", memberIdentities));
+        } else if (type instanceof BArrayType) {
+            BArrayType arrayType = (BArrayType) type;
+            appendTypeIdentity(identity, arrayType.eType, visitedTypes);
+            identity.append('[').append(arrayType.size).append(']');
+        } else if (type instanceof BMapType) {
+            appendTypeIdentity(identity, ((BMapType) type).constraint, visitedTypes);
+        } else if (type instanceof BTupleType) {
+            BTupleType tupleType = (BTupleType) type;
+            for (BType memberType : tupleType.tupleTypes) {
+                appendTypeIdentity(identity, memberType, visitedTypes);
+                identity.append(',');
+            }
+            identity.append("...");
+            appendTypeIdentity(identity, tupleType.restType, visitedTypes);
+        } else if (type instanceof BInvokableType) {
+            BInvokableType invokableType = (BInvokableType) type;
+            if (invokableType.paramTypes != null) {
+                for (BType paramType : invokableType.paramTypes) {
+                    appendTypeIdentity(identity, paramType, visitedTypes);
+                    identity.append(',');
+                }
+            }
+            identity.append("...");
+            appendTypeIdentity(identity, invokableType.restType, visitedTypes);
+            identity.append(" returns ");
+            appendTypeIdentity(identity, invokableType.retType, visitedTypes);
+        } else if (type instanceof BStructureType) {
+            appendShape(identity, (BStructureType) type, visitedTypes);
+        } else if (type instanceof BErrorType) {
+            appendTypeIdentity(identity, ((BErrorType) type).detailType, visitedTypes);
+        } else if (type instanceof BFiniteType) {
+            List<String> values = new ArrayList<>();
+            for (BLangExpression value : ((BFiniteType) type).getValueSpace()) {
+                values.add(value instanceof BLangLiteral ?
+                        ((BLangLiteral) value).type.tag + "=" + ((BLangLiteral) value).value : value.toString());
+            }
+            Collections.sort(values);
+            identity.append(String.join("|", values));
+        } else if (type instanceof BIntersectionType) {
+            appendTypeIdentity(identity, ((BIntersectionType) type).effectiveType, visitedTypes);
+        } else if (type instanceof BStreamType) {
+            appendTypeIdentity(identity, ((BStreamType) type).constraint, visitedTypes);
+            identity.append(',');
+            appendTypeIdentity(identity, ((BStreamType) type).error, visitedTypes);
+        } else if (type instanceof BTableType) {
+            BTableType tableType = (BTableType) type;
+            appendTypeIdentity(identity, tableType.constraint, visitedTypes);
+            identity.append(" key ").append(tableType.fieldNameList).append(' ');
+            appendTypeIdentity(identity, tableType.keyTypeConstraint, visitedTypes);
+        } else if (type instanceof BFutureType) {
+            appendTypeIdentity(identity, ((BFutureType) type).constraint, visitedTypes);
+        } else if (type instanceof BTypedescType) {
+            appendTypeIdentity(identity, ((BTypedescType) type).constraint, visitedTypes);
+        } else if (type instanceof BXMLType) {
+            appendTypeIdentity(identity, ((BXMLType) type).constraint, visitedTypes);
+        }
+        identity.append(')');
+        visitedTypes.remove(type);
+    }
+
+    private static void appendShape(StringBuilder identity, BStructureType type, Set<BType> visitedTypes) {
+        for (BField field : type.fields.values()) {
+            identity.append(" field ").append(field.name.value).append(' ').append(field.symbol.flags).append(' ');
+            appendTypeIdentity(identity, field.type, visitedTypes);
+        }
+        if (type instanceof BRecordType) {
+            BRecordType recordType = (BRecordType) type;
+            identity.append(" sealed ").append(recordType.sealed).append(" rest ");
+            appendTypeIdentity(identity, recordType.restFieldType, visitedTypes);
+        }
+    }
+
+    private static boolean isNamedType(BType type) {
+        BTypeSymbol typeSymbol = type.tsymbol;
+        return typeSymbol != null && typeSymbol.pkgID != null && typeSymbol.name != null
+                && !typeSymbol.name.value.isEmpty() && !Symbols.isFlagOn(typeSymbol.flags, Flags.ANONYMOUS);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // This path cannot be executed since every JVM supports SHA-256
+            throw new IllegalStateException("Failed to compute the build hash of the module", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        // Prefix the length to avoid ambiguities between adjacent values
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+}
@@ -47,6 +47,7 @@ public class ModuleCompilation {
 
     private final DependencyGraph<ModuleId> dependencyGraph;
     private DiagnosticResult diagnosticResult;
+    private volatile SemanticModel semanticModel;
 
     ModuleCompilation(PackageContext packageContext, ModuleContext moduleContext) {
         this.packageContext = packageContext;
@@ -108,7 +109,10 @@ public class ModuleCompilation {
     }
 
     public SemanticModel getSemanticModel() {
-        return new BallerinaSemanticModel(this.moduleContext.bLangPackage(), this.compilerContext);
+        if (semanticModel == null) {
+            semanticModel = new BallerinaSemanticModel(this.moduleContext.bLangPackage(), this.compilerContext);
+        }
+        return semanticModel;
     }
 
     public DiagnosticResult diagnostics() {
@@ -42,8 +42,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSourcesOrBuildCache(moduleContext, compilerContext);
         }
 
         @Override
@@ -71,8 +70,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSourcesOrBuildCache(moduleContext, compilerContext);
         }
 
         @Override
@@ -97,8 +95,7 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            compileFromSourcesOrBuildCache(moduleContext, compilerContext);
         }
 
         @Override
@@ -299,4 +296,20 @@ enum ModuleCompilationState {
     abstract void generatePlatformSpecificCode(ModuleContext moduleContext,
                                                CompilerContext compilerContext,
                                                CompilerBackend compilerBackend);
+
+    /**
+     * Loads the module symbol from the cached BIR if the module has not changed since the previous incremental build.
+     * Otherwise compiles the module from sources.
+     */
+    private static void compileFromSourcesOrBuildCache(ModuleContext moduleContext,
+                                                       CompilerContext compilerContext) {
+        if (ModuleContext.loadFromBuildCacheInternal(moduleContext, compilerContext)) {
+            // The platform-specific library generated by the previous build is already in the compilation cache
+            moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+            return;
+        }
+
+        ModuleContext.compileInternal(moduleContext, compilerContext);
+        moduleContext.setCompilationState(COMPILED);
+    }
 }
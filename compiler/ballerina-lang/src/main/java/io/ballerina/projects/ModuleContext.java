@@ -28,7 +28,6 @@ import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
-import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
@@ -38,6 +37,7 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -73,12 +73,16 @@ class ModuleContext {
     private final List<ModuleDescriptor> moduleDescDependencies;
 
     private Set<ModuleDependency> moduleDependencies;
+    private Set<ModuleContext> moduleDependencyContexts;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
+    private String buildHash;
+    private String interfaceHash;
+    private List<Diagnostic> cachedDiagnostics;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -213,6 +217,11 @@ class ModuleContext {
             return bLangPackage.getDiagnostics();
         }
 
+        // Modules loaded from the incremental build cache replay the diagnostics of their last compilation
+        if (cachedDiagnostics != null) {
+            return cachedDiagnostics;
+        }
+
         return Collections.emptyList();
     }
 
@@ -255,12 +264,13 @@ class ModuleContext {
 
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
+        Set<ModuleContext> moduleDependencyContexts = new HashSet<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
             for (ModuleDescriptor dependencyModDesc : moduleDescDependencies) {
                 // Dependencies loaded from cache should not contain test dependencies
                 addModuleDependency(dependencyModDesc.org(), dependencyModDesc.packageName(),
                         dependencyModDesc.name(), PackageDependencyScope.DEFAULT,
-                        moduleDependencies, dependencyResolution);
+                        moduleDependencies, moduleDependencyContexts, dependencyResolution);
             }
         } else {
             Set<ModuleLoadRequest> moduleLoadRequests = this.allModuleLoadRequests;
@@ -277,17 +287,19 @@ class ModuleContext {
                 }
 
                 addModuleDependency(packageOrg, modLoadRequest.moduleName(),
-                        modLoadRequest.scope(), moduleDependencies, dependencyResolution);
+                        modLoadRequest.scope(), moduleDependencies, moduleDependencyContexts, dependencyResolution);
             }
         }
 
         this.moduleDependencies = Collections.unmodifiableSet(moduleDependencies);
+        this.moduleDependencyContexts = Collections.unmodifiableSet(moduleDependencyContexts);
     }
 
     private void addModuleDependency(PackageOrg org,
                                      ModuleName moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     Set<ModuleContext> moduleDependencyContexts,
                                      DependencyResolution dependencyResolution) {
         Optional<ModuleContext> resolvedModuleOptional = dependencyResolution.getModule(org, moduleName.toString());
         if (resolvedModuleOptional.isEmpty()) {
@@ -299,6 +311,7 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.moduleId().packageId(), scope),
                 resolvedModule.moduleId());
         moduleDependencies.add(moduleDependency);
+        moduleDependencyContexts.add(resolvedModule);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -306,6 +319,7 @@ class ModuleContext {
                                      ModuleName moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     Set<ModuleContext> moduleDependencyContexts,
                                      DependencyResolution dependencyResolution) {
         Optional<Module> resolvedModuleOptional = dependencyResolution.getModule(org, packageName, moduleName);
         if (resolvedModuleOptional.isEmpty()) {
@@ -317,6 +331,28 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.packageInstance().packageId(), scope),
                 resolvedModule.moduleId());
         moduleDependencies.add(moduleDependency);
+        moduleDependencyContexts.add(resolvedModule.moduleContext());
+    }
+
+    /**
+     * Returns the hash of the exported symbol signatures of this module.
+     * <p>
+     * The interface hash is available only for the modules of the current package that are built with incremental
+     * builds enabled. For all the other modules, the hash is derived from the module descriptor.
+     *
+     * @return the interface hash of this module
+     */
+    String interfaceHash() {
+        if (interfaceHash != null) {
+            return interfaceHash;
+        }
+        return ModuleBuildHashes.interfaceHash(moduleDescriptor);
+    }
+
+    private boolean isBuildCacheEnabled() {
+        return project.kind() == ProjectKind.BUILD_PROJECT
+                && project.buildOptions().incrementalBuild()
+                && System.getProperty("BOOTSTRAP_LANG_LIB") == null;
     }
 
     void compile(CompilerContext compilerContext) {
@@ -336,6 +372,54 @@ class ModuleContext {
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
+    /**
+     * Loads the module from the artifacts cached by a previous build, if the inputs of the module have not changed.
+     *
+     * @param moduleContext   module to be loaded
+     * @param compilerContext compiler context
+     * @return true if the module symbol is loaded from the cached BIR
+     */
+    static boolean loadFromBuildCacheInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (!moduleContext.isBuildCacheEnabled() || moduleContext.moduleDependencyContexts == null) {
+            return false;
+        }
+
+        List<String> dependencyInterfaceHashes = new ArrayList<>();
+        for (ModuleContext dependencyContext : moduleContext.moduleDependencyContexts) {
+            dependencyInterfaceHashes.add(dependencyContext.interfaceHash());
+        }
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
+        moduleContext.buildHash = ModuleBuildHashes.buildHash(moduleContext, compilerOptions,
+                dependencyInterfaceHashes);
+
+        // The test jar is generated from the BLangPackage of the module. Therefore, modules with tests are
+        // compiled from sources unless tests are skipped.
+        if (!Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS))
+                && !moduleContext.testSrcDocumentIds().isEmpty()) {
+            return false;
+        }
+
+        // Compiler plugins need the semantic model of every module of the package
+        if (CompilerPluginManager.hasEngagedCompilerPlugins(moduleContext.project.currentPackage().getResolution())) {
+            return false;
+        }
+
+        CompilationCache compilationCache = moduleContext.compilationCache;
+        Optional<byte[]> cachedBir = compilationCache.getBir(moduleContext.moduleName(), moduleContext.buildHash);
+        Optional<String> cachedInterfaceHash = compilationCache.getInterfaceHash(moduleContext.moduleName());
+        Optional<List<Diagnostic>> cachedDiagnostics = compilationCache.getDiagnostics(moduleContext.moduleName())
+                .flatMap(CachedDiagnostics::fromJson);
+        if (cachedBir.isEmpty() || cachedInterfaceHash.isEmpty() || cachedDiagnostics.isEmpty()) {
+            return false;
+        }
+
+        moduleContext.birBytes = cachedBir.get();
+        moduleContext.interfaceHash = cachedInterfaceHash.get();
+        moduleContext.cachedDiagnostics = cachedDiagnostics.get();
+        loadPackageSymbolInternal(moduleContext, compilerContext);
+        return true;
+    }
+
     static void compileInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
@@ -345,7 +429,6 @@ class ModuleContext {
 
         org.wso2.ballerinalang.compiler.PackageCache packageCache =
                 org.wso2.ballerinalang.compiler.PackageCache.getInstance(compilerContext);
-        SymbolEnter symbolEnter = SymbolEnter.getInstance(compilerContext);
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
 
         BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
@@ -365,7 +448,7 @@ class ModuleContext {
         }
 
         pkgNode.pos = new BLangDiagnosticLocation(moduleContext.moduleName().toString(), 0, 0, 0, 0);
-        symbolEnter.definePackage(pkgNode);
+        compilerPhaseRunner.define(pkgNode);
         packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
 
         if (bootstrapLangLibName != null) {
@@ -374,6 +457,10 @@ class ModuleContext {
             compilerPhaseRunner.performTypeCheckPhases(pkgNode);
         }
         moduleContext.bLangPackage = pkgNode;
+
+        if (moduleContext.isBuildCacheEnabled()) {
+            moduleContext.interfaceHash = ModuleBuildHashes.interfaceHash(pkgNode.symbol);
+        }
     }
 
     static void generateCodeInternal(ModuleContext moduleContext,
@@ -396,6 +483,14 @@ class ModuleContext {
             return;
         }
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+
+        // Record the hashes only after the BIR and the platform-specific libraries are cached successfully
+        if (moduleContext.buildHash != null && !Diagnostics.hasErrors(moduleContext.diagnostics())) {
+            moduleContext.compilationCache.cacheDiagnostics(moduleContext.moduleName(),
+                    CachedDiagnostics.toJson(moduleContext.diagnostics()));
+            moduleContext.compilationCache.cacheBuildHashes(moduleContext.moduleName(), moduleContext.buildHash,
+                    moduleContext.interfaceHash);
+        }
     }
 
     private static void cacheBIR(ModuleContext moduleContext) {
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
@@ -42,6 +43,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROFILE_COMPILER;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TAINT_CHECK;
 
@@ -57,6 +59,7 @@ public class PackageCompilation {
     private final CompilerContext compilerContext;
     private final Map<TargetPlatform, CompilerBackend> compilerBackends;
     private final List<Diagnostic> pluginDiagnostics;
+    private final Map<ModuleId, SemanticModel> semanticModels;
 
     private DiagnosticResult diagnosticResult;
     private volatile boolean compiled;
@@ -75,6 +78,7 @@ public class PackageCompilation {
         // We have only the jvm backend for now.
         this.compilerBackends = new HashMap<>(1);
         this.pluginDiagnostics = new ArrayList<>();
+        this.semanticModels = new ConcurrentHashMap<>();
     }
 
     private void setCompilerOptions(CompilationOptions compilationOptions) {
@@ -87,6 +91,7 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, compilationOptions.getBirDumpFile());
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(TAINT_CHECK, Boolean.toString(compilationOptions.getTaintCheck()));
+        options.put(PROFILE_COMPILER, Boolean.toString(compilationOptions.profileCompiler()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext) {
@@ -116,6 +121,18 @@ public class PackageCompilation {
         return diagnosticResult;
     }
 
+    /**
+     * Returns the per-phase compiler profile of this compilation.
+     * <p>
+     * The profile is recorded only if the {@code profileCompiler} build option is set. The phases of the code
+     * generation are added to the same profile once a compiler backend generates code for this compilation.
+     *
+     * @return the compiler profile of this compilation
+     */
+    public CompilerProfile compilerProfile() {
+        return CompilerProfile.getInstance(compilerContext);
+    }
+
     public SemanticModel getSemanticModel(ModuleId moduleId) {
         ModuleContext moduleContext = this.rootPackageContext.moduleContext(moduleId);
         // We check whether the particular module compilation state equal to the typecheck phase here. 
@@ -126,7 +143,10 @@ public class PackageCompilation {
                     "This is an internal error which will be fixed in a later release.");
         }
 
-        return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
+        // The semantic model indexes the module lazily. Hence the same model is returned for a module, so that
+        // the index is built only once per compilation.
+        return semanticModels.computeIfAbsent(moduleId,
+                id -> new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext));
     }
 
     CompilerPluginManager compilerPluginManager() {
@@ -17,6 +17,7 @@
  */
 package io.ballerina.projects.internal;
 
+import io.ballerina.projects.CompilerProfile;
 import org.ballerinalang.compiler.CompilerPhase;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.BIRGen;
@@ -71,6 +72,7 @@ public class CompilerPhaseRunner {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final CompilerProfile compilerProfile;
     private boolean isToolingCompilation;
 
 
@@ -103,6 +105,7 @@ public class CompilerPhaseRunner {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.compilerProfile = CompilerProfile.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -210,51 +213,63 @@ public class CompilerPhaseRunner {
     }
 
     public BLangPackage define(BLangPackage pkgNode) {
-        return this.symbolEnter.definePackage(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.DEFINE, pkgNode,
+                () -> this.symbolEnter.definePackage(pkgNode));
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.TYPE_CHECK, pkgNode,
+                () -> this.semAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.DOCUMENTATION_ANALYZE, pkgNode,
+                () -> this.documentationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.CODE_ANALYZE, pkgNode,
+                () -> this.codeAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.DATAFLOW_ANALYZE, pkgNode,
+                () -> this.dataflowAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.ISOLATION_ANALYZE, pkgNode,
+                () -> this.isolationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage taintAnalyze(BLangPackage pkgNode) {
-        return this.taintAnalyzer.analyze(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.TAINT_ANALYZE, pkgNode,
+                () -> this.taintAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.CONSTANT_PROPAGATION, pkgNode,
+                () -> this.constantPropagation.perform(pkgNode));
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.COMPILER_PLUGIN, pkgNode,
+                () -> this.compilerPluginRunner.runPlugins(pkgNode));
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.DESUGAR, pkgNode,
+                () -> this.desugar.perform(pkgNode));
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.BIR_GEN, pkgNode,
+                () -> this.birGenerator.genBIR(pkgNode));
     }
 
     private BLangPackage birEmit(BLangPackage pkgNode) {
-        return this.birEmitter.emit(pkgNode);
+        return this.compilerProfile.profile(CompilerPhase.BIR_EMIT, pkgNode,
+                () -> this.birEmitter.emit(pkgNode));
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
@@ -177,8 +177,19 @@ public class Target {
      *
      */
     public void clean() throws IOException {
+        clean(false);
+    }
+
+    /**
+     * Clean any files that created from the build.
+     *
+     * @param retainCaches whether to retain the compilation caches required by incremental builds
+     */
+    public void clean(boolean retainCaches) throws IOException {
         // Remove from cache
-        FileUtils.deleteDirectory(this.cache.toFile());
+        if (!retainCaches) {
+            FileUtils.deleteDirectory(this.cache.toFile());
+        }
         // Remove any generated bala
         FileUtils.deleteDirectory(this.balaCachePath.toFile());
         FileUtils.deleteDirectory(this.binPath.toFile());
@@ -20,17 +20,32 @@ package io.ballerina.projects.repos;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Default {@code CompilationCache} linked with the {@code BuildProject}.
+ * <p>
+ * Along with the BIR of each module, this cache records the build hash and the interface hash of the module so
+ * that an incremental build can reuse the cached artifacts of modules whose inputs have not changed.
  *
  * @since 2.0.0
  */
 public class BuildProjectCompilationCache extends FileSystemCache {
     private static final String TARGET_DIR_NAME = "target";
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final String BUILD_HASHES_FILE_EXT = ".hashes";
+    private static final String BUILD_HASH_KEY = "build.hash";
+    private static final String INTERFACE_HASH_KEY = "interface.hash";
+    private static final String DIAGNOSTICS_FILE_EXT = ".diagnostics.json";
 
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
@@ -43,8 +58,106 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory. The cached BIR is reused only
+        // through getBir(ModuleName, String) once the build hash of the module is verified.
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // Unlike the repository caches, the BIR of a build project changes between builds.
+        // Therefore we always overwrite the cached BIR.
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> getBir(ModuleName moduleName, String buildHash) {
+        Optional<String> cachedBuildHash = readBuildHashes(moduleName)
+                .map(hashes -> hashes.getProperty(BUILD_HASH_KEY));
+        if (cachedBuildHash.isEmpty() || !cachedBuildHash.get().equals(buildHash)) {
+            return Optional.empty();
+        }
+
+        byte[] birContent = super.getBir(moduleName);
+        return birContent.length == 0 ? Optional.empty() : Optional.of(birContent);
+    }
+
+    @Override
+    public Optional<String> getInterfaceHash(ModuleName moduleName) {
+        return readBuildHashes(moduleName).map(hashes -> hashes.getProperty(INTERFACE_HASH_KEY));
+    }
+
+    @Override
+    public void cacheBuildHashes(ModuleName moduleName, String buildHash, String interfaceHash) {
+        Properties hashes = new Properties();
+        hashes.setProperty(BUILD_HASH_KEY, buildHash);
+        hashes.setProperty(INTERFACE_HASH_KEY, interfaceHash);
+        Path hashesFilePath = getBuildHashesFilePath(moduleName);
+        try {
+            Files.createDirectories(hashesFilePath.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(hashesFilePath)) {
+                hashes.store(outputStream, null);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the build hashes of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getDiagnostics(ModuleName moduleName) {
+        Path diagnosticsFilePath = getDiagnosticsFilePath(moduleName);
+        if (!Files.exists(diagnosticsFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readString(diagnosticsFilePath));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheDiagnostics(ModuleName moduleName, String diagnostics) {
+        Path diagnosticsFilePath = getDiagnosticsFilePath(moduleName);
+        try {
+            Files.createDirectories(diagnosticsFilePath.getParent());
+            Files.writeString(diagnosticsFilePath, diagnostics);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the diagnostics of module: " + moduleName, e);
+        }
+    }
+
+    private Optional<Properties> readBuildHashes(ModuleName moduleName) {
+        Path hashesFilePath = getBuildHashesFilePath(moduleName);
+        if (!Files.exists(hashesFilePath)) {
+            return Optional.empty();
+        }
+
+        Properties hashes = new Properties();
+        try (InputStream inputStream = Files.newInputStream(hashesFilePath)) {
+            hashes.load(inputStream);
+        } catch (IOException e) {
+            // A corrupted hashes file should only cause the module to be recompiled
+            return Optional.empty();
+        }
+
+        if (hashes.getProperty(BUILD_HASH_KEY) == null || hashes.getProperty(INTERFACE_HASH_KEY) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(hashes);
+    }
+
+    private Path getBuildHashesFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + BUILD_HASHES_FILE_EXT);
+    }
+
+    private Path getDiagnosticsFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + DIAGNOSTICS_FILE_EXT);
+    }
 }
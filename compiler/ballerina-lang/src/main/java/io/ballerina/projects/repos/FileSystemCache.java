@@ -31,7 +31,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An implementation of the {@code PackageCompilationCache} that is aware of the file system structure.
@@ -115,6 +120,47 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName, Path libraryFile) {
+        String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
+        Path targetPlatformCacheDirPath = getTargetPlatformCacheDirPath(compilerBackend);
+        createDirectories(targetPlatformCacheDirPath);
+        Path jarFilePath = targetPlatformCacheDirPath.resolve(libraryFileName);
+        try {
+            Files.move(libraryFile, jarFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write library: " + jarFilePath, e);
+        }
+    }
+
+    @Override
+    public void removePlatformSpecificLibraries(CompilerBackend compilerBackend, Predicate<String> libraryNameFilter) {
+        Path targetPlatformCacheDirPath = getTargetPlatformCacheDirPath(compilerBackend);
+        if (!Files.isDirectory(targetPlatformCacheDirPath)) {
+            return;
+        }
+
+        String libraryFileExtension = compilerBackend.libraryFileExtension();
+        List<Path> libraryFilePaths;
+        try (Stream<Path> paths = Files.list(targetPlatformCacheDirPath)) {
+            libraryFilePaths = paths.filter(path -> {
+                String fileName = path.getFileName().toString();
+                return fileName.endsWith(libraryFileExtension) && libraryNameFilter.test(
+                        fileName.substring(0, fileName.length() - libraryFileExtension.length()));
+            }).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list libraries in: " + targetPlatformCacheDirPath, e);
+        }
+
+        for (Path libraryFilePath : libraryFilePaths) {
+            try {
+                Files.deleteIfExists(libraryFilePath);
+            } catch (IOException e) {
+                // A stale library that cannot be removed now gets removed by a later build
+            }
+        }
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -133,7 +179,7 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
-    private Path getBirPath() {
+    protected Path getBirPath() {
         if (birPath != null) {
             return birPath;
         }
@@ -173,6 +173,7 @@ public class JvmConstants {
     public static final String RUNTIME_UTILS = "io/ballerina/runtime/internal/util/RuntimeUtils";
     public static final String ARGUMENT_PARSER = "io/ballerina/runtime/internal/util/ArgumentParser";
     public static final String LAUNCH_UTILS = "io/ballerina/runtime/internal/launch/LaunchUtils";
+    public static final String STARTUP_PROFILER = "io/ballerina/runtime/internal/launch/StartupProfiler";
     public static final String MATH_UTILS = "io/ballerina/runtime/internal/MathUtils";
     public static final String BAL_ERROR_REASONS =
             "io/ballerina/runtime/internal/util/exceptions/BallerinaErrorReasons";
@@ -39,7 +39,10 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
@@ -65,6 +68,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -88,6 +92,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -113,6 +118,7 @@ import static org.objectweb.asm.Opcodes.LSUB;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -188,6 +194,9 @@ public class JvmInstructionGen {
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
 
+    // The constant load instruction generated just before the current instruction of the basic block, if any
+    private BIRNonTerminator.ConstantLoad previousConstantLoad;
+
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                              JvmBStringConstantsGen stringConstantsGen, AsyncDataCollector asyncDataCollector) {
@@ -1196,6 +1205,14 @@ public class JvmInstructionGen {
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
         BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
+        Label storeEndLabel = new Label();
+        if (!mapStoreIns.onInitialization) {
+            BField recordField = getDirectlyAccessibleRecordField(varRefType, mapStoreIns.keyOp, true);
+            if (recordField != null) {
+                generateRecordFieldStore(varRefType, recordField, mapStoreIns.rhsOp.variableDcl, storeEndLabel);
+            }
+        }
+
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
 
@@ -1216,6 +1233,7 @@ public class JvmInstructionGen {
                                              MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+        this.mv.visitLabel(storeEndLabel);
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
@@ -1224,6 +1242,15 @@ public class JvmInstructionGen {
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        Label loadEndLabel = new Label();
+        if (!mapLoadIns.fillingRead) {
+            BField recordField = getDirectlyAccessibleRecordField(varRefType, mapLoadIns.keyOp, false);
+            if (recordField != null) {
+                generateRecordFieldLoad(varRefType, recordField, targetType, loadEndLabel);
+            }
+        }
+
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
 
@@ -1249,12 +1276,97 @@ public class JvmInstructionGen {
             }
         }
 
-        // store in the target reg
-        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
+
+        // store in the target reg
+        this.mv.visitLabel(loadEndLabel);
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Returns the field of a record type which can be accessed directly using the JVM field of the record value
+     * class, instead of going through the map operations of the record value.
+     * <p>
+     * A field can be accessed directly only if the key is a string constant, the field is a required field, and the
+     * record value class is generated in the current module, since the JVM fields of a record value class are only
+     * accessible within the module.
+     *
+     * @param varRefType the static type of the mapping value
+     * @param keyOp      the key of the field access
+     * @param isStore    whether the field is updated
+     * @return the record field, or null if the field cannot be accessed directly
+     */
+    private BField getDirectlyAccessibleRecordField(BType varRefType, BIROperand keyOp, boolean isStore) {
+        if (varRefType.tag != TypeTags.RECORD || previousConstantLoad == null ||
+                previousConstantLoad.lhsOp.variableDcl != keyOp.variableDcl ||
+                !(previousConstantLoad.value instanceof String) || !currentPackage.equals(varRefType.tsymbol.pkgID) ||
+                jvmPackageGen.lookupRecordValueClassName(varRefType) == null) {
+            return null;
+        }
+
+        if (isStore && Symbols.isFlagOn(varRefType.flags, Flags.READONLY)) {
+            return null;
+        }
+
+        String fieldName = (String) previousConstantLoad.value;
+        for (BField field : ((BRecordType) varRefType).fields.values()) {
+            if (!fieldName.equals(IdentifierUtils.decodeIdentifier(field.name.value))) {
+                continue;
+            }
+            if (Symbols.isFlagOn(field.symbol.flags, Flags.OPTIONAL) ||
+                    (isStore && Symbols.isFlagOn(field.symbol.flags, Flags.READONLY))) {
+                return null;
+            }
+            return field;
+        }
+        return null;
+    }
+
+    private void generateRecordFieldLoad(BType recordType, BField field, BType targetType, Label loadEndLabel) {
+        String className = jvmPackageGen.lookupRecordValueClassName(recordType);
+        Label mapLoadLabel = new Label();
+
+        // Values of other record types may belong to the static type, hence fall back to the map load for them.
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, getTypeDesc(field.type));
+        generateRecordFieldValueConversion(field.type, targetType);
+        this.mv.visitJumpInsn(GOTO, loadEndLabel);
+        this.mv.visitLabel(mapLoadLabel);
+    }
+
+    private void generateRecordFieldStore(BType recordType, BField field, BIRNode.BIRVariableDcl valueVarDcl,
+                                          Label storeEndLabel) {
+        String className = jvmPackageGen.lookupRecordValueClassName(recordType);
+        Label mapStoreLabel = new Label();
+
+        // Values of other record types, and record values which are made read-only after their creation, are
+        // updated through the map store, which does the required inherent type checks.
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapStoreLabel);
+        this.mv.visitInsn(DUP);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "isFrozen", "()Z", true);
+        this.mv.visitJumpInsn(IFNE, mapStoreLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.loadVar(valueVarDcl);
+        generateRecordFieldValueConversion(valueVarDcl.type, field.type);
+        this.mv.visitFieldInsn(PUTFIELD, className, field.name.value, getTypeDesc(field.type));
+        this.mv.visitJumpInsn(GOTO, storeEndLabel);
+        this.mv.visitLabel(mapStoreLabel);
+    }
+
+    private void generateRecordFieldValueConversion(BType sourceType, BType targetType) {
+        // Values are boxed and unboxed only if the JVM types of the source and the target are different
+        if (getTypeDesc(sourceType).equals(getTypeDesc(targetType))) {
+            return;
+        }
+        jvmCastGen.addBoxInsn(this.mv, sourceType);
+        jvmCastGen.addUnboxInsn(this.mv, targetType);
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1882,6 +1994,16 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        generateInstruction(localVarOffset, inst);
+        previousConstantLoad = inst.getKind() == InstructionKind.CONST_LOAD ?
+                (BIRNonTerminator.ConstantLoad) inst : null;
+    }
+
+    void resetPreviousInstruction() {
+        previousConstantLoad = null;
+    }
+
+    private void generateInstruction(int localVarOffset, BIRInstruction inst) {
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
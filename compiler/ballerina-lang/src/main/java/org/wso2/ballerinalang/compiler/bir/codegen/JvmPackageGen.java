@@ -131,6 +131,7 @@ public class JvmPackageGen {
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
+    private final Map<BType, String> recordValueClassMap;
     private final Map<String, PackageID> dependentModules;
     private final BLangDiagnosticLog dlog;
 
@@ -138,6 +139,7 @@ public class JvmPackageGen {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
+        recordValueClassMap = new HashMap<>();
         dependentModules = new LinkedHashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
@@ -583,6 +585,14 @@ public class JvmPackageGen {
         for (BIRTypeDefinition optionalTypeDef : typeDefs) {
             BType bType = optionalTypeDef.type;
 
+            // Link the value classes of record types, except the ones of type labels, for direct field access
+            if (bType.tag == TypeTags.RECORD && optionalTypeDef.internalName.equals(bType.tsymbol.name)) {
+                String pkgName = JvmCodeGenUtil.getPackageName(module.packageID);
+                recordValueClassMap.put(bType,
+                        JvmValueGen.getTypeValueClassName(pkgName, optionalTypeDef.internalName.value));
+                continue;
+            }
+
             if ((bType.tag != TypeTags.OBJECT || !Symbols.isFlagOn(bType.tsymbol.flags, Flags.CLASS))) {
                 continue;
             }
@@ -704,6 +714,10 @@ public class JvmPackageGen {
         return birFuncWrapperOrError;
     }
 
+    String lookupRecordValueClassName(BType recordType) {
+        return recordValueClassMap.get(recordType);
+    }
+
     public String lookupExternClassName(String pkgName, String functionName) {
 
         return externClassMap.get(pkgName + "/" + functionName);
@@ -736,6 +750,7 @@ public class JvmPackageGen {
         birFunctionMap.clear();
         globalVarClassMap.clear();
         externClassMap.clear();
+        recordValueClassMap.clear();
         dependentModules.clear();
     }
 
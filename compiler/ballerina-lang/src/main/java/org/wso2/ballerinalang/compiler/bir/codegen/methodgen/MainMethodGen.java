@@ -64,6 +64,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONFIGURE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LAUNCH_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PATH;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STARTUP_PROFILER;
 
 /**
  * Generates Jvm byte code for the main method.
@@ -121,6 +122,9 @@ public class MainMethodGen {
             generateMethodCall(initClass, mv, JvmConstants.MODULE_INIT,
                                MethodGenUtils.INIT_FUNCTION_SUFFIX, INIT_FUTURE_VAR);
         }
+        if (!serviceEPAvailable) {
+            reportStartupProfile(mv);
+        }
 
         if (userMainFunc != null) {
             generateUserMainFunctionCall(userMainFunc, initClass, asyncDataCollector, mv);
@@ -129,6 +133,9 @@ public class MainMethodGen {
 
         if (hasInitFunction) {
             generateMethodCall(initClass, mv, JvmConstants.MODULE_START, "start", START_FUTURE_VAR);
+            if (serviceEPAvailable) {
+                reportStartupProfile(mv);
+            }
             setListenerFound(mv, serviceEPAvailable);
         }
         stopListeners(mv, serviceEPAvailable);
@@ -161,6 +168,11 @@ public class MainMethodGen {
         mv.visitMethodInsn(INVOKEVIRTUAL, JvmConstants.SCHEDULER, JvmConstants.SCHEDULER_START_METHOD, "()V", false);
     }
 
+    private void reportStartupProfile(MethodVisitor mv) {
+        // Programs with listeners have started once the modules are started, others once the modules are initialized
+        mv.visitMethodInsn(INVOKESTATIC, STARTUP_PROFILER, "report", "()V", false);
+    }
+
     private void invokeConfigInit(MethodVisitor mv, PackageID packageID) {
         String configClass = JvmCodeGenUtil.getModuleLevelClassName(packageID, CONFIGURATION_CLASS_NAME);
         mv.visitMethodInsn(INVOKESTATIC, LAUNCH_UTILS, "getConfigPath", "()L" + PATH + ";", false);
@@ -63,6 +63,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static io.ballerina.runtime.internal.launch.StartupProfiler.INIT_PHASE;
+import static io.ballerina.runtime.internal.launch.StartupProfiler.START_PHASE;
 import static org.objectweb.asm.Opcodes.AALOAD;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -105,6 +107,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CHANNEL_DETAILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
@@ -113,10 +116,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STARTUP_PROFILER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STREAM_VALUE;
@@ -205,6 +210,9 @@ public class MethodGen {
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
         mv.visitJumpInsn(IFGT, resumeLabel);
 
+        // The phase is started only on the first call, since the function is called again on each resume
+        visitStartupPhase(func, module.packageID, "start", mv);
+
         Label varinitLabel = labelGen.getLabel(funcName + "varinit");
         mv.visitLabel(varinitLabel);
 
@@ -277,6 +285,22 @@ public class MethodGen {
                           MODULE_START_ATTEMPTED, "Z");
     }
 
+    private void visitStartupPhase(BIRFunction func, PackageID packageID, String profilerMethod, MethodVisitor mv) {
+        String phase;
+        if (MethodGenUtils.isModuleInitFunction(func)) {
+            phase = INIT_PHASE;
+        } else if (isModuleStartFunction(func.name.value)) {
+            phase = START_PHASE;
+        } else {
+            return;
+        }
+        mv.visitFieldInsn(GETSTATIC, JvmCodeGenUtil.getModuleLevelClassName(packageID, MODULE_INIT_CLASS_NAME),
+                          CURRENT_MODULE_VAR_NAME, String.format("L%s;", MODULE));
+        mv.visitLdcInsn(phase);
+        mv.visitMethodInsn(INVOKESTATIC, STARTUP_PROFILER, profilerMethod, String.format("(L%s;L%s;)V", MODULE,
+                                                                                         STRING_VALUE), false);
+    }
+
     private void setChannelDetailsToStrand(BIRFunction func, int localVarOffset, MethodVisitor mv) {
         // these channel info is required to notify datachannels, when there is a panic
         // we cannot set this during strand creation, because function call do not have this info.
@@ -499,6 +523,9 @@ public class MethodGen {
             generateAnnotLoad(mv, module.typeDefs, JvmCodeGenUtil.getPackageName(module.packageID),
                               jvmTypeGen, localVarOffset);
         }
+        if (terminator.kind == InstructionKind.RETURN) {
+            visitStartupPhase(func, module.packageID, "end", mv);
+        }
         //set module start success to true for $_init class
         if (isModuleStartFunction(funcName) && terminator.kind == InstructionKind.RETURN) {
             mv.visitInsn(ICONST_1);
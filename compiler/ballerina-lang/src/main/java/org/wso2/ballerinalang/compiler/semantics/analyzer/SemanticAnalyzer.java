@@ -272,7 +272,12 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
 
     public BLangPackage analyze(BLangPackage pkgNode) {
         this.dlog.setCurrentPackageId(pkgNode.packageID);
-        pkgNode.accept(this);
+        types.startTypeRelationCache();
+        try {
+            pkgNode.accept(this);
+        } finally {
+            types.stopTypeRelationCache();
+        }
         return pkgNode;
     }
 
@@ -682,6 +687,7 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
         if (isRecordType && allReadOnlyFields) {
             type.tsymbol.flags |= Flags.READONLY;
             type.flags |= Flags.READONLY;
+            types.typesModified();
         }
 
         validateOptionalNeverTypedField(recordTypeNode);
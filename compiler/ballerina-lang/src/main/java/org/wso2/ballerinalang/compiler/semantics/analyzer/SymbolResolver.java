@@ -1159,7 +1159,12 @@ public class SymbolResolver extends BLangNodeVisitor {
                 recordSymbol.name = names.fromString(
                         anonymousModelHelper.getNextAnonymousTypeKey(env.enclPkg.packageID));
                 symbolEnter.defineSymbol(recordTypeNode.pos, recordTypeNode.symbol, env);
-                symbolEnter.defineNode(recordTypeNode, env);
+                types.suspendTypeRelationCache();
+                try {
+                    symbolEnter.defineNode(recordTypeNode, env);
+                } finally {
+                    types.resumeTypeRelationCache();
+                }
             }
 
             resultType = recordType;
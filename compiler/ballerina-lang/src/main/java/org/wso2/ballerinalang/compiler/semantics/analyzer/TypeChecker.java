@@ -3002,6 +3002,7 @@ public class TypeChecker extends BLangNodeVisitor {
                     return;
                 }
             }
+            types.typesModified();
         }
         visit(objectCtorExpression.typeInit);
     }
@@ -7632,6 +7633,7 @@ public class TypeChecker extends BLangNodeVisitor {
     private void markTypeAsIsolated(BType actualType) {
         actualType.flags |= Flags.ISOLATED;
         actualType.tsymbol.flags |= Flags.ISOLATED;
+        types.typesModified();
     }
 
     private boolean isObjectConstructorExpr(BLangTypeInit cIExpr, BType actualType) {
@@ -7685,6 +7687,7 @@ public class TypeChecker extends BLangNodeVisitor {
 
         ImmutableTypeCloner.markFieldsAsImmutable(classDefForConstructor, env, actualObjectType, types,
                                                   anonymousModelHelper, symTable, names, cIExpr.pos);
+        types.typesModified();
 
         semanticAnalyzer.analyzeNode(classDefForConstructor, env);
     }
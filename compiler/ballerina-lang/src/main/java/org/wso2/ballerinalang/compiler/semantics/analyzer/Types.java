@@ -98,6 +98,7 @@ import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -107,6 +108,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
@@ -146,6 +148,15 @@ public class Types {
     private final BLangAnonymousModelHelper anonymousModelHelper;
     private int recordCount = 0;
     private SymbolEnv env;
+    // Results of the top-level assignability and equivalence checks of record and object types. See
+    // isCacheableTypePair for the types of which the results are cached.
+    private final Map<TypePair, Boolean> assignableTypePairs = new HashMap<>();
+    private final Map<TypePair, Boolean> sameTypePairs = new HashMap<>();
+    private boolean typeRelationCacheEnabled = false;
+    private int typeRelationCacheSuspensions = 0;
+    // Incremented whenever types are modified after they are defined, which invalidates the cached results
+    private int typeModificationCount = 0;
+    private int cachedTypeModificationCount = 0;
 
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
@@ -310,7 +321,87 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (!isCacheableTypePair(source, target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+        if (source == target) {
+            return true;
+        }
+        return getCachedTypeRelation(sameTypePairs, source, target,
+                () -> isSameType(source, target, new HashSet<>()));
+    }
+
+    /**
+     * Starts caching the results of the assignability and equivalence checks of record and object types.
+     * <p>
+     * The cache is used only while a package is being type checked, and dropped once the package is type checked,
+     * so that it does not hold the types of the package afterwards.
+     */
+    public void startTypeRelationCache() {
+        typeRelationCacheEnabled = true;
+    }
+
+    /**
+     * Stops caching the results of the assignability and equivalence checks, and drops the cached results.
+     */
+    public void stopTypeRelationCache() {
+        typeRelationCacheEnabled = false;
+        assignableTypePairs.clear();
+        sameTypePairs.clear();
+    }
+
+    /**
+     * Suspends caching the results of the assignability and equivalence checks.
+     * <p>
+     * The fields and the methods of record and object types are filled in only after the types are created. Hence
+     * caching is suspended while new types are being defined.
+     */
+    public void suspendTypeRelationCache() {
+        typeRelationCacheSuspensions++;
+    }
+
+    /**
+     * Resumes caching the results of the assignability and equivalence checks.
+     */
+    public void resumeTypeRelationCache() {
+        typeRelationCacheSuspensions--;
+        typesModified();
+    }
+
+    /**
+     * Records that record or object types, or the types they refer to, have been modified after they were defined,
+     * so that the results of the checks done before the modification are not reused.
+     * <p>
+     * For example, the type checker marks the types of object constructors as readonly or isolated, and sets their
+     * type IDs.
+     */
+    public void typesModified() {
+        typeModificationCount++;
+    }
+
+    private boolean isCacheableTypePair(BType source, BType target) {
+        // Only the results of the top-level checks are cached. The results of the nested checks of recursive types
+        // assume that the pairs being checked are related, and hence are valid only within the top-level check.
+        return typeRelationCacheEnabled && typeRelationCacheSuspensions == 0 &&
+                (source.tag == TypeTags.RECORD || source.tag == TypeTags.OBJECT) &&
+                (target.tag == TypeTags.RECORD || target.tag == TypeTags.OBJECT);
+    }
+
+    private boolean getCachedTypeRelation(Map<TypePair, Boolean> typeRelations, BType source, BType target,
+                                          BooleanSupplier relationChecker) {
+        if (cachedTypeModificationCount != typeModificationCount) {
+            assignableTypePairs.clear();
+            sameTypePairs.clear();
+            cachedTypeModificationCount = typeModificationCount;
+        }
+
+        TypePair pair = new TypePair(source, target);
+        Boolean related = typeRelations.get(pair);
+        if (related == null) {
+            related = relationChecker.getAsBoolean();
+            typeRelations.put(pair, related);
+        }
+        return related;
     }
 
     public boolean isPureType(BType type) {
@@ -630,7 +721,14 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (!isCacheableTypePair(source, target)) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+        if (source == target) {
+            return true;
+        }
+        return getCachedTypeRelation(assignableTypePairs, source, target,
+                () -> isAssignable(source, target, new HashSet<>()));
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+/**
+ * Tests the cache of the assignability and equivalence checks of record and object types in {@link Types}.
+ *
+ * @since 2.0.0
+ */
+public class TypeRelationCacheTest {
+
+    private Types types;
+    private SymbolTable symTable;
+
+    @BeforeClass
+    public void setup() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROJECT_API_INITIATED_COMPILATION, "true");
+        types = Types.getInstance(context);
+        symTable = SymbolTable.getInstance(context);
+    }
+
+    @BeforeMethod
+    public void startCache() {
+        types.startTypeRelationCache();
+    }
+
+    @AfterMethod
+    public void stopCache() {
+        types.stopTypeRelationCache();
+    }
+
+    @Test
+    public void testAddingRecordFieldAfterCachedCheck() {
+        BRecordType source = createClosedRecordType("Source");
+        BRecordType target = createClosedRecordType("Target");
+        addField(source, "id", symTable.intType);
+        addField(target, "id", symTable.intType);
+        addField(target, "name", symTable.stringType);
+        Assert.assertFalse(types.isAssignable(source, target));
+        Assert.assertFalse(types.isSameType(source, target));
+
+        // The fields of local record types are filled in after the types are created
+        types.suspendTypeRelationCache();
+        addField(source, "name", symTable.stringType);
+        types.resumeTypeRelationCache();
+        Assert.assertTrue(types.isAssignable(source, target));
+        Assert.assertTrue(types.isSameType(source, target));
+    }
+
+    @Test
+    public void testChangingFieldTypeAfterCachedCheck() {
+        BRecordType source = createClosedRecordType("Source");
+        BRecordType target = createClosedRecordType("Target");
+        addField(source, "value", symTable.stringType);
+        addField(target, "value", symTable.intType);
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        source.fields.get("value").type = symTable.intType;
+        types.typesModified();
+        Assert.assertTrue(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testMarkingObjectAsReadonlyAfterCachedCheck() {
+        BObjectType source = createObjectType("Source");
+        BObjectType target = createObjectType("Target");
+        target.flags |= Flags.READONLY;
+        target.tsymbol.flags |= Flags.READONLY;
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        // The type checker marks the types of object constructors with readonly references as readonly
+        source.flags |= Flags.READONLY;
+        source.tsymbol.flags |= Flags.READONLY;
+        types.typesModified();
+        Assert.assertTrue(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testCachedCheckIsReusedUntilTypesAreModified() {
+        BRecordType source = createClosedRecordType("Source");
+        BRecordType target = createClosedRecordType("Target");
+        addField(source, "value", symTable.stringType);
+        addField(target, "value", symTable.intType);
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        source.fields.get("value").type = symTable.intType;
+        Assert.assertFalse(types.isAssignable(source, target));
+
+        types.typesModified();
+        Assert.assertTrue(types.isAssignable(source, target));
+    }
+
+    @Test
+    public void testSameTypeIsAssignableWithoutCachedCheck() {
+        BRecordType type = createClosedRecordType("Type");
+        addField(type, "id", symTable.intType);
+        Assert.assertTrue(types.isAssignable(type, type));
+        Assert.assertTrue(types.isSameType(type, type));
+    }
+
+    @Test
+    public void testUnchangedTypesAfterCachedCheck() {
+        BRecordType source = createClosedRecordType("Source");
+        BRecordType target = createClosedRecordType("Target");
+        addField(source, "id", symTable.intType);
+        addField(target, "id", symTable.intType);
+        Assert.assertTrue(types.isAssignable(source, target));
+        Assert.assertTrue(types.isAssignable(source, target));
+
+        types.stopTypeRelationCache();
+        Assert.assertTrue(types.isAssignable(source, target));
+    }
+
+    private BRecordType createClosedRecordType(String name) {
+        BRecordTypeSymbol recordSymbol = Symbols.createRecordSymbol(Flags.PUBLIC, new Name(name),
+                PackageID.DEFAULT, null, symTable.rootPkgSymbol, symTable.builtinPos, SymbolOrigin.SOURCE);
+        BRecordType recordType = new BRecordType(recordSymbol);
+        recordSymbol.type = recordType;
+        recordType.sealed = true;
+        recordType.restFieldType = symTable.noType;
+        return recordType;
+    }
+
+    private BObjectType createObjectType(String name) {
+        BObjectTypeSymbol objectSymbol = Symbols.createObjectSymbol(Flags.PUBLIC, new Name(name),
+                PackageID.DEFAULT, null, symTable.rootPkgSymbol, symTable.builtinPos, SymbolOrigin.SOURCE);
+        BObjectType objectType = new BObjectType(objectSymbol);
+        objectSymbol.type = objectType;
+        return objectType;
+    }
+
+    private void addField(BStructureType structureType, String name, BType type) {
+        BVarSymbol fieldSymbol = new BVarSymbol(Flags.REQUIRED, new Name(name), PackageID.DEFAULT, type,
+                structureType.tsymbol, symTable.builtinPos, SymbolOrigin.SOURCE);
+        structureType.fields.put(name, new BField(fieldSymbol.name, symTable.builtinPos, fieldSymbol));
+    }
+}
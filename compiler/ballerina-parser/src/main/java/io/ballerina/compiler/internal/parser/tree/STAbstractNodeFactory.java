@@ -49,6 +49,12 @@ public abstract class STAbstractNodeFactory {
         if (children.isEmpty()) {
             return EMPTY_LIST;
         }
+        if (children.size() == 1) {
+            STNodeList sharedList = STMinutiaeTable.getList(children.iterator().next());
+            if (sharedList != null) {
+                return sharedList;
+            }
+        }
         return new STNodeList(children);
     }
 
@@ -56,6 +62,12 @@ public abstract class STAbstractNodeFactory {
         if (children.length == 0) {
             return EMPTY_LIST;
         }
+        if (children.length == 1) {
+            STNodeList sharedList = STMinutiaeTable.getList(children[0]);
+            if (sharedList != null) {
+                return sharedList;
+            }
+        }
         return new STNodeList(children);
     }
 
@@ -113,6 +125,11 @@ public abstract class STAbstractNodeFactory {
     }
 
     public static STNode createMinutiae(SyntaxKind kind, String text) {
+        // Common whitespaces and newlines are shared, since most tokens have them as minutiae
+        STMinutiae sharedMinutiae = STMinutiaeTable.get(kind, text);
+        if (sharedMinutiae != null) {
+            return sharedMinutiae;
+        }
         return new STMinutiae(kind, text);
     }
 
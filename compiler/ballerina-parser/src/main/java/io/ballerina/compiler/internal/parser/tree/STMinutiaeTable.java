@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.compiler.internal.parser.tree;
+
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+/**
+ * A table of the most common whitespace and end of line minutiae, which are shared by all the syntax trees.
+ * <p>
+ * Almost every token has a single space, an indentation or a newline as its leading or trailing minutiae. Since
+ * internal nodes are immutable, these minutiae and the minutiae lists that contain only one of them are created
+ * once and reused, instead of allocating a new node and a new list per token.
+ *
+ * @since 2.0.0
+ */
+final class STMinutiaeTable {
+    private static final int MAX_SHARED_WIDTH = 64;
+    private static final char SPACE = ' ';
+    private static final char TAB = '\t';
+    private static final String NEWLINE = "\n";
+    private static final String CARRIAGE_RETURN_NEWLINE = "\r\n";
+
+    private static final STMinutiae[] SPACES = new STMinutiae[MAX_SHARED_WIDTH + 1];
+    private static final STMinutiae[] TABS = new STMinutiae[MAX_SHARED_WIDTH + 1];
+    private static final STNodeList[] SPACE_LISTS = new STNodeList[MAX_SHARED_WIDTH + 1];
+    private static final STNodeList[] TAB_LISTS = new STNodeList[MAX_SHARED_WIDTH + 1];
+    private static final STMinutiae NEWLINE_MINUTIAE =
+            new STMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, NEWLINE);
+    private static final STMinutiae CARRIAGE_RETURN_NEWLINE_MINUTIAE =
+            new STMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, CARRIAGE_RETURN_NEWLINE);
+    private static final STNodeList NEWLINE_LIST = new STNodeList(NEWLINE_MINUTIAE);
+    private static final STNodeList CARRIAGE_RETURN_NEWLINE_LIST = new STNodeList(CARRIAGE_RETURN_NEWLINE_MINUTIAE);
+
+    static {
+        for (int width = 1; width <= MAX_SHARED_WIDTH; width++) {
+            SPACES[width] = new STMinutiae(SyntaxKind.WHITESPACE_MINUTIAE, String.valueOf(SPACE).repeat(width));
+            TABS[width] = new STMinutiae(SyntaxKind.WHITESPACE_MINUTIAE, String.valueOf(TAB).repeat(width));
+            SPACE_LISTS[width] = new STNodeList(SPACES[width]);
+            TAB_LISTS[width] = new STNodeList(TABS[width]);
+        }
+    }
+
+    private STMinutiaeTable() {
+    }
+
+    /**
+     * Returns the shared minutiae node for the given text, if there is one.
+     *
+     * @param kind the {@code SyntaxKind} of the minutiae
+     * @param text the text of the minutiae
+     * @return the shared minutiae node, or null if the minutiae is not shared
+     */
+    static STMinutiae get(SyntaxKind kind, String text) {
+        switch (kind) {
+            case WHITESPACE_MINUTIAE:
+                STMinutiae[] whitespaces = getWhitespaceTable(text);
+                return whitespaces == null ? null : whitespaces[text.length()];
+            case END_OF_LINE_MINUTIAE:
+                if (NEWLINE.equals(text)) {
+                    return NEWLINE_MINUTIAE;
+                }
+                return CARRIAGE_RETURN_NEWLINE.equals(text) ? CARRIAGE_RETURN_NEWLINE_MINUTIAE : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the shared minutiae list which contains only the given minutiae, if the minutiae is a shared one.
+     *
+     * @param minutiae the only element of the list
+     * @return the shared minutiae list, or null if the given minutiae is not shared
+     */
+    static STNodeList getList(STNode minutiae) {
+        if (minutiae == NEWLINE_MINUTIAE) {
+            return NEWLINE_LIST;
+        }
+        if (minutiae == CARRIAGE_RETURN_NEWLINE_MINUTIAE) {
+            return CARRIAGE_RETURN_NEWLINE_LIST;
+        }
+        if (minutiae == null || minutiae.kind != SyntaxKind.WHITESPACE_MINUTIAE) {
+            return null;
+        }
+
+        int width = minutiae.width;
+        if (width > MAX_SHARED_WIDTH) {
+            return null;
+        }
+        if (SPACES[width] == minutiae) {
+            return SPACE_LISTS[width];
+        }
+        return TABS[width] == minutiae ? TAB_LISTS[width] : null;
+    }
+
+    private static STMinutiae[] getWhitespaceTable(String text) {
+        int width = text.length();
+        if (width == 0 || width > MAX_SHARED_WIDTH) {
+            return null;
+        }
+
+        char firstChar = text.charAt(0);
+        if (firstChar != SPACE && firstChar != TAB) {
+            return null;
+        }
+        for (int index = 1; index < width; index++) {
+            if (text.charAt(index) != firstChar) {
+                return null;
+            }
+        }
+        return firstChar == SPACE ? SPACES : TABS;
+    }
+}
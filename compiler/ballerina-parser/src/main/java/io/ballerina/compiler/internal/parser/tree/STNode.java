@@ -26,7 +26,6 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -42,7 +41,8 @@ public abstract class STNode {
     protected int widthWithTrailingMinutiae;
     protected int widthWithMinutiae;
 
-    protected EnumSet<STNodeFlags> flags = EnumSet.noneOf(STNodeFlags.class);
+    // Flags are kept as a bit set of the ordinals of STNodeFlags, to avoid an EnumSet instance per node
+    protected byte flags;
 
     protected static final STNode[] EMPTY_BUCKET = new STNode[0];
     // The following fields allow us to navigate the tree without the knowledge of the particular tree nodes
@@ -58,7 +58,7 @@ public abstract class STNode {
         this.kind = kind;
         this.diagnostics = diagnostics;
         if (diagnostics.size() > 0) {
-            flags.add(STNodeFlags.HAS_DIAGNOSTICS);
+            addFlag(STNodeFlags.HAS_DIAGNOSTICS);
         }
     }
 
@@ -93,7 +93,15 @@ public abstract class STNode {
     }
 
     public boolean hasDiagnostics() {
-        return flags.contains(STNodeFlags.HAS_DIAGNOSTICS);
+        return hasFlag(STNodeFlags.HAS_DIAGNOSTICS);
+    }
+
+    protected boolean hasFlag(STNodeFlags flag) {
+        return (flags & (1 << flag.ordinal())) != 0;
+    }
+
+    protected void addFlag(STNodeFlags flag) {
+        flags |= 1 << flag.ordinal();
     }
 
     public Collection<STNodeDiagnostic> diagnostics() {
@@ -332,8 +340,8 @@ public abstract class STNode {
             if (!SyntaxUtils.isSTNodePresent(child)) {
                 continue;
             }
-            if (child.flags.contains(STNodeFlags.HAS_DIAGNOSTICS)) {
-                this.flags.add(STNodeFlags.HAS_DIAGNOSTICS);
+            if (child.hasFlag(STNodeFlags.HAS_DIAGNOSTICS)) {
+                this.addFlag(STNodeFlags.HAS_DIAGNOSTICS);
                 return;
             }
         }
@@ -38,9 +38,9 @@ public class STToken extends STNode {
     protected final STNode trailingMinutiae;
 
     // Number of preceding tokens whose lookahead reached lexeme
-    protected final int lookback = 1; // TODO These is a default number
+    protected static final int LOOKBACK = 1; // TODO These is a default number
     // Number of characters read beyond lexeme
-    protected final int lookahead = 1; // TODO These is a default number
+    protected static final int LOOKAHEAD = 1; // TODO These is a default number
 
     STToken(SyntaxKind kind, STNode leadingMinutiae, STNode trailingMinutiae) {
         this(kind, kind.stringValue().length(), leadingMinutiae, trailingMinutiae);
@@ -78,7 +78,7 @@ public class STToken extends STNode {
     }
 
     public int lookbackTokenCount() {
-        return lookback;
+        return LOOKBACK;
     }
 
     public List<STToken> tokens() {
@@ -98,4 +98,8 @@ public final class Minutiae {
     STNode internalNode() {
         return internalMinutiae;
     }
+
+    int position() {
+        return position;
+    }
 }
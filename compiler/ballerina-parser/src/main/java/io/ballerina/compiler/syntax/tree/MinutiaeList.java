@@ -19,6 +19,7 @@ package io.ballerina.compiler.syntax.tree;
 
 import io.ballerina.compiler.internal.parser.tree.STMinutiae;
 import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STNodeFactory;
 import io.ballerina.compiler.internal.parser.tree.STNodeList;
 import io.ballerina.compiler.internal.syntax.NodeListUtils;
 import io.ballerina.compiler.internal.syntax.SyntaxUtils;
@@ -45,6 +46,8 @@ public final class MinutiaeList implements Iterable<Minutiae> {
     private final int size;
     private final Minutiae[] minutiaeNodes;
 
+    private static final Minutiae[] EMPTY_MINUTIAE_NODES = new Minutiae[0];
+
     MinutiaeList(Token token, STNode internalMinutiae, int position) {
         if (!NodeListUtils.isSTNodeList(internalMinutiae)) {
             throw new IllegalArgumentException("An STNodeList instance is expected");
@@ -54,17 +57,22 @@ public final class MinutiaeList implements Iterable<Minutiae> {
         this.position = position;
         this.size = getMinutiaeCount(internalMinutiae);
 
-        // The following method eagerly create all the minutiae nodes at the moment
-        // Do we need to create them on-demand?
-        // TODO Update the implementation with an lazy loading algorithm.
-        this.minutiaeNodes = loadMinutiaeNodes(internalMinutiae, size, position);
+        // Minutiae nodes are created on-demand, since most of the minutiae lists are never iterated
+        this.minutiaeNodes = size == 0 ? EMPTY_MINUTIAE_NODES : new Minutiae[size];
     }
 
     // Positional access methods
 
     public Minutiae get(int index) {
         rangeCheck(index, size);
-        return minutiaeNodes[index];
+        Minutiae minutiae = minutiaeNodes[index];
+        if (minutiae != null) {
+            return minutiae;
+        }
+
+        minutiae = createMinutiae(internalListNode.childInBucket(index), getMinutiaePosition(index));
+        minutiaeNodes[index] = minutiae;
+        return minutiae;
     }
 
     // Modification Operations
@@ -124,14 +132,15 @@ public final class MinutiaeList implements Iterable<Minutiae> {
         }
         c.forEach(minutiae -> Objects.requireNonNull(minutiae, "minutiae should not be null"));
 
-        List<STNode> toBeDeletedList = new ArrayList<>();
-        for (Minutiae minutiae : minutiaeNodes) {
-            if (c.contains(minutiae)) {
-                toBeDeletedList.add(minutiae.internalNode());
+        // Minutiae are removed by position, since equal minutiae may share the same internal node
+        List<STNode> remainingList = new ArrayList<>(size);
+        for (Minutiae minutiae : this) {
+            if (!c.contains(minutiae)) {
+                remainingList.add(minutiae.internalNode());
             }
         }
 
-        return new MinutiaeList(token, internalListNode.removeAll(toBeDeletedList), position);
+        return new MinutiaeList(token, STNodeFactory.createNodeList(remainingList), position);
     }
 
     //query methods
@@ -165,24 +174,24 @@ public final class MinutiaeList implements Iterable<Minutiae> {
         return internalListNode;
     }
 
-    private Minutiae[] loadMinutiaeNodes(STNode internalMinutiae, int size, int position) {
-        if (size == 0) {
-            return new Minutiae[0];
-        }
-
-        int index = 0;
+    private int getMinutiaePosition(int index) {
+        // Starts from the closest preceding minutiae that is already created. Hence iterating over the list computes
+        // the position of each minutiae in constant time.
+        int bucket = index;
         int minutiaeStartPos = position;
-        Minutiae[] minutiaeNodes = new Minutiae[size];
-        for (int bucket = 0; bucket < internalMinutiae.bucketCount(); bucket++) {
-            STNode node = internalMinutiae.childInBucket(bucket);
-            if (!SyntaxUtils.isSTNodePresent(node)) {
-                continue;
+        while (bucket > 0) {
+            Minutiae previousMinutiae = minutiaeNodes[bucket - 1];
+            if (previousMinutiae != null) {
+                minutiaeStartPos = previousMinutiae.position() + previousMinutiae.internalNode().widthWithMinutiae();
+                break;
             }
-            minutiaeNodes[index] = createMinutiae(node, minutiaeStartPos);
-            index++;
-            minutiaeStartPos += node.widthWithMinutiae();
+            bucket--;
+        }
+
+        for (; bucket < index; bucket++) {
+            minutiaeStartPos += internalListNode.childInBucket(bucket).widthWithMinutiae();
         }
-        return minutiaeNodes;
+        return minutiaeStartPos;
     }
 
     private Minutiae createMinutiae(STNode internalMinutiae, int position) {
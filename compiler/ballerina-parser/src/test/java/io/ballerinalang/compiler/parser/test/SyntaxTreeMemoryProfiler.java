@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerinalang.compiler.parser.test;
+
+import io.ballerina.compiler.syntax.tree.Minutiae;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Measures the parse time and the retained heap size of the syntax tree of a large source file.
+ * <p>
+ * Usage: {@code SyntaxTreeMemoryProfiler [<bal-file> | <record-count>]}. If a number is given, or nothing is given,
+ * a client source similar to a generated OpenAPI client is used, with the given number of records and remote
+ * functions (2000 by default, which is about 46.5k lines).
+ * Run with a fixed heap and a single GC (e.g. {@code -Xmx2g -XX:+UseParallelGC}) to get comparable numbers.
+ *
+ * @since 2.0.0
+ */
+public class SyntaxTreeMemoryProfiler {
+
+    private static final PrintStream OUT = System.out;
+    private static final int DEFAULT_RECORD_COUNT = 2000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String source;
+        if (args.length > 0 && !args[0].matches("\\d+")) {
+            source = new String(Files.readAllBytes(Paths.get(args[0])), StandardCharsets.UTF_8);
+        } else {
+            source = generateSource(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RECORD_COUNT);
+        }
+        OUT.println("lines: " + source.split("\n").length + ", chars: " + source.length());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parse(source);
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            parse(source);
+        }
+        OUT.println("parse time: " + (System.nanoTime() - startTime) / ITERATIONS / 1_000_000 + " ms");
+
+        long usedBefore = getUsedMemory();
+        SyntaxTree syntaxTree = parse(source);
+        long usedAfter = getUsedMemory();
+        OUT.printf("retained tree size: %.1f MB%n", (usedAfter - usedBefore) / (1024 * 1024.0));
+
+        // Visits all the minutiae through the facade tree, which creates the facades on demand
+        MinutiaeCounter minutiaeCounter = new MinutiaeCounter();
+        startTime = System.nanoTime();
+        ((ModulePartNode) syntaxTree.rootNode()).accept(minutiaeCounter);
+        OUT.println("minutiae: " + minutiaeCounter.count + ", visit time: " +
+                (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        OUT.println("source preserved: " + syntaxTree.toSourceCode().equals(source));
+    }
+
+    private static SyntaxTree parse(String source) {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(source));
+        // Internal nodes are created while parsing. Accessing the root node creates its facade.
+        syntaxTree.rootNode();
+        return syntaxTree;
+    }
+
+    private static long getUsedMemory() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 2; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String generateSource(int recordCount) {
+        StringBuilder source = new StringBuilder("import ballerina/http;\n\n");
+        for (int i = 0; i < recordCount; i++) {
+            source.append("# Represents record ").append(i).append("\n");
+            source.append("public type Rec").append(i).append(" record {\n");
+            for (int field = 0; field < 8; field++) {
+                source.append("    string field").append(field).append(";\n");
+                source.append("    int? count").append(field).append(" = ();\n");
+            }
+            source.append("};\n\n");
+            source.append("public isolated client class Client").append(i).append(" {\n");
+            source.append("    final http:Client clientEp;\n\n");
+            source.append("    remote isolated function getRec").append(i)
+                    .append("(string id, int pageSize = 10) returns Rec").append(i).append("|error {\n");
+            source.append("        string path = string `/recs/${id}`;\n");
+            source.append("        map<string|string[]> headerValues = {\"Accept\": \"application/json\"};\n");
+            source.append("        Rec").append(i)
+                    .append(" response = check self.clientEp->get(path, headerValues);\n");
+            source.append("        return response;\n");
+            source.append("    }\n}\n\n");
+        }
+        return source.toString();
+    }
+
+    /**
+     * Counts the leading and trailing minutiae of all the tokens, computing the position of each minutiae.
+     */
+    private static class MinutiaeCounter extends NodeVisitor {
+
+        private int count = 0;
+
+        @Override
+        public void visit(Token token) {
+            for (Minutiae minutiae : token.leadingMinutiae()) {
+                minutiae.textRange();
+                count++;
+            }
+            for (Minutiae minutiae : token.trailingMinutiae()) {
+                minutiae.textRange();
+                count++;
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -107,6 +108,23 @@ public class MinutiaeListAPITest extends AbstractSyntaxTreeAPITest {
         assertLineRange(leadingMinutiae.get(2).lineRange(), expectedLineRange);
     }
 
+    @Test
+    public void testMinutiaPositionsInAnyAccessOrder() {
+        ImportDeclarationNode importDeclNode = getModulePartNode("minutiae_test_02.bal").imports().get(0);
+        MinutiaeList leadingMinutiae = importDeclNode.importKeyword().leadingMinutiae();
+
+        // Positions are computed from the closest preceding minutiae that is already accessed
+        Assert.assertEquals(leadingMinutiae.get(3).textRange().startOffset(), 39);
+        Assert.assertEquals(leadingMinutiae.get(1).textRange().startOffset(), 1);
+
+        int[] expectedStartOffsets = new int[]{0, 1, 2, 39, 40};
+        int index = 0;
+        for (Minutiae minutiae : leadingMinutiae) {
+            Assert.assertEquals(minutiae.textRange().startOffset(), expectedStartOffsets[index++]);
+        }
+        Assert.assertEquals(index, expectedStartOffsets.length);
+    }
+
     @Test
     public void testAddAllMinutia() {
         // There are 6 minutiae nodes in the first token of the first import node and 4 of them are new line minutiae.
@@ -185,6 +203,20 @@ public class MinutiaeListAPITest extends AbstractSyntaxTreeAPITest {
         Assert.assertEquals(newLeadingMinutiae2.size(), 1);
     }
 
+    @Test
+    public void testRemoveAllWithEqualMinutiae() {
+        // There are 6 minutiae nodes in the first token of the first import node and 4 of them are new line minutiae.
+        ImportDeclarationNode importDeclNode = getModulePartNode("minutiae_test_03.bal").imports().get(0);
+        MinutiaeList leadingMinutiae = importDeclNode.importKeyword().leadingMinutiae();
+        Minutiae newlineMinutiae = leadingMinutiae.get(0);
+        Assert.assertEquals(newlineMinutiae.kind(), SyntaxKind.END_OF_LINE_MINUTIAE);
+
+        // Only the given minutiae should be removed, even though the other new line minutiae are equal to it
+        MinutiaeList newLeadingMinutiae = leadingMinutiae.removeAll(Collections.singletonList(newlineMinutiae));
+        Assert.assertEquals(newLeadingMinutiae.size(), 5);
+        Assert.assertEquals(newLeadingMinutiae.toString(), leadingMinutiae.toString().substring(1));
+    }
+
     @Test
     public void testRemoveMinutiaByIndex() {
         // There are 6 minutiae nodes in the first token of the first import node and 4 of them are new line minutiae.
@@ -17,32 +17,32 @@
  */
 package io.ballerina.tools.text;
 
-import java.util.Arrays;
-
 /**
  * A character reader utility used by the Ballerina lexer.
+ * <p>
+ * The characters are read from a view of the source text, without copying the text.
  *
  * @since 2.0.0
  */
 public class CharReader {
 
-    private char[] charBuffer;
+    private final CharSequence charBuffer;
     private int offset = 0;
-    private int charBufferLength;
+    private final int charBufferLength;
 
     private int lexemeStartPos;
 
-    private CharReader(char[] buffer) {
+    private CharReader(CharSequence buffer) {
         this.charBuffer = buffer;
-        this.charBufferLength = buffer.length;
+        this.charBufferLength = buffer.length();
     }
 
     public static CharReader from(TextDocument textDocument) {
-        return new CharReader(textDocument.toCharArray());
+        return new CharReader(textDocument.charSequence());
     }
 
     public static CharReader from(String text) {
-        return new CharReader(text.toCharArray());
+        return new CharReader(text);
     }
 
     public void reset(int offset) {
@@ -51,7 +51,7 @@ public class CharReader {
 
     public char peek() {
         if (offset < charBufferLength) {
-            return charBuffer[offset];
+            return charBuffer.charAt(offset);
         } else {
             // TODO Revisit this branch
             return Character.MAX_VALUE;
@@ -61,7 +61,7 @@ public class CharReader {
     public char peek(int k) {
         int n = offset + k;
         if (n < charBufferLength) {
-            return charBuffer[n];
+            return charBuffer.charAt(n);
         } else {
             // TODO Revisit this branch
             return Character.MAX_VALUE;
@@ -91,7 +91,7 @@ public class CharReader {
      * @return {@link String} consist of the marked chars
      */
     public String getMarkedChars() {
-        return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        return charBuffer.subSequence(lexemeStartPos, offset).toString();
     }
 
     public boolean isEOF() {
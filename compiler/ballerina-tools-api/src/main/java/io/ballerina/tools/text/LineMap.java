@@ -17,72 +17,146 @@
  */
 package io.ballerina.tools.text;
 
+import java.util.Arrays;
+
 /**
  * The {@code LineMap} represents a collection text lines in the {@code TextDocument}.
+ * <p>
+ * Only the offsets of the lines are computed upfront. The {@code TextLine} of a line is created
+ * when it is requested for the first time.
  *
  * @since 2.0.0
  */
 class LineMap {
+    private final CharSequence text;
+    private final int[] startOffsets;
+    private final int[] endOffsets;
     private final TextLine[] textLines;
     private final int length;
 
-    LineMap(TextLine[] textLines) {
+    private LineMap(CharSequence text, int[] startOffsets, int[] endOffsets, TextLine[] textLines) {
+        this.text = text;
+        this.startOffsets = startOffsets;
+        this.endOffsets = endOffsets;
         this.textLines = textLines;
-        this.length = textLines.length;
+        this.length = startOffsets.length;
+    }
+
+    static LineMap from(CharSequence text) {
+        LineOffsets lineOffsets = new LineOffsets(16);
+        scanLines(text, 0, text.length(), true, lineOffsets);
+        return new LineMap(text, lineOffsets.startOffsets(), lineOffsets.endOffsets(),
+                new TextLine[lineOffsets.size]);
+    }
+
+    /**
+     * Returns the line map of the text which results from replacing the given range of the text of this line map.
+     * <p>
+     * Only the lines affected by the change are scanned. The offsets of the lines after the change are shifted.
+     *
+     * @param newText      text after the change
+     * @param startOffset  start offset of the replaced range
+     * @param endOffset    end offset of the replaced range in the text before the change
+     * @param newEndOffset end offset of the replacement in the text after the change
+     * @return the line map of the new text
+     */
+    LineMap apply(CharSequence newText, int startOffset, int endOffset, int newEndOffset) {
+        positionRangeCheck(startOffset);
+        positionRangeCheck(endOffset);
+
+        // An edit can join or split a "\r\n" sequence at its boundaries. Hence the lines adjacent
+        // to the changed lines are scanned as well.
+        int firstLine = Math.max(findLineNoFrom(startOffset) - 1, 0);
+        int lastLine = Math.min(findLineNoFrom(endOffset) + 1, length - 1);
+        int delta = newEndOffset - endOffset;
+        boolean lastLineChanged = lastLine == length - 1;
+
+        LineOffsets scannedOffsets = new LineOffsets(lastLine - firstLine + 1);
+        int scanEndOffset = lastLineChanged ? newText.length() : startOffsets[lastLine + 1] + delta;
+        scanLines(newText, startOffsets[firstLine], scanEndOffset, lastLineChanged, scannedOffsets);
+
+        int trailingLines = length - lastLine - 1;
+        int newLength = firstLine + scannedOffsets.size + trailingLines;
+        int[] newStartOffsets = Arrays.copyOf(startOffsets, newLength);
+        int[] newEndOffsets = Arrays.copyOf(endOffsets, newLength);
+        System.arraycopy(scannedOffsets.startOffsets, 0, newStartOffsets, firstLine, scannedOffsets.size);
+        System.arraycopy(scannedOffsets.endOffsets, 0, newEndOffsets, firstLine, scannedOffsets.size);
+        for (int line = lastLine + 1, newLine = firstLine + scannedOffsets.size; line < length; line++, newLine++) {
+            newStartOffsets[newLine] = startOffsets[line] + delta;
+            newEndOffsets[newLine] = endOffsets[line] + delta;
+        }
+
+        // Lines before the change are not affected by it, hence their text lines can be reused
+        TextLine[] newTextLines = new TextLine[newLength];
+        System.arraycopy(textLines, 0, newTextLines, 0, firstLine);
+        return new LineMap(newText, newStartOffsets, newEndOffsets, newTextLines);
     }
 
     TextLine textLine(int line) {
         lineRangeCheck(line);
-        return textLines[line];
+        TextLine textLine = textLines[line];
+        if (textLine != null) {
+            return textLine;
+        }
+
+        int startOffset = startOffsets[line];
+        int endOffset = endOffsets[line];
+        String lineText = text.subSequence(startOffset, endOffset).toString();
+        textLine = new TextLine(line, lineText, startOffset, endOffset, endOffsetWithNewLines(line) - endOffset);
+        textLines[line] = textLine;
+        return textLine;
     }
 
     LinePosition linePositionFrom(int position) {
         positionRangeCheck(position);
-        TextLine textLine = findLineFrom(position);
-        return LinePosition.from(textLine.lineNo(), position - textLine.startOffset());
+        int line = findLineNoFrom(position);
+        return LinePosition.from(line, position - startOffsets[line]);
     }
 
     int textPositionFrom(LinePosition linePosition) {
         lineRangeCheck(linePosition.line());
-        TextLine textLine = textLines[linePosition.line()];
-        if (textLine.length() < linePosition.offset()) {
+        int line = linePosition.line();
+        if (endOffsets[line] - startOffsets[line] < linePosition.offset()) {
             throw new IllegalArgumentException("Cannot find a line with the character offset '" +
                     linePosition.offset() + "'");
         }
 
-        return textLine.startOffset() + linePosition.offset();
+        return startOffsets[line] + linePosition.offset();
+    }
+
+    private int endOffsetWithNewLines(int line) {
+        return line == length - 1 ? endOffsets[line] : startOffsets[line + 1];
     }
 
     private void positionRangeCheck(int position) {
-        if (position < 0 || position > textLines[length - 1].endOffset()) {
+        if (position < 0 || position > endOffsets[length - 1]) {
             throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" +
-                    textLines[length - 1].endOffset() + "'");
+                    endOffsets[length - 1] + "'");
         }
     }
 
     private void lineRangeCheck(int lineNo) {
-        if (lineNo < 0 || lineNo > length) {
+        if (lineNo < 0 || lineNo >= length) {
             throw new IndexOutOfBoundsException("Line number: '" + lineNo + "', Size: '" + length + "'");
         }
     }
 
     /**
-     * Return the {@code TextLine} to which the given position belongs to.
+     * Return the number of the line to which the given position belongs to.
      * <p>
      * Perform a binary search to find the matching text line.
      *
      * @param position of the source text
-     * @return the {@code TextLine} to which the given position belongs to
+     * @return the number of the line to which the given position belongs to
      */
-    private TextLine findLineFrom(int position) {
+    private int findLineNoFrom(int position) {
         // Check boundary conditions
         if (position == 0) {
-            return textLines[0];
-        } else if (position == textLines[length - 1].endOffset()) {
-            return textLines[length - 1];
+            return 0;
+        } else if (position == endOffsets[length - 1]) {
+            return length - 1;
         }
 
-        TextLine foundTextLine = null;
         int left = 0;
         int right = length - 1;
         while (left <= right) {
@@ -90,17 +164,89 @@ class LineMap {
             // the maximum positive int value (2^31 - 1)
             // FYI: https://ai.googleblog.com/2006/06/extra-extra-read-all-about-it-nearly.html
             int middle = (left + right) >>> 1;
-            int startOffset = textLines[middle].startOffset();
-            int endOffset = textLines[middle].endOffsetWithNewLines();
+            int startOffset = startOffsets[middle];
+            int endOffset = endOffsetWithNewLines(middle);
             if (startOffset <= position && position < endOffset) {
-                foundTextLine = textLines[middle];
-                break;
+                return middle;
             } else if (endOffset <= position) {
                 left = middle + 1;
             } else {
                 right = middle - 1;
             }
         }
-        return foundTextLine;
+        return -1;
+    }
+
+    /**
+     * Scans the lines of the given range of the text.
+     * <p>
+     * The range should start at the beginning of a line. Unless the last segment is included, the range should
+     * end right after the new line characters of a line.
+     *
+     * @param text               source text
+     * @param startOffset        start offset of the range
+     * @param endOffset          end offset of the range
+     * @param includeLastSegment whether the characters after the last new line are a line
+     * @param lineOffsets        offsets of the scanned lines
+     */
+    private static void scanLines(CharSequence text, int startOffset, int endOffset, boolean includeLastSegment,
+                                  LineOffsets lineOffsets) {
+        int textLength = text.length();
+        int lineStartOffset = startOffset;
+        int index = startOffset;
+        while (index < endOffset) {
+            char c = text.charAt(index);
+            if (c == '\r' || c == '\n') {
+                int nextCharIndex = index + 1;
+                lineOffsets.add(lineStartOffset, index);
+                if (c == '\r' && textLength != nextCharIndex && text.charAt(nextCharIndex) == '\n') {
+                    index += 2;
+                } else {
+                    index++;
+                }
+                lineStartOffset = index;
+            } else {
+                index++;
+            }
+        }
+
+        if (includeLastSegment) {
+            lineOffsets.add(lineStartOffset, endOffset);
+        }
+    }
+
+    /**
+     * A growable list of the start and end offsets of lines.
+     *
+     * @since 2.0.0
+     */
+    private static class LineOffsets {
+        private int[] startOffsets;
+        private int[] endOffsets;
+        private int size = 0;
+
+        LineOffsets(int initialCapacity) {
+            this.startOffsets = new int[initialCapacity];
+            this.endOffsets = new int[initialCapacity];
+        }
+
+        void add(int startOffset, int endOffset) {
+            if (size == startOffsets.length) {
+                int newCapacity = size * 2 + 1;
+                startOffsets = Arrays.copyOf(startOffsets, newCapacity);
+                endOffsets = Arrays.copyOf(endOffsets, newCapacity);
+            }
+            startOffsets[size] = startOffset;
+            endOffsets[size] = endOffset;
+            size++;
+        }
+
+        int[] startOffsets() {
+            return Arrays.copyOf(startOffsets, size);
+        }
+
+        int[] endOffsets() {
+            return Arrays.copyOf(endOffsets, size);
+        }
     }
 }
@@ -0,0 +1,323 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code PieceTableTextDocument} represents a {@code TextDocument} created by applying changes to another
+ * {@code TextDocument}.
+ * <p>
+ * The text is kept as a sequence of pieces, each of which refers to a range of the original text or of the text
+ * of an edit. Hence applying a change copies only the references to the pieces, not the text. The line map is
+ * derived from the line map of the previous document by scanning only the lines affected by the change.
+ *
+ * @since 2.0.0
+ */
+class PieceTableTextDocument extends TextDocument {
+    // Pieces are flattened to a single piece once there are too many of them, so that a document which is
+    // edited over a long time does not get slower to apply changes on and to read.
+    private static final int MAX_PIECE_COUNT = 512;
+    // Adjacent pieces shorter than this are merged, so that typing does not create a piece per character
+    private static final int MAX_MERGED_PIECE_LENGTH = 256;
+
+    private final Piece[] pieces;
+    private final int[] pieceOffsets;
+    private final int length;
+    private LineMap previousLineMap;
+    private final int editStartOffset;
+    private final int editEndOffset;
+    private final int newEditEndOffset;
+    private String text;
+
+    private PieceTableTextDocument(Piece[] pieces, LineMap previousLineMap, int editStartOffset, int editEndOffset,
+                                   int newEditEndOffset) {
+        this.pieces = pieces;
+        this.pieceOffsets = new int[pieces.length];
+        int offset = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            pieceOffsets[i] = offset;
+            offset += pieces[i].length;
+        }
+        this.length = offset;
+        this.previousLineMap = previousLineMap;
+        this.editStartOffset = editStartOffset;
+        this.editEndOffset = editEndOffset;
+        this.newEditEndOffset = newEditEndOffset;
+    }
+
+    /**
+     * Applies the given change to the given text.
+     *
+     * @param text               text to apply the change to
+     * @param lineMap            line map of the text if it has been populated, or {@code null}
+     * @param textDocumentChange change to apply
+     * @return a document with the change applied
+     */
+    static TextDocument from(String text, LineMap lineMap, TextDocumentChange textDocumentChange) {
+        Piece[] pieces = text.isEmpty() ? new Piece[0] : new Piece[]{new Piece(text, 0, text.length())};
+        return new PieceTableTextDocument(pieces, null, 0, 0, 0).apply(lineMap, textDocumentChange);
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        return apply(populatedLines(), textDocumentChange);
+    }
+
+    private TextDocument apply(LineMap lineMap, TextDocumentChange textDocumentChange) {
+        List<Piece> newPieces = new ArrayList<>(pieces.length + 2 * textDocumentChange.getTextEditCount() + 1);
+        int startOffset = 0;
+        int textEditCount = textDocumentChange.getTextEditCount();
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            rangeCheck(startOffset, textRange.startOffset());
+            appendPieces(newPieces, startOffset, textRange.startOffset());
+            String editText = textEdit.text();
+            appendPiece(newPieces, new Piece(editText, 0, editText.length()));
+            startOffset = textRange.endOffset();
+        }
+        rangeCheck(startOffset, length);
+        appendPieces(newPieces, startOffset, length);
+
+        // The line map is updated as if all the edits were a single edit which spans from the start of
+        // the first edit to the end of the last edit.
+        int editStart = 0;
+        int editEnd = 0;
+        int delta = 0;
+        if (textEditCount > 0) {
+            editStart = textDocumentChange.getTextEdit(0).range().startOffset();
+            editEnd = textDocumentChange.getTextEdit(textEditCount - 1).range().endOffset();
+            for (int i = 0; i < textEditCount; i++) {
+                TextEdit textEdit = textDocumentChange.getTextEdit(i);
+                delta += textEdit.text().length() - textEdit.range().length();
+            }
+        }
+
+        Piece[] newPieceArray = newPieces.toArray(new Piece[0]);
+        if (newPieceArray.length > MAX_PIECE_COUNT) {
+            String newText = toString(newPieceArray);
+            newPieceArray = new Piece[]{new Piece(newText, 0, newText.length())};
+        }
+        return new PieceTableTextDocument(newPieceArray, lineMap, editStart, editEnd, editEnd + delta);
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        LineMap lineMap = previousLineMap;
+        if (lineMap == null) {
+            return LineMap.from(charSequence());
+        }
+
+        // Release the previous line map, since it refers to the text of the previous document
+        previousLineMap = null;
+        return lineMap.apply(charSequence(), editStartOffset, editEndOffset, newEditEndOffset);
+    }
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[length];
+        for (int i = 0; i < pieces.length; i++) {
+            Piece piece = pieces[i];
+            piece.text.getChars(piece.startOffset, piece.startOffset + piece.length, chars, pieceOffsets[i]);
+        }
+        return chars;
+    }
+
+    @Override
+    CharSequence charSequence() {
+        if (text != null) {
+            return text;
+        }
+        return new PieceSequence();
+    }
+
+    public String toString() {
+        if (text == null) {
+            text = toString(pieces);
+        }
+        return text;
+    }
+
+    private static String toString(Piece[] pieces) {
+        int textLength = 0;
+        for (Piece piece : pieces) {
+            textLength += piece.length;
+        }
+
+        StringBuilder sb = new StringBuilder(textLength);
+        for (Piece piece : pieces) {
+            sb.append(piece.text, piece.startOffset, piece.startOffset + piece.length);
+        }
+        return sb.toString();
+    }
+
+    private void rangeCheck(int startOffset, int endOffset) {
+        if (startOffset < 0 || startOffset > endOffset || endOffset > length) {
+            throw new IndexOutOfBoundsException("Range: '" + startOffset + "-" + endOffset + "', Size: '" +
+                    length + "'");
+        }
+    }
+
+    /**
+     * Appends the pieces which cover the given range of this document.
+     *
+     * @param newPieces   pieces to append to
+     * @param startOffset start offset of the range
+     * @param endOffset   end offset of the range
+     */
+    private void appendPieces(List<Piece> newPieces, int startOffset, int endOffset) {
+        if (startOffset == endOffset) {
+            return;
+        }
+
+        for (int i = findPieceIndex(startOffset); i < pieces.length && pieceOffsets[i] < endOffset; i++) {
+            Piece piece = pieces[i];
+            int pieceStartOffset = Math.max(startOffset - pieceOffsets[i], 0);
+            int pieceEndOffset = Math.min(endOffset - pieceOffsets[i], piece.length);
+            if (pieceStartOffset == 0 && pieceEndOffset == piece.length) {
+                appendPiece(newPieces, piece);
+            } else {
+                appendPiece(newPieces, new Piece(piece.text, piece.startOffset + pieceStartOffset,
+                        pieceEndOffset - pieceStartOffset));
+            }
+        }
+    }
+
+    private static void appendPiece(List<Piece> newPieces, Piece piece) {
+        if (piece.length == 0) {
+            return;
+        }
+
+        int lastIndex = newPieces.size() - 1;
+        if (lastIndex < 0) {
+            newPieces.add(piece);
+            return;
+        }
+
+        Piece lastPiece = newPieces.get(lastIndex);
+        if (lastPiece.text == piece.text && lastPiece.startOffset + lastPiece.length == piece.startOffset) {
+            newPieces.set(lastIndex, new Piece(piece.text, lastPiece.startOffset, lastPiece.length + piece.length));
+        } else if (lastPiece.length + piece.length <= MAX_MERGED_PIECE_LENGTH) {
+            String mergedText = lastPiece.toString() + piece.toString();
+            newPieces.set(lastIndex, new Piece(mergedText, 0, mergedText.length()));
+        } else {
+            newPieces.add(piece);
+        }
+    }
+
+    /**
+     * Return the index of the piece to which the given position belongs to.
+     *
+     * @param position of the text
+     * @return the index of the piece to which the given position belongs to
+     */
+    private int findPieceIndex(int position) {
+        int left = 0;
+        int right = pieces.length - 1;
+        while (left <= right) {
+            int middle = (left + right) >>> 1;
+            int startOffset = pieceOffsets[middle];
+            if (position < startOffset) {
+                right = middle - 1;
+            } else if (position >= startOffset + pieces[middle].length) {
+                left = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return pieces.length;
+    }
+
+    /**
+     * A range of a string which makes up a part of the text of a document.
+     *
+     * @since 2.0.0
+     */
+    private static class Piece {
+        private final String text;
+        private final int startOffset;
+        private final int length;
+
+        Piece(String text, int startOffset, int length) {
+            this.text = text;
+            this.startOffset = startOffset;
+            this.length = length;
+        }
+
+        public String toString() {
+            return text.substring(startOffset, startOffset + length);
+        }
+    }
+
+    /**
+     * A view of the text of a {@code PieceTableTextDocument}.
+     * <p>
+     * The view remembers the last piece it read from, so that reading the characters in order does not
+     * search for the piece of each character. Hence a view should not be shared among threads.
+     *
+     * @since 2.0.0
+     */
+    private class PieceSequence implements CharSequence {
+        private int currentPieceIndex = 0;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: '" + index + "', Size: '" + length + "'");
+            }
+
+            int pieceIndex = currentPieceIndex;
+            int pieceOffset = pieceOffsets[pieceIndex];
+            if (index < pieceOffset || index >= pieceOffset + pieces[pieceIndex].length) {
+                pieceIndex = findPieceIndex(index);
+                pieceOffset = pieceOffsets[pieceIndex];
+                currentPieceIndex = pieceIndex;
+            }
+
+            Piece piece = pieces[pieceIndex];
+            return piece.text.charAt(piece.startOffset + index - pieceOffset);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            rangeCheck(start, end);
+            int pieceIndex = findPieceIndex(start);
+            if (pieceIndex < pieces.length && end <= pieceOffsets[pieceIndex] + pieces[pieceIndex].length) {
+                Piece piece = pieces[pieceIndex];
+                int pieceStartOffset = piece.startOffset + start - pieceOffsets[pieceIndex];
+                return piece.text.substring(pieceStartOffset, pieceStartOffset + end - start);
+            }
+
+            List<Piece> subPieces = new ArrayList<>();
+            appendPieces(subPieces, start, end);
+            return PieceTableTextDocument.toString(subPieces.toArray(new Piece[0]));
+        }
+
+        @Override
+        public String toString() {
+            return PieceTableTextDocument.this.toString();
+        }
+    }
+}
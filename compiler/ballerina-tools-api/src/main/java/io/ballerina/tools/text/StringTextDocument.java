@@ -17,9 +17,6 @@
  */
 package io.ballerina.tools.text;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * The {@code StringTextDocument} represents a {@code TextDocument} created with a string.
  *
@@ -27,7 +24,6 @@ import java.util.List;
  */
 class StringTextDocument extends TextDocument {
     private final String text;
-    private LineMap textLineMap;
 
     StringTextDocument(String text) {
         this.text = text;
@@ -35,27 +31,12 @@ class StringTextDocument extends TextDocument {
 
     @Override
     public TextDocument apply(TextDocumentChange textDocumentChange) {
-        int startOffset = 0;
-        StringBuilder sb = new StringBuilder();
-        int textEditCount = textDocumentChange.getTextEditCount();
-        for (int i = 0; i < textEditCount; i++) {
-            TextEdit textEdit = textDocumentChange.getTextEdit(i);
-            TextRange textRange = textEdit.range();
-            sb.append(text, startOffset, textRange.startOffset());
-            sb.append(textEdit.text());
-            startOffset = textRange.endOffset();
-        }
-        sb.append(text, startOffset, text.length());
-        return new StringTextDocument(sb.toString());
+        return PieceTableTextDocument.from(text, populatedLines(), textDocumentChange);
     }
 
     @Override
     protected LineMap populateTextLineMap() {
-        if (textLineMap != null) {
-            return textLineMap;
-        }
-        textLineMap = new LineMap(calculateTextLines());
-        return textLineMap;
+        return LineMap.from(text);
     }
 
     @Override
@@ -63,41 +44,12 @@ class StringTextDocument extends TextDocument {
         return this.text.toCharArray();
     }
 
-    public String toString() {
+    @Override
+    CharSequence charSequence() {
         return text;
     }
 
-    private TextLine[] calculateTextLines() {
-        int startOffset = 0;
-        List<TextLine> textLines = new ArrayList<>();
-        StringBuilder lineBuilder = new StringBuilder();
-        int index = 0;
-        int line = 0;
-        int textLength = text.length();
-        int lengthOfNewLineChars;
-        while (index < textLength) {
-            char c = text.charAt(index);
-            if (c == '\r' || c == '\n') {
-                int nextCharIndex = index + 1;
-                if (c == '\r' && textLength != nextCharIndex && text.charAt(nextCharIndex) == '\n') {
-                    lengthOfNewLineChars = 2;
-                } else {
-                    lengthOfNewLineChars = 1;
-                }
-                String strLine = lineBuilder.toString();
-                int endOffset = startOffset + strLine.length();
-                textLines.add(new TextLine(line++, strLine, startOffset, endOffset, lengthOfNewLineChars));
-                startOffset = endOffset + lengthOfNewLineChars;
-                lineBuilder = new StringBuilder();
-                index += lengthOfNewLineChars;
-            } else {
-                lineBuilder.append(c);
-                index++;
-            }
-        }
-
-        String strLine = lineBuilder.toString();
-        textLines.add(new TextLine(line, strLine, startOffset, startOffset + strLine.length(), 0));
-        return textLines.toArray(new TextLine[0]);
+    public String toString() {
+        return text;
     }
 }
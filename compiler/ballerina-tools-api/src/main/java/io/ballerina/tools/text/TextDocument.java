@@ -17,6 +17,8 @@
  */
 package io.ballerina.tools.text;
 
+import java.nio.CharBuffer;
+
 /**
  * This is an abstract representation of a Ballerina source file (.bal).
  *
@@ -38,6 +40,18 @@ public abstract class TextDocument {
      */
     public abstract char[] toCharArray();
 
+    /**
+     * Returns a read-only view of the current text.
+     * <p>
+     * Unlike {@code toCharArray}, implementations are expected to return the characters without copying them.
+     * The returned view may not be safe to be shared among threads.
+     *
+     * @return a view of the current text
+     */
+    CharSequence charSequence() {
+        return CharBuffer.wrap(toCharArray());
+    }
+
     public TextLine line(int line) {
         return lines().textLine(line);
     }
@@ -50,6 +64,15 @@ public abstract class TextDocument {
         return lines().textPositionFrom(linePosition);
     }
 
+    /**
+     * Returns the line map of this document if it has already been populated.
+     *
+     * @return the populated line map or {@code null}
+     */
+    LineMap populatedLines() {
+        return lineMap;
+    }
+
     protected LineMap lines() {
         if (lineMap != null) {
             return lineMap;
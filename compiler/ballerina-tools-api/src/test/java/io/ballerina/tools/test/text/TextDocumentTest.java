@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.test.text;
+
+import io.ballerina.tools.text.CharReader;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests applying changes to text documents.
+ *
+ * @since 2.0.0
+ */
+public class TextDocumentTest {
+    private static final String[] EDIT_TEXTS = {"", "a", "bc", "\n", "\r", "\r\n", "x\ny", "def\r\nghi\n", "\n\n"};
+
+    @Test
+    public void testApplyTextEdits() {
+        TextDocument textDocument = TextDocuments.from("import ballerina/io;\n\npublic function main() {\n}\n");
+        TextEdit[] textEdits = {
+                TextEdit.from(TextRange.from(0, 6), "IMPORT"),
+                TextEdit.from(TextRange.from(22, 0), "// main\n"),
+                TextEdit.from(TextRange.from(47, 0), "    io:println(\"Hello\");\n")
+        };
+        TextDocument newTextDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+
+        String expectedText = "IMPORT ballerina/io;\n\n// main\npublic function main() {\n" +
+                "    io:println(\"Hello\");\n}\n";
+        Assert.assertEquals(newTextDocument.toString(), expectedText);
+        Assert.assertEquals(new String(newTextDocument.toCharArray()), expectedText);
+        Assert.assertEquals(textDocument.toString(), "import ballerina/io;\n\npublic function main() {\n}\n");
+        assertSameLines(newTextDocument, TextDocuments.from(expectedText));
+    }
+
+    @Test
+    public void testNewLinesAcrossEditBoundaries() {
+        TextDocument textDocument = TextDocuments.from("a\rb\r\nc");
+        // Prepare the line map of the document, so that it is updated incrementally
+        textDocument.line(0);
+
+        // Joins the "\r" of the first line with the inserted "\n"
+        TextDocument joined = textDocument.apply(TextDocumentChange.from(
+                new TextEdit[]{TextEdit.from(TextRange.from(2, 1), "\n")}));
+        Assert.assertEquals(joined.toString(), "a\r\n\r\nc");
+        assertSameLines(joined, TextDocuments.from("a\r\n\r\nc"));
+
+        // Splits the "\r\n" of the second line
+        TextDocument split = textDocument.apply(TextDocumentChange.from(
+                new TextEdit[]{TextEdit.from(TextRange.from(4, 0), "x")}));
+        Assert.assertEquals(split.toString(), "a\rb\rx\nc");
+        assertSameLines(split, TextDocuments.from("a\rb\rx\nc"));
+    }
+
+    @Test
+    public void testRandomTextEdits() {
+        Random random = new Random(7);
+        String text = "function foo() {\r\n    int a = 1;\n\n    return;\r}\n";
+        TextDocument textDocument = TextDocuments.from(text);
+        for (int i = 0; i < 2000; i++) {
+            // Populate the line map of some of the documents, so that both the full and the incremental
+            // computations of the line map are covered
+            if (random.nextBoolean()) {
+                textDocument.line(0);
+            }
+
+            int editCount = 1 + random.nextInt(3);
+            TextEdit[] textEdits = new TextEdit[editCount];
+            StringBuilder expectedText = new StringBuilder();
+            int startOffset = 0;
+            for (int j = 0; j < editCount; j++) {
+                int editStart = startOffset + random.nextInt(text.length() - startOffset + 1);
+                int editEnd = editStart + random.nextInt(Math.min(text.length() - editStart, 4) + 1);
+                String editText = EDIT_TEXTS[random.nextInt(EDIT_TEXTS.length)];
+                textEdits[j] = TextEdit.from(TextRange.from(editStart, editEnd - editStart), editText);
+                expectedText.append(text, startOffset, editStart).append(editText);
+                startOffset = editEnd;
+            }
+            expectedText.append(text, startOffset, text.length());
+
+            textDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+            text = expectedText.toString();
+            assertSameLines(textDocument, TextDocuments.from(text));
+            Assert.assertEquals(textDocument.toString(), text);
+        }
+    }
+
+    @Test
+    public void testCharReaderOnChangedDocument() {
+        TextDocument textDocument = TextDocuments.from("int a = 10;");
+        TextDocument newTextDocument = textDocument.apply(TextDocumentChange.from(
+                new TextEdit[]{TextEdit.from(TextRange.from(4, 1), "count")}));
+
+        CharReader charReader = CharReader.from(newTextDocument);
+        StringBuilder text = new StringBuilder();
+        while (!charReader.isEOF()) {
+            text.append(charReader.peek());
+            charReader.advance();
+        }
+        Assert.assertEquals(text.toString(), "int count = 10;");
+
+        charReader.reset(4);
+        charReader.mark();
+        charReader.advance(5);
+        Assert.assertEquals(charReader.getMarkedChars(), "count");
+        Assert.assertEquals(charReader.peek(1), '=');
+    }
+
+    private void assertSameLines(TextDocument actual, TextDocument expected) {
+        String text = expected.toString();
+        int lineCount = expected.linePositionFrom(text.length()).line() + 1;
+        Assert.assertEquals(actual.linePositionFrom(text.length()).line() + 1, lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            TextLine actualLine = actual.line(i);
+            TextLine expectedLine = expected.line(i);
+            Assert.assertEquals(actualLine.text(), expectedLine.text());
+            Assert.assertEquals(actualLine.startOffset(), expectedLine.startOffset());
+            Assert.assertEquals(actualLine.endOffset(), expectedLine.endOffset());
+            Assert.assertEquals(actualLine.endOffsetWithNewLines(), expectedLine.endOffsetWithNewLines());
+        }
+        for (int position = 0; position <= text.length(); position++) {
+            LinePosition linePosition = expected.linePositionFrom(position);
+            Assert.assertEquals(actual.linePositionFrom(position), linePosition);
+            // Positions between the characters of a "\r\n" do not map back to a text position
+            if (linePosition.offset() <= expected.line(linePosition.line()).length()) {
+                Assert.assertEquals(actual.textPositionFrom(linePosition), position);
+            }
+        }
+    }
+}
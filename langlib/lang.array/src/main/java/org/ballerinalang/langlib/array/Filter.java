@@ -62,9 +62,25 @@ public class Filter {
 
         }
         int size = arr.size();
+        Strand parentStrand = Scheduler.getStrand();
+        if (AsyncUtils.canInvokeInParallel(func, size, parentStrand.scheduler)) {
+            boolean[] results = new boolean[size];
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, METADATA, size,
+                                                            i -> new Object[]{parentStrand, arr.get(i), true},
+                                                            (result, i) -> results[i] = (boolean) result,
+                                                            () -> {
+                                                                int newArraySize = 0;
+                                                                for (int i = 0; i < size; i++) {
+                                                                    if (results[i]) {
+                                                                        newArr.add(newArraySize++, arr.get(i));
+                                                                    }
+                                                                }
+                                                                return newArr;
+                                                            }, parentStrand.scheduler);
+            return newArr;
+        }
         AtomicInteger newArraySize = new AtomicInteger(-1);
         AtomicInteger index = new AtomicInteger(-1);
-        Strand parentStrand = Scheduler.getStrand();
         AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
                                                          () -> new Object[]{parentStrand,
                                                                  arr.get(index.incrementAndGet()),
@@ -53,8 +53,15 @@ public class ForEach {
         int size = arr.size();
         Type arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
-        AtomicInteger index = new AtomicInteger(-1);
         Strand parentStrand = Scheduler.getStrand();
+        if (AsyncUtils.canInvokeInParallel(func, size, parentStrand.scheduler)) {
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, METADATA, size,
+                                                            i -> new Object[]{parentStrand, getFn.get(arr, i), true},
+                                                            (result, i) -> {
+                                                            }, () -> null, parentStrand.scheduler);
+            return;
+        }
+        AtomicInteger index = new AtomicInteger(-1);
         AsyncUtils.invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
                                                          () -> new Object[]{parentStrand,
                                                                  getFn.get(arr, index.incrementAndGet()), true},
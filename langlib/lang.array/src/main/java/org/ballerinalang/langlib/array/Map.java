@@ -73,8 +73,21 @@ public class Map {
             default:
                 throw createOpNotSupportedError(arrType, "map()");
         }
-        AtomicInteger index = new AtomicInteger(-1);
         Strand parentStrand = Scheduler.getStrand();
+        if (AsyncUtils.canInvokeInParallel(func, size, parentStrand.scheduler)) {
+            Object[] results = new Object[size];
+            AsyncUtils.invokeFunctionPointerAsyncInParallel(func, null, METADATA, size,
+                                                            i -> new Object[]{parentStrand, getFn.get(arr, i), true},
+                                                            (result, i) -> results[i] = result,
+                                                            () -> {
+                                                                for (int i = 0; i < size; i++) {
+                                                                    retArr.add(i, results[i]);
+                                                                }
+                                                                return retArr;
+                                                            }, parentStrand.scheduler);
+            return retArr;
+        }
+        AtomicInteger index = new AtomicInteger(-1);
         AsyncUtils
                 .invokeFunctionPointerAsyncIteratively(func, null, METADATA, size,
                                                        () -> new Object[]{parentStrand,
@@ -19,6 +19,7 @@
 package org.ballerinalang.langlib.array;
 
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.types.ArrayType;
@@ -29,16 +30,20 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.PrimitiveIterator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
@@ -47,6 +52,12 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final StrandMetadata METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, ARRAY_LANG_LIB,
+                                                                      ARRAY_VERSION, "sort");
+
+    // Minimum size of a range sorted by a strand of its own
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
@@ -91,13 +102,55 @@ public class Sort {
             }
         }
 
+        // The parallel sort yields the strand until the ranges are sorted, which is not possible when the function
+        // calling sort is called synchronously
+        Strand strand = Scheduler.getStrand();
+        Scheduler scheduler = strand.scheduler;
+        int noOfRanges = Math.min(AsyncUtils.getParallelism(scheduler), sortArr.length / PARALLEL_SORT_THRESHOLD);
+        if (noOfRanges > 1 && strand.canYield()) {
+            sortInParallel(arr, sortArr, sortArrClone, noOfRanges, isAscending, elemType, scheduler);
+            return arr;
+        }
+
         mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        setSortedValues(arr, sortArr);
+        return arr;
+    }
 
+    /**
+     * Sorts contiguous ranges of the array in parallel, each by a strand of its own on the scheduler, and merges the
+     * sorted ranges once all of them are sorted. The merge is stable, as is the merge sort of a range, hence the
+     * result is the same as that of the serial merge sort.
+     */
+    private static void sortInParallel(BArray arr, Object[][] sortArr, Object[][] sortArrClone, int noOfRanges,
+                                       boolean isAscending, Type type, Scheduler scheduler) {
+        int[] bounds = new int[noOfRanges + 1];
+        for (int i = 0; i <= noOfRanges; i++) {
+            bounds[i] = (int) ((long) sortArr.length * i / noOfRanges);
+        }
+        AsyncUtils.runInParallel(i -> mergesort(sortArr, sortArrClone, bounds[i], bounds[i + 1] - 1, isAscending, type),
+                                 noOfRanges, METADATA, () -> {
+                                     mergeRanges(sortArr, sortArrClone, bounds, isAscending, type);
+                                     setSortedValues(arr, sortArr);
+                                     return arr;
+                                 }, scheduler);
+    }
+
+    // Merges the adjacent sorted ranges pairwise, until the whole array is a single sorted range
+    private static void mergeRanges(Object[][] input, Object[][] aux, int[] bounds, boolean isAscending, Type type) {
+        int noOfRanges = bounds.length - 1;
+        for (int width = 1; width < noOfRanges; width *= 2) {
+            for (int i = 0; i + width < noOfRanges; i += 2 * width) {
+                merge(input, aux, bounds[i], bounds[i + width] - 1, bounds[Math.min(i + 2 * width, noOfRanges)] - 1,
+                      isAscending, type);
+            }
+        }
+    }
+
+    private static void setSortedValues(BArray arr, Object[][] sortArr) {
         for (int k = 0; k < sortArr.length; k++) {
             arr.add(k, sortArr[k][1]);
         }
-
-        return arr;
     }
 
     private static Type getMemberType(UnionType unionType) {
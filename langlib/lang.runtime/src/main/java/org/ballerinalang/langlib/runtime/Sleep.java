@@ -21,10 +21,9 @@ package org.ballerinalang.langlib.runtime;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.internal.scheduling.HashedWheelTimer;
 
 import java.math.BigDecimal;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,14 +33,10 @@ import java.util.concurrent.TimeUnit;
  */
 public class Sleep {
 
-    private static final int CORE_THREAD_POOL_SIZE = 1;
-
-    private static final ScheduledExecutorService executor = Executors.newScheduledThreadPool(CORE_THREAD_POOL_SIZE);
-
     public static void sleep(Environment env, BDecimal delaySeconds) {
         Future balFuture = env.markAsync();
         long delayMillis = (delaySeconds.decimalValue().multiply(new BigDecimal("1000.0"))).longValue();
-        executor.schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
+        HashedWheelTimer.getInstance().schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
     }
 
     private Sleep() {
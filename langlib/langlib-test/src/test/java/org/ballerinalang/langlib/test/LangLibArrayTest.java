@@ -525,6 +525,7 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSortLargeArrayInKeyFunction",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse"
@@ -1115,6 +1115,24 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSortLargeArrayInKeyFunction() {
+    int[] arr = [3, 1, 2];
+
+    // The key function is called synchronously by sort, hence the large array is sorted without yielding the strand
+    int[] sortedArr = arr.sort(array:ASCENDING, function (int x) returns int {
+        int[] largeArr = [];
+        int i = 0;
+        while (i < 20000) {
+            largeArr.push(20000 - i);
+            i += 1;
+        }
+        int[] sortedLargeArr = largeArr.sort();
+        return sortedLargeArr[x - 1];
+    });
+
+    assertValueEquality([1, 2, 3], sortedArr);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -534,7 +534,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
                     "' {fileUri: '" + fileUri + "'} updated");
             DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
-            diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            diagnosticsHelper.schedulePublishDiagnostics(this.languageServer.getClient(), context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didChange' failed!";
             this.clientLogger.logError(LSContextOperation.TXT_DID_CHANGE, msg, e, params.getTextDocument(),
@@ -550,7 +550,12 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     this.workspaceManager,
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
+            Path projectRoot = workspaceManager.projectRoot(context.filePath());
             workspaceManager.didClose(context.filePath(), params);
+            if (workspaceManager.project(context.filePath()).isEmpty()) {
+                // Project has been removed, hence its diagnostics need not be published
+                DiagnosticsHelper.getInstance(this.serverContext).cancelScheduledDiagnostics(projectRoot);
+            }
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -21,6 +21,7 @@ import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.PackageName;
 import io.ballerina.projects.PackageOrg;
 import io.ballerina.projects.PackageVersion;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.environment.PackageRepository;
 import io.ballerina.projects.environment.ResolutionRequest;
 import io.ballerina.projects.internal.environment.BallerinaDistribution;
@@ -32,16 +33,22 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Loads the Ballerina builtin core and builtin packages.
+ * <p>
+ * The descriptors of the distribution repo packages are listed at the startup. Since listing only reads the
+ * directory structure of the repository, the packages themselves are loaded only when they are requested.
  */
 public class LSPackageLoader {
     private static final LanguageServerContext.Key<LSPackageLoader> LS_PACKAGE_LOADER_KEY =
             new LanguageServerContext.Key<>();
 
-    private final List<Package> distRepoPackages;
-    
+    private final PackageRepository packageRepository;
+    private volatile List<PackageDescriptor> distRepoPackageDescriptors;
+    private volatile List<Package> distRepoPackages;
+
     public static LSPackageLoader getInstance(LanguageServerContext context) {
         LSPackageLoader lsPackageLoader = context.get(LS_PACKAGE_LOADER_KEY);
         if (lsPackageLoader == null) {
@@ -52,47 +59,94 @@ public class LSPackageLoader {
     }
 
     private LSPackageLoader(LanguageServerContext context) {
-        distRepoPackages = this.getPackagesFromDistRepo();
+        // Creating a Ballerina distribution instance
+        this(BallerinaDistribution.from(new DefaultEnvironment()).packageRepository());
         context.put(LS_PACKAGE_LOADER_KEY, this);
     }
 
-    private List<Package> getPackagesFromDistRepo() {
+    LSPackageLoader(PackageRepository packageRepository) {
+        this.packageRepository = packageRepository;
+        this.distRepoPackageDescriptors = this.getPackageDescriptorsFromDistRepo();
+    }
+
+    private List<PackageDescriptor> getPackageDescriptorsFromDistRepo() {
         // Note: Here we skip the langlib packages
-        DefaultEnvironment environment = new DefaultEnvironment();
-        // Creating a Ballerina distribution instance
-        BallerinaDistribution ballerinaDistribution = BallerinaDistribution.from(environment);
-        PackageRepository packageRepository = ballerinaDistribution.packageRepository();
         Map<String, List<String>> pkgMap = packageRepository.getPackages();
 
-        List<Package> packages = new ArrayList<>();
+        List<PackageDescriptor> descriptors = new ArrayList<>();
         pkgMap.forEach((key, value) -> value.forEach(nameEntry -> {
             String[] components = nameEntry.split(":");
             if (components.length != 2 || components[0].equals("lang.annotations")
                     || components[0].equals("lang.__internal")) {
                 return;
             }
-            String nameComponent = components[0];
-            String version = components[1];
-            PackageOrg packageOrg = PackageOrg.from(key);
-            PackageName packageName = PackageName.from(nameComponent);
-            PackageVersion pkgVersion = PackageVersion.from(version);
-            PackageDescriptor pkdDesc = PackageDescriptor.from(packageOrg, packageName, pkgVersion);
-            ResolutionRequest request = ResolutionRequest.from(pkdDesc, PackageDependencyScope.DEFAULT);
-
-            Optional<Package> repoPackage = packageRepository.getPackage(request);
-            repoPackage.ifPresent(packages::add);
+            try {
+                String nameComponent = components[0];
+                String version = components[1];
+                PackageOrg packageOrg = PackageOrg.from(key);
+                PackageName packageName = PackageName.from(nameComponent);
+                PackageVersion pkgVersion = PackageVersion.from(version);
+                PackageDescriptor descriptor = PackageDescriptor.from(packageOrg, packageName, pkgVersion);
+                // Skip the packages which cannot be resolved from the repository
+                ResolutionRequest request = ResolutionRequest.from(descriptor, PackageDependencyScope.DEFAULT);
+                if (packageRepository.getPackageVersions(request).contains(pkgVersion)) {
+                    descriptors.add(descriptor);
+                }
+            } catch (ProjectException e) {
+                // Skip the packages with invalid names or versions
+            }
         }));
 
+        return Collections.unmodifiableList(descriptors);
+    }
+
+    private List<Package> getPackagesFromDistRepo() {
+        List<Package> packages = new ArrayList<>();
+        for (PackageDescriptor pkgDesc : distRepoPackageDescriptors) {
+            ResolutionRequest request = ResolutionRequest.from(pkgDesc, PackageDependencyScope.DEFAULT);
+            try {
+                Optional<Package> repoPackage = packageRepository.getPackage(request);
+                repoPackage.ifPresent(packages::add);
+            } catch (ProjectException e) {
+                // Skip the packages which fail to load
+            }
+        }
+
         return Collections.unmodifiableList(packages);
     }
 
+    /**
+     * Get the descriptors of the distribution repo packages.
+     * Here the descriptors do not contain the langlib packages, nor the packages which cannot be resolved from the
+     * repository. Prefer this over loading the packages when only the names of the packages are required.
+     *
+     * @return {@link List} of distribution repo package descriptors
+     */
+    public List<PackageDescriptor> getDistributionRepoPackageDescriptors() {
+        return this.distRepoPackageDescriptors;
+    }
+
     /**
      * Get the distribution repo packages.
-     * Here the distRepoPackages does not contain the langlib packages 
+     * Here the distRepoPackages does not contain the langlib packages. The packages are loaded on the first call.
      *
      * @return {@link List} of distribution repo packages
      */
     public List<Package> getDistributionRepoPackages() {
-        return this.distRepoPackages;
+        List<Package> packages = this.distRepoPackages;
+        if (packages == null) {
+            synchronized (this) {
+                packages = this.distRepoPackages;
+                if (packages == null) {
+                    packages = this.getPackagesFromDistRepo();
+                    // Only the packages which were loaded are listed from here onwards
+                    this.distRepoPackageDescriptors = packages.stream()
+                            .map(Package::descriptor)
+                            .collect(Collectors.toUnmodifiableList());
+                    this.distRepoPackages = packages;
+                }
+            }
+        }
+        return packages;
     }
 }
@@ -19,7 +19,7 @@ import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSPackageLoader;
@@ -69,21 +69,21 @@ public class ImportModuleCodeAction extends AbstractCodeActionProvider {
         String packageAlias = diagnosticMessage.substring(diagnosticMessage.indexOf("'") + 1,
                 diagnosticMessage.lastIndexOf("'"));
         LanguageServerContext serverContext = context.languageServercontext();
-        List<Package> packagesList =
-                new ArrayList<>(LSPackageLoader.getInstance(serverContext).getDistributionRepoPackages());
+        List<PackageDescriptor> packagesList =
+                LSPackageLoader.getInstance(serverContext).getDistributionRepoPackageDescriptors();
 
         packagesList.stream()
                 .filter(pkgEntry -> {
-                    String pkgName = pkgEntry.packageName().value();
+                    String pkgName = pkgEntry.name().value();
                     return pkgName.endsWith("." + packageAlias) || pkgName.endsWith(packageAlias);
                 })
                 .forEach(pkgEntry -> {
-                    String pkgName = pkgEntry.packageName().value();
+                    String pkgName = pkgEntry.name().value();
                     String commandTitle = String.format(CommandConstants.IMPORT_MODULE_TITLE, pkgName);
                     String moduleName = CommonUtil.escapeModuleName(context, pkgName);
                     CodeAction action = new CodeAction(commandTitle);
                     Position insertPos = getImportPosition(context);
-                    String importText = ItemResolverConstants.IMPORT + " " + pkgEntry.packageOrg().value() + "/"
+                    String importText = ItemResolverConstants.IMPORT + " " + pkgEntry.org().value() + "/"
                             + moduleName + ";" + CommonUtil.LINE_SEPARATOR;
                     List<TextEdit> edits = Collections.singletonList(
                             new TextEdit(new Range(insertPos, insertPos), importText));
@@ -38,6 +38,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.util.ProjectConstants;
@@ -934,12 +935,22 @@ public class CommonUtil {
      * @return {@link String} label computed
      */
     public static String getPackageLabel(Package pkg) {
+        return getPackageLabel(pkg.descriptor());
+    }
+
+    /**
+     * Get the completion item label for a given package descriptor.
+     *
+     * @param pkgDesc {@link PackageDescriptor} package descriptor to evaluate
+     * @return {@link String} label computed
+     */
+    public static String getPackageLabel(PackageDescriptor pkgDesc) {
         String orgName = "";
-        if (pkg.packageOrg().value() != null && !pkg.packageOrg().value().equals(Names.ANON_ORG.getValue())) {
-            orgName = pkg.packageOrg().value() + "/";
+        if (pkgDesc.org().value() != null && !pkgDesc.org().value().equals(Names.ANON_ORG.getValue())) {
+            orgName = pkgDesc.org().value() + "/";
         }
 
-        return orgName + pkg.packageName().value();
+        return orgName + pkgDesc.name().value();
     }
 
     /**
@@ -950,8 +961,20 @@ public class CommonUtil {
      * @return {@link Optional}
      */
     public static Optional<ImportDeclarationNode> matchingImportedModule(CompletionContext context, Package pkg) {
-        String name = pkg.packageName().value();
-        String orgName = pkg.packageOrg().value();
+        return matchingImportedModule(context, pkg.descriptor());
+    }
+
+    /**
+     * Whether the package is already imported in the current document.
+     *
+     * @param context completion context
+     * @param pkgDesc Descriptor of the package to be evaluated against
+     * @return {@link Optional}
+     */
+    public static Optional<ImportDeclarationNode> matchingImportedModule(CompletionContext context,
+                                                                         PackageDescriptor pkgDesc) {
+        String name = pkgDesc.name().value();
+        String orgName = pkgDesc.org().value();
         List<ImportDeclarationNode> currentDocImports = context.currentDocImports();
         return currentDocImports.stream()
                 .filter(importPkg -> importPkg.orgName().isPresent()
@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
 import io.ballerina.projects.PackageName;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
@@ -185,11 +186,12 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
     private ArrayList<LSCompletionItem> orgNameContextCompletions(BallerinaCompletionContext ctx) {
         List<String> orgNames = new ArrayList<>();
         ArrayList<LSCompletionItem> completionItems = new ArrayList<>();
-        List<Package> pkgList = LSPackageLoader.getInstance(ctx.languageServercontext()).getDistributionRepoPackages();
+        List<PackageDescriptor> pkgList =
+                LSPackageLoader.getInstance(ctx.languageServercontext()).getDistributionRepoPackageDescriptors();
 
         pkgList.forEach(pkg -> {
-            String orgName = pkg.packageOrg().value();
-            String pkgName = pkg.packageName().value();
+            String orgName = pkg.org().value();
+            String pkgName = pkg.name().value();
             if (orgName.equals(Names.BALLERINA_INTERNAL_ORG.getValue())
                     || CommonUtil.matchingImportedModule(ctx, pkg).isPresent()) {
                 // Avoid suggesting the ballerinai org name
@@ -279,11 +281,12 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
         ArrayList<LSCompletionItem> completionItems = new ArrayList<>();
         List<String> addedPkgNames = new ArrayList<>();
         LanguageServerContext serverContext = context.languageServercontext();
-        List<Package> packageList = LSPackageLoader.getInstance(serverContext).getDistributionRepoPackages();
+        List<PackageDescriptor> packageList =
+                LSPackageLoader.getInstance(serverContext).getDistributionRepoPackageDescriptors();
         packageList.forEach(ballerinaPackage -> {
-            String packageName = ballerinaPackage.packageName().value();
+            String packageName = ballerinaPackage.name().value();
             String insertText;
-            if (orgName.equals(ballerinaPackage.packageOrg().value()) && !addedPkgNames.contains(packageName)
+            if (orgName.equals(ballerinaPackage.org().value()) && !addedPkgNames.contains(packageName)
                     && CommonUtil.matchingImportedModule(context, ballerinaPackage).isEmpty()) {
                 if (orgName.equals(Names.BALLERINA_ORG.value)
                         && packageName.startsWith(Names.LANG.getValue() + Names.DOT.getValue())) {
@@ -18,7 +18,7 @@
 package org.ballerinalang.langserver.completions.providers.context;
 
 import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
-import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSPackageLoader;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
@@ -56,8 +56,8 @@ public class ImportOrgNameNodeContext extends AbstractCompletionProvider<ImportO
             throw new AssertionError("ModuleName cannot be empty");
         }
 
-        List<Package> packagesList =
-                new ArrayList<>(LSPackageLoader.getInstance(ctx.languageServercontext()).getDistributionRepoPackages());
+        List<PackageDescriptor> packagesList = LSPackageLoader.getInstance(ctx.languageServercontext())
+                .getDistributionRepoPackageDescriptors();
         ArrayList<LSCompletionItem> completionItems = moduleNameContextCompletions(ctx, orgName, packagesList);
         this.sort(ctx, node, completionItems);
 
@@ -65,14 +65,14 @@ public class ImportOrgNameNodeContext extends AbstractCompletionProvider<ImportO
     }
 
     private ArrayList<LSCompletionItem> moduleNameContextCompletions(BallerinaCompletionContext context, String orgName,
-                                                                     List<Package> packagesList) {
+                                                                     List<PackageDescriptor> packagesList) {
         ArrayList<LSCompletionItem> completionItems = new ArrayList<>();
         List<String> pkgNameLabels = new ArrayList<>();
 
         packagesList.forEach(ballerinaPackage -> {
-            String packageName = ballerinaPackage.packageName().value();
+            String packageName = ballerinaPackage.name().value();
             String insertText;
-            if (orgName.equals(ballerinaPackage.packageOrg().value()) && !pkgNameLabels.contains(packageName)
+            if (orgName.equals(ballerinaPackage.org().value()) && !pkgNameLabels.contains(packageName)
                     && CommonUtil.matchingImportedModule(context, ballerinaPackage).isEmpty()) {
                 if (orgName.equals(Names.BALLERINA_ORG.value)
                         && packageName.startsWith(Names.LANG.value + ".")) {
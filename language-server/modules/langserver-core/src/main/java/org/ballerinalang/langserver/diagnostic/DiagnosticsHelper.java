@@ -19,6 +19,7 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
@@ -28,6 +29,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -36,6 +38,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utilities for the diagnostics related operations.
@@ -46,10 +53,18 @@ public class DiagnosticsHelper {
     private final List<Diagnostic> emptyDiagnosticList = new ArrayList<>(0);
     private static final LanguageServerContext.Key<DiagnosticsHelper> DIAGNOSTICS_HELPER_KEY =
             new LanguageServerContext.Key<>();
+    /**
+     * Delay before publishing the diagnostics of an edit, so that the edits made in quick succession are compiled
+     * only once.
+     */
+    private static final long DIAGNOSTICS_DELAY_MILLIS = 250;
     /**
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private Map<String, List<Diagnostic>> lastDiagnosticMap;
+    private final ScheduledExecutorService diagnosticsScheduler;
+    private final Map<Path, ScheduledFuture<?>> scheduledDiagnostics = new ConcurrentHashMap<>();
+    private final LSClientLogger clientLogger;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -63,6 +78,51 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.diagnosticsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ls-diagnostics-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules compiling and publishing the diagnostics of a source file after a short delay. A pending schedule
+     * of the same project is cancelled, hence only the diagnostics of the latest edit get published.
+     *
+     * @param client  Language server client
+     * @param context LS context
+     */
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+        Path projectRoot = context.workspace().projectRoot(context.filePath());
+        ScheduledFuture<?> diagnosticsTask = diagnosticsScheduler.schedule(() -> {
+            // Remove the entry of this task, unless a newer edit has already scheduled another one
+            scheduledDiagnostics.computeIfPresent(projectRoot,
+                    (root, task) -> task.getDelay(TimeUnit.MILLISECONDS) > 0 ? task : null);
+            try {
+                compileAndSendDiagnostics(client, context);
+            } catch (Throwable e) {
+                String msg = "Publishing diagnostics failed!";
+                TextDocumentIdentifier identifier = new TextDocumentIdentifier(context.fileUri());
+                this.clientLogger.logError(context.operation(), msg, e, identifier, (Position) null);
+            }
+        }, DIAGNOSTICS_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+        ScheduledFuture<?> pendingTask = scheduledDiagnostics.put(projectRoot, diagnosticsTask);
+        if (pendingTask != null) {
+            pendingTask.cancel(false);
+        }
+    }
+
+    /**
+     * Cancels the pending diagnostics publish of a project, if any. Should be called when the project is closed.
+     *
+     * @param projectRoot root of the project
+     * @return true if a pending publish was cancelled
+     */
+    public boolean cancelScheduledDiagnostics(Path projectRoot) {
+        ScheduledFuture<?> pendingTask = scheduledDiagnostics.remove(projectRoot);
+        return pendingTask != null && pendingTask.cancel(false);
     }
 
     /**
@@ -19,6 +19,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.diagnostics.Location;
@@ -80,9 +81,14 @@ public class ReferencesUtil {
             }
         }
         
+        Optional<PackageCompilation> compilation = context.workspace().waitAndGetPackageCompilation(context.filePath());
+        if (compilation.isEmpty()) {
+            return moduleLocationMap;
+        }
+
         Symbol symbol = symbolAtCursor.get();
         project.get().currentPackage().modules().forEach(module -> {
-            List<Location> references = module.getCompilation().getSemanticModel().references(symbol);
+            List<Location> references = compilation.get().getSemanticModel(module.moduleId()).references(symbol);
             moduleLocationMap.put(module, references);
         });
 
@@ -211,10 +211,17 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             return Optional.empty();
         }
 
+        // Read-only requests are served from the last compiled snapshot without waiting for the lock, as long as
+        // the package has not been modified since it was compiled
+        Optional<PackageCompilation> compilation = projectPair.get().compiledSnapshot();
+        if (compilation.isPresent()) {
+            return compilation;
+        }
+
         // Lock Project Instance
         Lock lock = projectPair.get().lockAndGet();
         try {
-            return Optional.of(projectPair.get().project().currentPackage().getCompilation());
+            return Optional.of(projectPair.get().compile());
         } finally {
             // Unlock Project Instance
             lock.unlock();
@@ -915,7 +922,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     public static class ProjectPair {
 
         private final Lock lock;
-        private Project project;
+        private volatile Project project;
+        private volatile CompiledSnapshot compiledSnapshot;
 
         private ProjectPair(Project project, Lock lock) {
             this.project = project;
@@ -966,6 +974,50 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         public void setProject(Project project) {
             this.project = project;
         }
+
+        /**
+         * Returns the compilation of the current package if it has already been compiled.
+         *
+         * @return {@link PackageCompilation} of the current package
+         */
+        Optional<PackageCompilation> compiledSnapshot() {
+            CompiledSnapshot snapshot = this.compiledSnapshot;
+            if (snapshot == null || snapshot.pkg != this.project.currentPackage()) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot.compilation);
+        }
+
+        /**
+         * Compiles the current package and keeps it as the last compiled snapshot. Should be called while holding
+         * the lock.
+         *
+         * @return {@link PackageCompilation} of the current package
+         */
+        PackageCompilation compile() {
+            Package currentPackage = this.project.currentPackage();
+            CompiledSnapshot snapshot = this.compiledSnapshot;
+            if (snapshot != null && snapshot.pkg == currentPackage) {
+                return snapshot.compilation;
+            }
+            PackageCompilation compilation = currentPackage.getCompilation();
+            this.compiledSnapshot = new CompiledSnapshot(currentPackage, compilation);
+            return compilation;
+        }
+    }
+
+    /**
+     * Represents a package along with its compilation.
+     */
+    private static class CompiledSnapshot {
+
+        private final Package pkg;
+        private final PackageCompilation compilation;
+
+        private CompiledSnapshot(Package pkg, PackageCompilation compilation) {
+            this.pkg = pkg;
+            this.compilation = compilation;
+        }
     }
 
     /**
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver;
+
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageVersion;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.environment.PackageRepository;
+import io.ballerina.projects.environment.ResolutionRequest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Tests listing the distribution repo packages in {@link LSPackageLoader}.
+ *
+ * @since 2.0.0
+ */
+public class LSPackageLoaderTest {
+
+    @Test
+    public void testUnresolvablePackagesAreNotListed() {
+        LSPackageLoader packageLoader = new LSPackageLoader(new TestPackageRepository());
+
+        List<String> packages = packageLoader.getDistributionRepoPackageDescriptors().stream()
+                .map(descriptor -> descriptor.org().value() + "/" + descriptor.name().value() + ":"
+                        + descriptor.version().toString())
+                .collect(Collectors.toList());
+        Assert.assertEquals(packages, List.of("ballerina/io:1.0.0", "ballerina/broken:1.0.0"));
+    }
+
+    @Test
+    public void testPackagesFailedToLoadAreNotListed() {
+        LSPackageLoader packageLoader = new LSPackageLoader(new TestPackageRepository());
+
+        // None of the packages of the test repository can be loaded
+        Assert.assertTrue(packageLoader.getDistributionRepoPackages().isEmpty());
+        Assert.assertTrue(packageLoader.getDistributionRepoPackageDescriptors().isEmpty());
+    }
+
+    /**
+     * Package repository with a set of packages which cannot be loaded.
+     */
+    private static class TestPackageRepository implements PackageRepository {
+
+        @Override
+        public Optional<Package> getPackage(ResolutionRequest resolutionRequest) {
+            if (resolutionRequest.packageName().value().equals("broken")) {
+                throw new ProjectException("invalid bala");
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public List<PackageVersion> getPackageVersions(ResolutionRequest resolutionRequest) {
+            if (resolutionRequest.packageName().value().equals("missing")) {
+                return Collections.emptyList();
+            }
+            return List.of(PackageVersion.from("1.0.0"));
+        }
+
+        @Override
+        public Map<String, List<String>> getPackages() {
+            // Packages without a version, with an invalid version, without a bala and of langlibs
+            return Map.of("ballerina", List.of("io:1.0.0", "empty:", "invalid:1.x", "missing:1.0.0",
+                                               "broken:1.0.0", "lang.annotations:1.0.0"));
+        }
+    }
+}
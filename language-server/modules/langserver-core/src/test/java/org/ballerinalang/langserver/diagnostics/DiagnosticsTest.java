@@ -24,6 +24,7 @@ import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
@@ -33,6 +34,7 @@ import org.ballerinalang.langserver.util.TestUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
@@ -44,12 +46,15 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Diagnostics tests are covered here.
@@ -58,6 +63,8 @@ import java.util.Optional;
  */
 public class DiagnosticsTest {
 
+    private static final long DIAGNOSTICS_DELAY_MILLIS = 250;
+
     private Endpoint serviceEndpoint;
 
     private final Path testRoot = FileUtils.RES_DIR.resolve("diagnostics");
@@ -125,6 +132,70 @@ public class DiagnosticsTest {
         return gson.toJson(diagnostics).replace("\r\n", "\n").replace("\\r\\n", "\\n");
     }
 
+    @Test
+    public void testScheduledDiagnosticsArePublishedOnce() throws Exception {
+        // Use a fresh server context, hence no diagnostics have been published before
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        Path sourcePath = testRoot.resolve("sources").resolve("single_source.bal");
+        DocumentServiceContext context = openDocument(sourcePath, serverContext);
+        List<PublishDiagnosticsParams> published = new CopyOnWriteArrayList<>();
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+
+        // Edits made in quick succession should be compiled and published only once
+        for (int i = 0; i < 5; i++) {
+            diagnosticsHelper.schedulePublishDiagnostics(createClient(published), context);
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (published.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(DIAGNOSTICS_DELAY_MILLIS * 2);
+
+        Assert.assertEquals(published.size(), 1);
+        Assert.assertEquals(CommonUtil.getPathFromURI(published.get(0).getUri()).orElseThrow(), sourcePath);
+        // Published schedule should not be retained
+        Assert.assertFalse(diagnosticsHelper.cancelScheduledDiagnostics(sourcePath));
+    }
+
+    @Test
+    public void testCancelScheduledDiagnostics() throws Exception {
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        Path sourcePath = testRoot.resolve("sources").resolve("single_source.bal");
+        DocumentServiceContext context = openDocument(sourcePath, serverContext);
+        List<PublishDiagnosticsParams> published = new CopyOnWriteArrayList<>();
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+
+        diagnosticsHelper.schedulePublishDiagnostics(createClient(published), context);
+        Assert.assertTrue(diagnosticsHelper.cancelScheduledDiagnostics(sourcePath));
+        Thread.sleep(DIAGNOSTICS_DELAY_MILLIS * 4);
+
+        Assert.assertTrue(published.isEmpty());
+        Assert.assertFalse(diagnosticsHelper.cancelScheduledDiagnostics(sourcePath));
+    }
+
+    private DocumentServiceContext openDocument(Path sourcePath, LanguageServerContext serverContext)
+            throws IOException, WorkspaceDocumentException {
+        BallerinaWorkspaceManager workspaceManager = BallerinaWorkspaceManager.getInstance(serverContext);
+        DidOpenTextDocumentParams documentParams = new DidOpenTextDocumentParams();
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(sourcePath.toUri().toString());
+        textDocumentItem.setText(new String(Files.readAllBytes(sourcePath)));
+        documentParams.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(sourcePath, documentParams);
+        return ContextBuilder.buildBaseContext(sourcePath.toUri().toString(), workspaceManager,
+                                               LSContextOperation.TXT_DID_CHANGE, serverContext);
+    }
+
+    private ExtendedLanguageClient createClient(List<PublishDiagnosticsParams> published) {
+        return (ExtendedLanguageClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ExtendedLanguageClient.class}, (proxy, method, args) -> {
+                    if ("publishDiagnostics".equals(method.getName())) {
+                        published.add((PublishDiagnosticsParams) args[0]);
+                    }
+                    return null;
+                });
+    }
+
     JsonObject unifyResponse(JsonObject response) {
         JsonObject unifiedJson = new JsonObject();
         for (String key : response.keySet()) {
@@ -19,6 +19,7 @@ package org.ballerinalang.langserver.workspace;
 
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.util.ProjectConstants;
@@ -401,6 +402,32 @@ public class TestWorkspaceManager {
         }
     }
 
+    @Test
+    public void testCompiledSnapshot() throws WorkspaceDocumentException {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+
+        // Open project
+        openFile(filePath);
+        PackageCompilation compilation = workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow();
+
+        // Unmodified package should be served from the compiled snapshot
+        Assert.assertSame(workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow(), compilation);
+        Assert.assertSame(workspaceManager.project(filePath).orElseThrow().currentPackage().getCompilation(),
+                          compilation);
+
+        // Modifying a document should invalidate the compiled snapshot
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent("function bar() {" +
+                                                                                  CommonUtil.LINE_SEPARATOR + "}"));
+        workspaceManager.didChange(filePath, params);
+
+        PackageCompilation newCompilation = workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow();
+        Assert.assertNotSame(newCompilation, compilation);
+        Assert.assertSame(workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow(), newCompilation);
+    }
+
     private void openFile(Path singleFile) throws WorkspaceDocumentException {
         DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
         TextDocumentItem textDocumentItem = new TextDocumentItem();
@@ -18,7 +18,9 @@ package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.request.EventRequestManager;
 import io.ballerina.projects.Project;
+import org.ballerinalang.debugadapter.evaluation.ExpressionEvaluator;
 import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
+import org.ballerinalang.debugadapter.variable.ChildVariableCache;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
 
 import java.io.BufferedReader;
@@ -37,9 +39,13 @@ public class ExecutionContext {
     private Project sourceProject;
     private Process launchedProcess;
     private DebugInstruction lastInstruction;
+    private final ExpressionEvaluator evaluator;
+    private final ChildVariableCache childVariableCache;
 
     ExecutionContext(JBallerinaDebugServer adapter) {
         this.adapter = adapter;
+        this.evaluator = new ExpressionEvaluator();
+        this.childVariableCache = new ChildVariableCache();
     }
 
     public Optional<Process> getLaunchedProcess() {
@@ -99,6 +105,14 @@ public class ExecutionContext {
         return new BufferedReader(new InputStreamReader(launchedProcess.getErrorStream(), StandardCharsets.UTF_8));
     }
 
+    public ExpressionEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    public ChildVariableCache getChildVariableCache() {
+        return childVariableCache;
+    }
+
     public DebugInstruction getLastInstruction() {
         return lastInstruction;
     }
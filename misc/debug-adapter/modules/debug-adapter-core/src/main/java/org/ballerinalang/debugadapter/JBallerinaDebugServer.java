@@ -33,7 +33,6 @@ import org.ballerinalang.debugadapter.config.ClientAttachConfigHolder;
 import org.ballerinalang.debugadapter.config.ClientConfigHolder;
 import org.ballerinalang.debugadapter.config.ClientConfigurationException;
 import org.ballerinalang.debugadapter.config.ClientLaunchConfigHolder;
-import org.ballerinalang.debugadapter.evaluation.ExpressionEvaluator;
 import org.ballerinalang.debugadapter.jdi.JdiProxyException;
 import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
@@ -123,7 +122,6 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
     private ClientConfigHolder clientConfigHolder;
     private DebugExecutionManager executionManager;
     private JDIEventProcessor eventProcessor;
-    private ExpressionEvaluator evaluator;
     private final ExecutionContext context;
     private Project project;
     private String projectRoot;
@@ -326,7 +324,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
                     variablesResponse.setVariables(new Variable[0]);
                     return CompletableFuture.completedFuture(variablesResponse);
                 }
-                suspendedContext = new SuspendedContext(project, context.getDebuggeeVM(), activeThread, stackFrame);
+                suspendedContext = new SuspendedContext(context, activeThread, stackFrame);
                 variablesResponse.setVariables(computeGlobalVariables(suspendedContext, args.getVariablesReference()));
             } else if (frameId != null) {
                 StackFrameProxyImpl stackFrame = stackFramesMap.get(frameId);
@@ -334,7 +332,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
                     variablesResponse.setVariables(new Variable[0]);
                     return CompletableFuture.completedFuture(variablesResponse);
                 }
-                suspendedContext = new SuspendedContext(project, context.getDebuggeeVM(), activeThread, stackFrame);
+                suspendedContext = new SuspendedContext(context, activeThread, stackFrame);
                 variablesResponse.setVariables(computeStackFrameVariables(args));
             } else {
                 variablesResponse.setVariables(computeChildVariables(args));
@@ -413,10 +411,8 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
         }
         try {
             StackFrameProxyImpl frame = stackFramesMap.get(args.getFrameId());
-            SuspendedContext ctx = new SuspendedContext(project, context.getDebuggeeVM(), activeThread, frame);
-            evaluator = Objects.requireNonNullElse(evaluator, new ExpressionEvaluator(ctx));
-
-            Value result = evaluator.evaluate(args.getExpression());
+            SuspendedContext ctx = new SuspendedContext(context, activeThread, frame);
+            Value result = context.getEvaluator().evaluate(ctx, args.getExpression());
             BVariable variable = VariableFactory.getVariable(ctx, result);
             if (variable == null) {
                 return CompletableFuture.completedFuture(response);
@@ -884,7 +880,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
      */
     private void clearState() {
         suspendedContext = null;
-        evaluator = null;
+        context.getChildVariableCache().clear();
         activeThread = null;
         stackFramesMap.clear();
         loadedVariables.clear();
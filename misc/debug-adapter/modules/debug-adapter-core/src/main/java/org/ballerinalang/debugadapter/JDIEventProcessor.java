@@ -35,7 +35,6 @@ import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.StepRequest;
 import org.ballerinalang.debugadapter.config.ClientConfigHolder;
 import org.ballerinalang.debugadapter.config.ClientLaunchConfigHolder;
-import org.ballerinalang.debugadapter.evaluation.ExpressionEvaluator;
 import org.ballerinalang.debugadapter.jdi.JdiProxyException;
 import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
 import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
@@ -121,6 +120,7 @@ public class JDIEventProcessor {
             if (breakpoints != null && breakpoints.containsKey(lineNumber)
                     && breakpoints.get(lineNumber).getCondition() != null
                     && !evaluateBreakpointCondition(breakpoints.get(lineNumber).getCondition(), bpEvent.thread())) {
+                context.getChildVariableCache().clear();
                 context.getDebuggeeVM().resume();
             } else {
                 notifyStopEvent(event);
@@ -169,6 +169,7 @@ public class JDIEventProcessor {
         } else if (stepType == StepRequest.STEP_INTO || stepType == StepRequest.STEP_OUT) {
             createStepRequest(threadId, stepType);
         }
+        context.getChildVariableCache().clear();
         context.getDebuggeeVM().resume();
         // Notifies the debug client that the execution is resumed.
         ContinuedEventArguments continuedEventArguments = new ContinuedEventArguments();
@@ -306,10 +307,9 @@ public class JDIEventProcessor {
     private boolean evaluateBreakpointCondition(String expression, ThreadReference threadReference) {
         try {
             StackFrameProxyImpl frame = context.getAdapter().getAllThreads().get(threadReference.uniqueID()).frame(0);
-            SuspendedContext ctx = new SuspendedContext(context.getSourceProject(), context.getDebuggeeVM(),
+            SuspendedContext ctx = new SuspendedContext(context,
                     context.getAdapter().getAllThreads().get(threadReference.uniqueID()), frame);
-            ExpressionEvaluator evaluator = new ExpressionEvaluator(ctx);
-            String condition = evaluator.evaluate(expression).toString();
+            String condition = context.getEvaluator().evaluate(ctx, expression).toString();
             return condition.equalsIgnoreCase(CONDITION_TRUE);
         } catch (JdiProxyException e) {
             LOGGER.error(e.getMessage(), e);
@@ -30,6 +30,7 @@ import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
 import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
 import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
 import org.ballerinalang.debugadapter.utils.PackageUtils;
+import org.ballerinalang.debugadapter.variable.ChildVariableCache;
 
 import java.nio.file.Path;
 import java.util.Optional;
@@ -47,6 +48,7 @@ public class SuspendedContext {
     private final ThreadReferenceProxyImpl owningThread;
     private final StackFrameProxyImpl frame;
     private final Project project;
+    private final ChildVariableCache childVariableCache;
     private final DebugSourceType sourceType;
 
     private Path breakPointSourcePath;
@@ -56,12 +58,12 @@ public class SuspendedContext {
     private ClassLoaderReference classLoader;
     private DebugExpressionCompiler debugCompiler;
 
-    SuspendedContext(Project project, VirtualMachineProxyImpl vm, ThreadReferenceProxyImpl threadRef,
-                     StackFrameProxyImpl frame) {
-        this.attachedVm = vm;
+    SuspendedContext(ExecutionContext context, ThreadReferenceProxyImpl threadRef, StackFrameProxyImpl frame) {
+        this.attachedVm = context.getDebuggeeVM();
         this.owningThread = threadRef;
         this.frame = frame;
-        this.project = project;
+        this.project = context.getSourceProject();
+        this.childVariableCache = context.getChildVariableCache();
         this.sourceType = (project.kind() == ProjectKind.SINGLE_FILE_PROJECT) ? SINGLE_FILE : PACKAGE;
         this.lineNumber = -1;
         this.fileName = null;
@@ -134,6 +136,10 @@ public class SuspendedContext {
         }
     }
 
+    public ChildVariableCache getChildVariableCache() {
+        return childVariableCache;
+    }
+
     public DebugExpressionCompiler getDebugCompiler() {
         if (debugCompiler == null) {
             debugCompiler = new DebugExpressionCompiler(this);
@@ -18,37 +18,56 @@ package org.ballerinalang.debugadapter.evaluation;
 
 import com.sun.jdi.Value;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.evaluation.engine.Evaluator;
 import org.ballerinalang.debugadapter.evaluation.validator.SerialExpressionValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Ballerina expression evaluator.
+ * <p>
+ * A single evaluator is used throughout a debug session. User expressions are validated and parsed only once, and
+ * the parsed expressions are reused whenever the same expression is evaluated again (i.e. watch expressions and
+ * breakpoint conditions, which are evaluated on each suspension).
+ * <p>
+ * Expressions which invoke functions may change the state of the debuggee. Hence the cached child variable values
+ * of the suspended context are discarded after evaluating such expressions.
  *
  * @since 2.0.0
  */
 public class ExpressionEvaluator {
 
-    private final SuspendedContext context;
     private final SerialExpressionValidator expressionValidator;
-    private final EvaluatorBuilder evaluatorBuilder;
+    private final Map<String, ParsedExpression> parsedExpressions;
+    private static final int MAX_PARSED_EXPRESSIONS = 100;
     private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionEvaluator.class);
 
-    public ExpressionEvaluator(SuspendedContext context) {
-        this.context = context;
+    public ExpressionEvaluator() {
         this.expressionValidator = new SerialExpressionValidator();
-        this.evaluatorBuilder = new EvaluatorBuilder(context);
+        // Keeps the most recently used expressions.
+        this.parsedExpressions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedExpression> eldest) {
+                return size() > MAX_PARSED_EXPRESSIONS;
+            }
+        };
     }
 
     /**
-     * Evaluates a given ballerina expression w.r.t. the debug context.
+     * Evaluates a given ballerina expression w.r.t. the given debug context.
      */
-    public Value evaluate(String expression) {
+    public Value evaluate(SuspendedContext context, String expression) {
+        ParsedExpression parsedExpression = null;
         try {
-            ExpressionNode parsedExpression = expressionValidator.validateAndGetResult(expression);
-            Evaluator evaluator = evaluatorBuilder.build(parsedExpression);
+            parsedExpression = getParsedExpression(expression);
+            Evaluator evaluator = new EvaluatorBuilder(context).build(parsedExpression.node);
             return evaluator.evaluate().getJdiValue();
         } catch (EvaluationException e) {
             return context.getAttachedVm().mirrorOf(e.getMessage());
@@ -56,6 +75,61 @@ public class ExpressionEvaluator {
             String message = EvaluationExceptionKind.PREFIX + "internal error";
             LOGGER.error(message, e);
             return context.getAttachedVm().mirrorOf(message);
+        } finally {
+            // Invoked functions may have run partially even if the evaluation failed.
+            if (parsedExpression != null && parsedExpression.invokesFunctions) {
+                context.getChildVariableCache().clear();
+            }
+        }
+    }
+
+    private synchronized ParsedExpression getParsedExpression(String expression) throws Exception {
+        ParsedExpression parsedExpression = parsedExpressions.get(expression);
+        if (parsedExpression == null) {
+            // Invalid expressions are not cached, so that the validation errors are reported on each evaluation.
+            ExpressionNode node = expressionValidator.validateAndGetResult(expression);
+            parsedExpression = new ParsedExpression(node, InvocationFinder.hasInvocations(node));
+            parsedExpressions.put(expression, parsedExpression);
+        }
+        return parsedExpression;
+    }
+
+    /**
+     * A validated and parsed user expression.
+     */
+    private static class ParsedExpression {
+
+        private final ExpressionNode node;
+        private final boolean invokesFunctions;
+
+        ParsedExpression(ExpressionNode node, boolean invokesFunctions) {
+            this.node = node;
+            this.invokesFunctions = invokesFunctions;
+        }
+    }
+
+    /**
+     * A {@link NodeVisitor} implementation which checks whether a parsed expression contains function or method
+     * calls.
+     */
+    private static class InvocationFinder extends NodeVisitor {
+
+        private boolean found = false;
+
+        static boolean hasInvocations(ExpressionNode expression) {
+            InvocationFinder finder = new InvocationFinder();
+            expression.accept(finder);
+            return finder.found;
+        }
+
+        @Override
+        public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
+            found = true;
+        }
+
+        @Override
+        public void visit(MethodCallExpressionNode methodCallExpressionNode) {
+            found = true;
         }
     }
 }
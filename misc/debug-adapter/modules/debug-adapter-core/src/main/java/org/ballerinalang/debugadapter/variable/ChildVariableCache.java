@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter.variable;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.Value;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the JDI values of the child variables of compound variables while the debuggee is suspended, so that the
+ * child values of the same remote object are fetched only once per suspension, even if the same object is expanded
+ * or evaluated several times.
+ * <p>
+ * Child values may change once the debuggee is resumed. Hence the cache must be cleared before each resume.
+ *
+ * @since 2.0.0
+ */
+public class ChildVariableCache {
+
+    private final Map<String, Map<String, Value>> namedChildVariables = new ConcurrentHashMap<>();
+    private final Map<String, Either<Map<String, Value>, List<Value>>> indexedChildVariables =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the named child variables of the given variable, computing them only if they are not already cached.
+     *
+     * @param variable parent variable
+     * @param supplier computes the child variables
+     * @return named child variables
+     */
+    Map<String, Value> getNamedChildVariables(BCompoundVariable variable, Supplier<Map<String, Value>> supplier) {
+        if (!(variable.getJvmValue() instanceof ObjectReference)) {
+            return supplier.get();
+        }
+        return getOrCompute(namedChildVariables, getKey(variable), supplier);
+    }
+
+    /**
+     * Returns the indexed child variables of the given variable in the given range, computing them only if they are
+     * not already cached.
+     *
+     * @param variable parent variable
+     * @param start    index of the first child variable
+     * @param count    number of child variables, or 0 for all the child variables
+     * @param supplier computes the child variables
+     * @return indexed child variables
+     */
+    Either<Map<String, Value>, List<Value>> getIndexedChildVariables(BCompoundVariable variable, int start,
+                                                                    int count, Supplier<Either<Map<String, Value>,
+                                                                            List<Value>>> supplier) {
+        if (!(variable.getJvmValue() instanceof ObjectReference)) {
+            return supplier.get();
+        }
+        String rangeKey = getKey(variable) + ":" + start + ":" + count;
+        return getOrCompute(indexedChildVariables, rangeKey, supplier);
+    }
+
+    private static <T> T getOrCompute(Map<String, T> cache, String key, Supplier<T> supplier) {
+        // Values are not computed within the map, since computing them requires remote calls to the debuggee
+        T value = cache.get(key);
+        if (value == null) {
+            value = supplier.get();
+            if (value != null) {
+                cache.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static String getKey(BCompoundVariable variable) {
+        // The same remote object may be represented using different variable types, which compute different children
+        return variable.getClass().getName() + ":" + ((ObjectReference) variable.getJvmValue()).uniqueID();
+    }
+
+    /**
+     * Clears all the cached child variables.
+     */
+    public void clear() {
+        namedChildVariables.clear();
+        indexedChildVariables.clear();
+    }
+}
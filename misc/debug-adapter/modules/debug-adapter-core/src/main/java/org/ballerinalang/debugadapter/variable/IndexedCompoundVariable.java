@@ -57,19 +57,21 @@ public abstract class IndexedCompoundVariable extends BCompoundVariable {
      * <li> a map of child variables (i.e. map entries, json elements, etc.)
      * <li> a list of child variables (i.e. array elements, table entries etc.)
      * </ul>
+     * Child variables are cached until the debuggee is resumed.
      *
      * @param start The index of the first variable to return; if omitted children start at 0.
      * @param count The number of variables to return. If count is missing or 0, all variables are returned.
      */
     public Either<Map<String, Value>, List<Value>> getIndexedChildVariables(int start, int count) {
-        return computeChildVariables(start, count);
+        return context.getChildVariableCache().getIndexedChildVariables(this, start, count,
+                () -> computeChildVariables(start, count));
     }
 
     /**
      * Returns the JDI value representation of the child variable in a given index. (i.e. arrays, XML sequence, etc.)
      */
     public Value getChildByIndex(int index) throws DebugVariableException {
-        Either<Map<String, Value>, List<Value>> childVariables = computeChildVariables(index, 1);
+        Either<Map<String, Value>, List<Value>> childVariables = getIndexedChildVariables(index, 1);
         if (childVariables.isLeft()) {
             throw new DebugVariableException("Accessing map elements by index is not allowed.");
         } else if (childVariables.isRight()) {
@@ -85,8 +87,8 @@ public abstract class IndexedCompoundVariable extends BCompoundVariable {
      * Returns the JDI value representation of the child variable for a given key. (i.e. map entry, json element, etc.)
      */
     public Value getChildByName(String key) throws DebugVariableException {
-        // Todo - Avoid fetching all children values, which may cause performance impacts.
-        Either<Map<String, Value>, List<Value>> childVariables = computeChildVariables(0, getChildrenCount());
+        // All the child values are fetched only once per suspension, since they are cached.
+        Either<Map<String, Value>, List<Value>> childVariables = getIndexedChildVariables(0, 0);
         if (childVariables.isRight()) {
             throw new DebugVariableException("Accessing list elements by key is not allowed.");
         }
@@ -52,7 +52,8 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
      */
     public Map<String, Value> getNamedChildVariables() {
         if (namedChildVariables == null) {
-            namedChildVariables = computeChildVariables();
+            namedChildVariables = context.getChildVariableCache().getNamedChildVariables(this,
+                    this::computeChildVariables);
         }
         return namedChildVariables;
     }
@@ -61,14 +62,11 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
      * Returns the JDI value representation of the child variable for a given name.
      */
     public Value getChildByName(String name) throws DebugVariableException {
-        if (namedChildVariables == null) {
-            namedChildVariables = computeChildVariables();
-        }
-
-        if (!namedChildVariables.containsKey(name)) {
+        Map<String, Value> childVariables = getNamedChildVariables();
+        if (!childVariables.containsKey(name)) {
             throw new DebugVariableException("No child variables found with name: '" + name + "'");
         }
-        return namedChildVariables.get(name);
+        return childVariables.get(name);
     }
 
     @Override
@@ -41,10 +41,15 @@ public class BMap extends IndexedCompoundVariable {
     private int mapSize = -1;
     private ArrayReference loadedKeys = null;
     private Value[] loadedValues = null;
+    private ArrayReference allValues = null;
 
     private static final String FIELD_SIZE = "size";
     private static final String METHOD_GET_KEYS = "getKeys";
     private static final String METHOD_GET = "get";
+    private static final String METHOD_VALUES = "values";
+    private static final String METHOD_VALUES_SIGNATURE = "()Ljava/util/Collection;";
+    private static final String METHOD_TO_ARRAY = "toArray";
+    private static final String METHOD_TO_ARRAY_SIGNATURE = "()[Ljava/lang/Object;";
 
     public BMap(SuspendedContext context, String name, Value value) {
         this(context, name, BVariableType.MAP, value);
@@ -95,16 +100,54 @@ public class BMap extends IndexedCompoundVariable {
         }
         Map<Value, Value> entries = new LinkedHashMap<>();
         List<Value> keysRange = loadedKeys.getValues(startIndex, count);
+        List<Value> valuesRange = getValuesRange(startIndex, count);
         for (int i = startIndex; i < startIndex + count; i++) {
             Value key = keysRange.get(i - startIndex);
             if (loadedValues[i] == null) {
-                loadedValues[i] = getValueFor(key);
+                loadedValues[i] = valuesRange != null ? valuesRange.get(i - startIndex) : getValueFor(key);
             }
             entries.put(key, loadedValues[i]);
         }
         return entries;
     }
 
+    /**
+     * Returns the values in the given range using a single remote call for the whole range, instead of a remote
+     * method invocation per each key. Values are listed in the same order as the keys, since the map preserves the
+     * insertion order.
+     *
+     * @return the values in the given range, or null if the values cannot be loaded in bulk
+     */
+    private List<Value> getValuesRange(int startIndex, int count) {
+        try {
+            if (allValues == null) {
+                Value valueCollection = invokeMethod(jvmValue, METHOD_VALUES, METHOD_VALUES_SIGNATURE);
+                allValues = (ArrayReference) invokeMethod(valueCollection, METHOD_TO_ARRAY,
+                        METHOD_TO_ARRAY_SIGNATURE);
+            }
+            if (allValues == null || allValues.length() != loadedValues.length) {
+                return null;
+            }
+            return allValues.getValues(startIndex, count);
+        } catch (Exception ignored) {
+            // Falls back on fetching the values one by one.
+            return null;
+        }
+    }
+
+    private Value invokeMethod(Value parent, String methodName, String signature) throws Exception {
+        if (!(parent instanceof ObjectReference)) {
+            return null;
+        }
+        ObjectReference parentRef = (ObjectReference) parent;
+        List<Method> methods = parentRef.referenceType().methodsByName(methodName, signature);
+        if (methods.isEmpty()) {
+            return null;
+        }
+        return parentRef.invokeMethod(context.getOwningThread().getThreadReference(), methods.get(0),
+                Collections.emptyList(), ObjectReference.INVOKE_SINGLE_THREADED);
+    }
+
     private Value getValueFor(Value key) {
         try {
             Optional<Method> getMethod = VariableUtils.getMethod(jvmValue, METHOD_GET);
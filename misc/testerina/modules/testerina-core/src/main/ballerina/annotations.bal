@@ -22,6 +22,7 @@
 # + before - Name of the function to be run before the test is run
 # + after - Name of the function to be run after the test is run
 # + dependsOn - A list of function names the test function depends on, and will be run before the test
+# + serialExecution - Flag to run the test function serially even when the tests are run in parallel
 public type TestConfig record {
     boolean enable = true;
     string[] groups = [];
@@ -29,6 +30,7 @@ public type TestConfig record {
     function() returns (any|error) before?;
     function() returns (any|error) after?;
     (function() returns (any|error))[] dependsOn?;
+    boolean serialExecution = false;
 };
 
 # Configuration of the function to be mocked.
@@ -70,6 +70,7 @@ public class TestProcessor {
     private static final String GROUP_ANNOTATION_NAME = "groups";
     private static final String VALUE_SET_ANNOTATION_NAME = "dataProvider";
     private static final String TEST_ENABLE_ANNOTATION_NAME = "enable";
+    private static final String SERIAL_EXECUTION_ANNOTATION_NAME = "serialExecution";
     private static final String AFTER_SUITE_ALWAYS_RUN_FIELD_NAME = "alwaysRun";
     private static final String VALUE_FIELD_NAME = "value";
     private static final String BEFORE_GROUPS_ANNOTATION_NAME = "BeforeGroups";
@@ -479,6 +480,11 @@ public class TestProcessor {
                             if (AFTER_FUNCTION.equals(fieldName)) {
                                 test.setAfterTestFunction(getStringValue(valueExpr));
                             }
+                            if (SERIAL_EXECUTION_ANNOTATION_NAME.equals(fieldName)
+                                    && SyntaxKind.BOOLEAN_LITERAL == valueExpr.kind()) {
+                                test.setSerialExecution(
+                                        getStringValue(valueExpr).startsWith(Boolean.TRUE.toString()));
+                            }
                             if (DEPENDS_ON_FUNCTIONS.equals(fieldName)) {
                                 if (SyntaxKind.LIST_CONSTRUCTOR == valueExpr.kind() &&
                                         valueExpr instanceof ListConstructorExpressionNode) {
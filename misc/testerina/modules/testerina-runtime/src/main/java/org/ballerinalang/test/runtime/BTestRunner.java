@@ -45,6 +45,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.XmlValue;
 import org.ballerinalang.test.runtime.entity.Test;
+import org.ballerinalang.test.runtime.entity.TestGroup;
 import org.ballerinalang.test.runtime.entity.TestSuite;
 import org.ballerinalang.test.runtime.entity.TesterinaFunction;
 import org.ballerinalang.test.runtime.entity.TesterinaReport;
@@ -64,9 +65,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -85,6 +95,7 @@ public class BTestRunner {
     private static final String TEST_STOP_FUNCTION_NAME = ".<teststop>";
     private static final String CONFIGURATION_CLASS_NAME = "$ConfigurationMapper";
     private static final String CONFIG_FILE_NAME = "Config.toml";
+    private static final int PARALLEL_TEST_WORKER_COUNT = Runtime.getRuntime().availableProcessors();
 
     private PrintStream errStream;
     private PrintStream outStream;
@@ -293,31 +304,114 @@ public class BTestRunner {
 
     private void executeTests(TestSuite suite, String packageName, ClassLoader classLoader, Scheduler scheduler,
                               AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups) {
-        List<String> failedOrSkippedTests = new ArrayList<>();
-        List<String> failedAfterFuncTests = new ArrayList<>();
-        suite.getTests().forEach(test -> {
-            AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
-
-            // execute the before groups functions
-            executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
-
-            // run the before each tests
-            executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the before tests
-            executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the test
-            executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
-                            failedOrSkippedTests, failedAfterFuncTests);
-            // run the after tests
-            executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
-            // run the after each tests
-            executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-
-            // execute the after groups functions
-            executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
+        List<String> failedOrSkippedTests = Collections.synchronizedList(new ArrayList<>());
+        List<String> failedAfterFuncTests = Collections.synchronizedList(new ArrayList<>());
+        List<Test> parallelTests = suite.isParallelExecution() ? getParallelTests(suite) : Collections.emptyList();
+
+        // Serial tests are run first, since the tests that are run in parallel can depend on them
+        suite.getTests().stream().filter(test -> !parallelTests.contains(test)).forEach(test ->
+                executeTest(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipAfterGroups,
+                        failedOrSkippedTests, failedAfterFuncTests));
+        if (!parallelTests.isEmpty()) {
+            executeParallelTests(parallelTests, suite, packageName, classLoader, shouldSkip, shouldSkipAfterGroups,
+                    failedOrSkippedTests, failedAfterFuncTests);
+        }
+    }
+
+    private void executeTest(Test test, TestSuite suite, String packageName, ClassLoader classLoader,
+                             Scheduler scheduler, AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                             List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
+
+        // execute the before groups functions
+        executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
+
+        // run the before each tests
+        executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the before tests
+        executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the test
+        executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                        failedOrSkippedTests, failedAfterFuncTests);
+        // run the after tests
+        executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
+        // run the after each tests
+        executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+
+        // execute the after groups functions
+        executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
+    }
+
+    /**
+     * Runs the given tests concurrently on a pool of workers. Each worker runs the tests on its own scheduler. A
+     * test is started only after all the tests it depends on are completed.
+     */
+    private void executeParallelTests(List<Test> tests, TestSuite suite, String packageName, ClassLoader classLoader,
+                                      AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                                      List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_TEST_WORKER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "testerina-parallel-worker");
+            thread.setDaemon(true);
+            return thread;
         });
+        ThreadLocal<Scheduler> workerScheduler = ThreadLocal.withInitial(() -> new Scheduler(4, false));
+        Map<String, CompletableFuture<Void>> testFutures = new HashMap<>();
+        try {
+            // Tests are sorted such that a test comes after the tests it depends on
+            for (Test test : tests) {
+                CompletableFuture<?>[] dependencies = test.getDependsOnTestFunctions().stream()
+                        .map(testFutures::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture<Void> testFuture = CompletableFuture.allOf(dependencies).thenRunAsync(() ->
+                        executeTest(test, suite, packageName, classLoader, workerScheduler.get(), shouldSkip,
+                                shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests), executor);
+                testFutures.put(test.getTestName(), testFuture);
+            }
+            CompletableFuture.allOf(testFutures.values().toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the tests that can be run in parallel. A test is run serially if it is marked for serial execution or
+     * belongs to a group with before or after group functions, since those functions are run around the first and
+     * the last test of the group. The tests a serial test depends on are run serially as well.
+     */
+    private static List<Test> getParallelTests(TestSuite suite) {
+        List<Test> tests = suite.getTests();
+        Map<String, Test> testsByName = new HashMap<>();
+        Set<Test> serialTests = new HashSet<>();
+        for (Test test : tests) {
+            testsByName.put(test.getTestName(), test);
+            if (test.isSerialExecution() || hasGroupFunctions(test, suite)) {
+                serialTests.add(test);
+            }
+        }
+
+        // Tests are sorted such that a test comes after the tests it depends on. Hence a single reverse pass marks
+        // all the tests that a serial test depends on.
+        for (int i = tests.size() - 1; i >= 0; i--) {
+            Test test = tests.get(i);
+            if (serialTests.contains(test)) {
+                test.getDependsOnTestFunctions().forEach(dependsOnFn -> serialTests.add(testsByName.get(dependsOnFn)));
+            }
+        }
+
+        return tests.stream().filter(test -> !serialTests.contains(test)).collect(Collectors.toList());
+    }
+
+    private static boolean hasGroupFunctions(Test test, TestSuite suite) {
+        for (String groupName : test.getGroups()) {
+            TestGroup group = suite.getGroups().get(groupName);
+            if (!group.getBeforeGroupsFunctions().isEmpty() || !group.getAfterGroupsFunctions().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void executeBeforeGroupFunctions(Test test, TestSuite suite, ClassLoader classLoader, Scheduler scheduler,
@@ -443,7 +537,10 @@ public class BTestRunner {
             Path sourceRootPath = Paths.get(suite.getSourceRootPath()).resolve(TesterinaConstants.TARGET_DIR_NAME);
             Path jsonPath = Paths.get(sourceRootPath.toString(), TesterinaConstants.RERUN_TEST_JSON_FILE);
             File jsonFile = new File(jsonPath.toString());
-            writeFailedTestsToJson(failedOrSkippedTests, jsonFile);
+            // Tests can be completed concurrently when they are run in parallel
+            synchronized (failedOrSkippedTests) {
+                writeFailedTestsToJson(failedOrSkippedTests, jsonFile);
+            }
         }
 
     }
@@ -34,6 +34,7 @@ public class Test {
     String dataProvider;
     List<String> dependsOnTestFunctions = new ArrayList<>();
     List<String> groups = new ArrayList<>();
+    boolean serialExecution;
 
     public String getTestName() {
         return testName;
@@ -87,6 +88,14 @@ public class Test {
         return groups;
     }
 
+    public boolean isSerialExecution() {
+        return serialExecution;
+    }
+
+    public void setSerialExecution(boolean serialExecution) {
+        this.serialExecution = serialExecution;
+    }
+
     @Override
     public String toString() {
         return getTestName();
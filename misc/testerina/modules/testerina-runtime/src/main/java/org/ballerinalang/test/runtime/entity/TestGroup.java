@@ -20,19 +20,20 @@ package org.ballerinalang.test.runtime.entity;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a test group in the test suite.
  */
 public class TestGroup {
     private int testCount;
-    private int executedCount;
+    private final AtomicInteger executedCount;
     private List<String> beforeGroupsFunctions;
     private List<String> afterGroupsFunctions;
 
     public TestGroup() {
         this.testCount = 0;
-        this.executedCount = 0;
+        this.executedCount = new AtomicInteger();
         this.beforeGroupsFunctions = new ArrayList<>();
         this.afterGroupsFunctions = new ArrayList<>();
     }
@@ -46,10 +47,11 @@ public class TestGroup {
 
     /**
      * Increments the executed test count by one.
-     * This should be be called after each test execution.
+     * This should be be called after each test execution, which can be from several threads when the tests are run
+     * in parallel.
      */
     public void incrementExecutedCount() {
-        this.executedCount++;
+        this.executedCount.incrementAndGet();
     }
 
     /**
@@ -95,7 +97,7 @@ public class TestGroup {
      * @return if the first test is executed
      */
     public boolean isFirstTestExecuted() {
-        return executedCount > 0;
+        return executedCount.get() > 0;
     }
 
     /**
@@ -105,7 +107,7 @@ public class TestGroup {
      * @return if the last test is executed
      */
     public boolean isLastTestExecuted() {
-        return testCount == executedCount;
+        return testCount == executedCount.get();
     }
 
     /**
@@ -60,6 +60,7 @@ public class TestSuite {
     private List<String> testExecutionDependencies = new ArrayList<>();
 
     private boolean isReportRequired;
+    private boolean isParallelExecution;
 
     /**
      * Key - unique identifier for the function to be mocked.
@@ -238,6 +239,14 @@ public class TestSuite {
         isReportRequired = reportRequired;
     }
 
+    public boolean isParallelExecution() {
+        return isParallelExecution;
+    }
+
+    public void setParallelExecution(boolean parallelExecution) {
+        isParallelExecution = parallelExecution;
+    }
+
     public Map<String, TestGroup> getGroups() {
         return groups;
     }
@@ -87,7 +87,7 @@ public class TesterinaReport {
         testReportOfPackage.computeIfAbsent(packageName, summary -> new TestSummary());
     }
 
-    public void addFunctionResult(String packageName, TesterinaResult result) {
+    public synchronized void addFunctionResult(String packageName, TesterinaResult result) {
         testReportOfPackage.computeIfAbsent(packageName, summary -> new TestSummary());
         TestSummary testSummary = testReportOfPackage.get(packageName);
         ModuleStatus.Status status;
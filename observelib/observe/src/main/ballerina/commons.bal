@@ -23,6 +23,8 @@ final configurable boolean metricsEnabled = false;
 final configurable string metricsReporter = "prometheus";
 final configurable boolean tracingEnabled = false;
 final configurable string tracingProvider = "jaeger";
+final configurable string tracingSamplerType = "const";
+final configurable float tracingSamplerParam = 1.0;
 
 function init() {
     externInitializeModule();
@@ -111,6 +111,8 @@ public class OpenTracerBallerinaWrapper {
             observerContext.setSystemSpan(true);
             if (prevObserverContext != null) {
                 observerContext.setParent(prevObserverContext);
+            } else {
+                observerContext.setSampled(ObserveUtils.isTraceSampled());
             }
             ObserveUtils.setObserverContextToCurrentFrame(env, observerContext);
             return startSpan(observerContext, true, spanName);
@@ -123,6 +125,9 @@ public class OpenTracerBallerinaWrapper {
             return startSpan(observerContext, true, spanName);
         }
 
+        // A root span starts a new trace, hence it is sampled by the trace sampler. Other spans are sampled only if
+        // their parent spans are sampled.
+        observerContext.setSampled(ObserveUtils.isTraceSampled());
         return startSpan(observerContext, true, spanName);
     }
 
@@ -187,7 +192,10 @@ public class OpenTracerBallerinaWrapper {
             span = observerContext.getSpan();
         }
 
-        span.addTag(tagKey, tagValue);
+        // Spans of traces which are not sampled are not created
+        if (span != null) {
+            span.addTag(tagKey, tagValue);
+        }
         return null;
     }
 }
@@ -17,9 +17,12 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.EmitResult;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -32,7 +35,9 @@ import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
@@ -40,7 +45,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +62,7 @@ import java.util.stream.Stream;
  */
 public class TestBirAndJarCache {
     private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private final List<Path> tempDirectories = new ArrayList<>();
 
     @Test(description = "tests writing of the BIR and Jar files")
     public void testBirAndJarCaching() throws IOException {
@@ -62,7 +74,7 @@ public class TestBirAndJarCache {
         BuildProject project = null;
         try {
             // Create a project with a custom compilation cache
-            cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+            cacheDirPath = createTempDirectory("test-compilation-cache");
             testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
             ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
             environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
@@ -98,6 +110,182 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the cached BIR and jar files of unchanged modules in incremental builds")
+    public void testIncrementalBuild() throws IOException {
+        Path projectPath = copyIncrementalBuildProject("incremental-build-project");
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        Path birCachePath = projectPath.resolve("target").resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve("testorg").resolve("incremental").resolve("0.1.0").resolve("bir");
+        Path defaultModuleBir = birCachePath.resolve("incremental.bir");
+        Path utilsModuleBir = birCachePath.resolve("incremental.utils.bir");
+        FileTime initialTime = FileTime.fromMillis(0);
+
+        // 1) The first build compiles and caches all the modules
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertTrue(Files.exists(defaultModuleBir));
+        Assert.assertTrue(Files.exists(utilsModuleBir));
+        Assert.assertTrue(Files.exists(birCachePath.resolve("incremental.hashes")));
+        Assert.assertTrue(Files.exists(birCachePath.resolve("incremental.utils.hashes")));
+
+        // 2) Nothing has changed, hence none of the modules should be compiled again
+        Files.setLastModifiedTime(defaultModuleBir, initialTime);
+        Files.setLastModifiedTime(utilsModuleBir, initialTime);
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+        Assert.assertEquals(Files.getLastModifiedTime(utilsModuleBir), initialTime);
+
+        // 3) A change in a function body should not recompile the modules that depend on the changed module
+        Path utilsSourcePath = projectPath.resolve("modules").resolve("utils").resolve("utils.bal");
+        Files.writeString(utilsSourcePath, Files.readString(utilsSourcePath).replace("a + b", "b + a"));
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+        Assert.assertNotEquals(Files.getLastModifiedTime(utilsModuleBir), initialTime);
+
+        // 4) A change in the public API should recompile the dependent modules as well
+        Files.setLastModifiedTime(utilsModuleBir, initialTime);
+        Files.writeString(utilsSourcePath, Files.readString(utilsSourcePath)
+                + "\npublic function subtract(int a, int b) returns int {\n    return a - b;\n}\n");
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertNotEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+        Assert.assertNotEquals(Files.getLastModifiedTime(utilsModuleBir), initialTime);
+
+        // 5) Named arguments are bound to the parameter positions in the dependent modules, hence renaming a
+        // parameter should recompile them
+        Files.setLastModifiedTime(defaultModuleBir, initialTime);
+        Files.writeString(utilsSourcePath, Files.readString(utilsSourcePath)
+                .replace("add(int a, int b)", "add(int a, int c)").replace("b + a", "c + a"));
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertNotEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+
+        // 6) A change in the members of a public union type should recompile the dependent modules
+        Files.setLastModifiedTime(defaultModuleBir, initialTime);
+        Files.writeString(utilsSourcePath, Files.readString(utilsSourcePath)
+                .replace("type Value int|string;", "type Value int|string|boolean;"));
+        buildIncrementally(projectPath, buildOptions);
+        Assert.assertNotEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+    }
+
+    @Test(description = "tests reporting the diagnostics of modules loaded from the incremental build cache")
+    public void testIncrementalBuildReplaysDiagnostics() throws IOException {
+        Path projectPath = copyIncrementalBuildProject("incremental-diagnostics-project");
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        Path defaultModuleBir = projectPath.resolve("target").resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve("testorg").resolve("incremental").resolve("0.1.0").resolve("bir")
+                .resolve("incremental.bir");
+        Path mainSourcePath = projectPath.resolve("main.bal");
+        Files.writeString(mainSourcePath, Files.readString(mainSourcePath)
+                .replace("utils:add(4, 5);", "utils:add(4, 5) + oldAdd(1, 2);")
+                + "\n# Adds two integers.\n# # Deprecated\n# Use `utils:add` instead.\n@deprecated\n"
+                + "function oldAdd(int a, int b) returns int {\n    return a + b;\n}\n");
+
+        // 1) The first build compiles the module and reports the usage of the deprecated function
+        List<String> warnings = buildIncrementally(projectPath, buildOptions);
+        Assert.assertFalse(warnings.isEmpty());
+        FileTime initialTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(defaultModuleBir, initialTime);
+
+        // 2) The module is loaded from the cache, but the same warnings should be reported
+        Assert.assertEquals(buildIncrementally(projectPath, buildOptions), warnings);
+        Assert.assertEquals(Files.getLastModifiedTime(defaultModuleBir), initialTime);
+    }
+
+    @Test(description = "tests reusing the cached dependencies jar when assembling executables incrementally")
+    public void testIncrementalExecutableAssembly() throws IOException {
+        Path projectPath = copyIncrementalBuildProject("incremental-exec-project");
+        BuildOptions buildOptions = new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+        Path jarCachePath = projectPath.resolve("target").resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve("testorg").resolve("incremental").resolve("0.1.0").resolve(JvmTarget.JAVA_11.code());
+        Path executablePath = projectPath.resolve("incremental.jar");
+
+        // A jar cached for a previous set of dependencies
+        Path staleDependenciesJar = jarCachePath.resolve("dependencies-" + UUID.randomUUID() + ".jar");
+        Files.createDirectories(jarCachePath);
+        Files.write(staleDependenciesJar, new byte[0]);
+
+        // 1) The first build caches the jar assembled from the dependencies of the package and removes the
+        // jars cached for other sets of dependencies
+        emitIncrementally(projectPath, buildOptions, executablePath);
+        Assert.assertFalse(Files.exists(staleDependenciesJar));
+        List<Path> dependenciesJars = findDependenciesJars(jarCachePath);
+        Assert.assertEquals(dependenciesJars.size(), 1);
+        Path dependenciesJar = dependenciesJars.get(0);
+        FileTime initialTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(dependenciesJar, initialTime);
+
+        // 2) A change in the package should reuse the cached dependencies jar
+        Path utilsSourcePath = projectPath.resolve("modules").resolve("utils").resolve("utils.bal");
+        Files.writeString(utilsSourcePath, Files.readString(utilsSourcePath).replace("a + b", "b + a"));
+        emitIncrementally(projectPath, buildOptions, executablePath);
+        Assert.assertEquals(findDependenciesJars(jarCachePath), dependenciesJars);
+        Assert.assertEquals(Files.getLastModifiedTime(dependenciesJar), initialTime);
+
+        // 3) The executable should contain the classes of the package as well as the runtime classes
+        try (JarFile executableJar = new JarFile(executablePath.toFile())) {
+            Assert.assertNotNull(executableJar.getManifest().getMainAttributes().getValue(Attributes.Name.MAIN_CLASS));
+            Assert.assertNotNull(executableJar.getEntry("io/ballerina/runtime/api/Module.class"));
+            Assert.assertTrue(executableJar.stream()
+                    .anyMatch(entry -> entry.getName().startsWith("testorg/incremental/")));
+        }
+    }
+
+    private static void emitIncrementally(Path projectPath, BuildOptions buildOptions, Path executablePath) {
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+        Assert.assertTrue(emitResult.successful(), emitResult.diagnostics().errors().toString());
+    }
+
+    private static List<Path> findDependenciesJars(Path jarCachePath) throws IOException {
+        try (Stream<Path> paths = Files.list(jarCachePath)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("dependencies-"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> buildIncrementally(Path projectPath, BuildOptions buildOptions) {
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+        return pkgCompilation.diagnosticResult().warnings().stream()
+                .map(Diagnostic::toString)
+                .collect(Collectors.toList());
+    }
+
+    private Path copyIncrementalBuildProject(String prefix) throws IOException {
+        Path projectPath = createTempDirectory(prefix);
+        copyDirectory(RESOURCE_DIRECTORY.resolve("incremental_build_project"), projectPath);
+        return projectPath;
+    }
+
+    private Path createTempDirectory(String prefix) throws IOException {
+        Path tempDirectory = Files.createTempDirectory(prefix + System.nanoTime());
+        tempDirectories.add(tempDirectory);
+        return tempDirectory;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        for (Path tempDirectory : tempDirectories) {
+            TestUtils.deleteDirectory(tempDirectory.toFile());
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Path targetPath = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(targetPath);
+                } else {
+                    Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -68,6 +68,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static io.ballerina.projects.test.TestUtils.isWindows;
@@ -757,6 +759,8 @@ public class TestBuildProject {
 
         // 6) Get semantic model
         SemanticModel semanticModel = compilation.getSemanticModel();
+        // The semantic model is created once per compilation, so that its indexes are reused
+        Assert.assertSame(compilation.getSemanticModel(), semanticModel);
 
         // 7) Get the document
         Document srcFile = null;
@@ -1146,6 +1150,45 @@ public class TestBuildProject {
                 .contains("unknown type 'PersonalDetails'"));
     }
 
+    @Test(description = "tests recording the compiler profile of a build project")
+    public void testCompilerProfile() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("myproject");
+        BuildOptions buildOptions = new BuildOptionsBuilder().profileCompiler(true).build();
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        Assert.assertTrue(project.buildOptions().profileCompiler());
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertTrue(compilation.compilerProfile().isEnabled());
+
+        // The profile should contain every module of the package and the phases run on them
+        String profile = compilation.compilerProfile().toJson();
+        for (ModuleId moduleId : project.currentPackage().moduleIds()) {
+            ModuleName moduleName = project.currentPackage().module(moduleId).moduleName();
+            Assert.assertTrue(profile.contains("\"sameera/" + moduleName + ":0.1.0\""), profile);
+        }
+        Assert.assertTrue(profile.contains("\"define\""), profile);
+        Assert.assertTrue(profile.contains("\"typeCheck\""), profile);
+        Assert.assertTrue(profile.contains("\"desugar\""), profile);
+        Assert.assertTrue(profile.contains("\"codeGen\""), profile);
+
+        // Each phase should count all the nodes of the module, not only the top-level nodes
+        Matcher nodeCounts = Pattern.compile("\"topLevelNodes\": (\\d+),\\s*\"nodes\": (\\d+)").matcher(profile);
+        int phases = 0;
+        while (nodeCounts.find()) {
+            Assert.assertTrue(Integer.parseInt(nodeCounts.group(2)) > Integer.parseInt(nodeCounts.group(1)),
+                    nodeCounts.group());
+            phases++;
+        }
+        Assert.assertTrue(phases > 0, profile);
+
+        // The profile should be empty if it is not enabled
+        BuildProject unprofiledProject = BuildProject.load(projectPath);
+        PackageCompilation unprofiledCompilation = unprofiledProject.currentPackage().getCompilation();
+        Assert.assertFalse(unprofiledCompilation.compilerProfile().isEnabled());
+        Assert.assertFalse(unprofiledCompilation.compilerProfile().toJson().contains("\"typeCheck\""));
+    }
+
     @AfterClass (alwaysRun = true)
     public void reset() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("project_no_permission");
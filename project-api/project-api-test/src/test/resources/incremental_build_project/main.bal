@@ -0,0 +1,6 @@
+import incremental.utils;
+
+public function main() {
+    int sum = utils:add(4, 5);
+    utils:Value value = sum;
+}
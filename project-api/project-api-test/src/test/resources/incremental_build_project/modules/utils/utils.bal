@@ -0,0 +1,5 @@
+public function add(int a, int b) returns int {
+    return a + b;
+}
+
+public type Value int|string;
@@ -19,9 +19,8 @@ package org.ballerinalang.stdlib.runtime.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.internal.scheduling.HashedWheelTimer;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -31,12 +30,8 @@ import java.util.concurrent.TimeUnit;
  */
 public class Sleep {
 
-    private static final int CORE_THREAD_POOL_SIZE = 1;
-
-    private static ScheduledExecutorService executor = Executors.newScheduledThreadPool(CORE_THREAD_POOL_SIZE);
-
     public static void sleep(Environment env, long delayMillis) {
         Future balFuture = env.markAsync();
-        executor.schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
+        HashedWheelTimer.getInstance().schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
     }
 }
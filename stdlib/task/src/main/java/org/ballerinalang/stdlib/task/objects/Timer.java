@@ -17,29 +17,39 @@
 */
 package org.ballerinalang.stdlib.task.objects;
 
+import io.ballerina.runtime.internal.scheduling.HashedWheelTimer;
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
 
-import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Timers are scheduled on the timer of the Ballerina runtime instead of the Quartz scheduler, hence a timer does not
+ * need a Quartz job or a Quartz thread. The attached services are invoked on the strand scheduler.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
+    // Runs which are late by more than the misfire threshold of the Quartz scheduler are skipped
+    private static final long MISFIRE_THRESHOLD_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.parseLong(QUARTZ_MISFIRE_THRESHOLD_VALUE));
+
     private long interval, delay;
 
+    // The following fields are guarded by this timer
+    private HashedWheelTimer.Timeout timeout;
+    // Identifies the latest scheduled run, since a cancelled run may have already started
+    private long runId;
+    private long startTime;
+    private long nextRun;
+    private boolean paused;
+    private boolean stopped;
+
     /**
      * Creates a Timer object.
      *
@@ -73,12 +83,45 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        if (this.timeout != null && !this.stopped) {
+            throw new SchedulingException("Failed to schedule task. The task is already started.");
+        }
+        this.startTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getDelay());
+        this.nextRun = 0;
+        this.stopped = false;
+        scheduleNextRun(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        this.stopped = true;
+        cancelNextRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        this.paused = true;
+        cancelNextRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (!this.paused) {
+            return;
+        }
+        this.paused = false;
+        if (this.timeout != null && !this.stopped) {
+            scheduleNextRun(true);
         }
     }
 
@@ -119,49 +162,52 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
+     * Schedules the next run of the timer. The runs are scheduled at a fixed rate from the start time. Runs missed
+     * while the timer was paused, or delayed by more than the misfire threshold, are skipped, and they are counted
+     * as runs, as in the misfire handling of the Quartz timers used earlier. A run which is only slightly late is
+     * run right away.
      *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * @param resumed true if the timer is resumed, in which case all the missed runs are skipped
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void scheduleNextRun(boolean resumed) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+        long now = System.nanoTime();
+        long nextRunTime = this.startTime + this.nextRun * intervalNanos;
+        if (nextRunTime < (resumed ? now : now - MISFIRE_THRESHOLD_NANOS)) {
+            this.nextRun = (now - this.startTime + intervalNanos - 1) / intervalNanos;
+            nextRunTime = this.startTime + this.nextRun * intervalNanos;
+        }
+        if (this.getMaxRuns() > 0 && this.nextRun >= this.getMaxRuns()) {
+            return;
         }
+        long scheduledRunId = ++this.runId;
+        this.timeout = HashedWheelTimer.getInstance().schedule(() -> run(scheduledRunId), nextRunTime - now,
+                TimeUnit.NANOSECONDS);
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    private void cancelNextRun() {
+        if (this.timeout != null) {
+            this.timeout.cancel();
+        }
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    private void run(long scheduledRunId) {
+        synchronized (this) {
+            if (this.paused || this.stopped || scheduledRunId != this.runId) {
+                return;
+            }
+            this.nextRun++;
+            scheduleNextRun(false);
+        }
+        runServices();
+    }
+
+    /**
+     * Runs the attached services, on the strand scheduler.
+     */
+    void runServices() {
+        for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
         }
-        return simpleScheduleBuilder;
     }
 }
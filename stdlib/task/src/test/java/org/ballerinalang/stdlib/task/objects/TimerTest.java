@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.objects;
+
+import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for the runs of the {@link Timer}, which is scheduled on the timer of the runtime.
+ */
+@Test
+public class TimerTest {
+
+    @Test(description = "Tests the initial delay and the fixed rate of the runs")
+    public void testDelayAndInterval() throws SchedulingException {
+        RecordingTimer timer = new RecordingTimer(200, 100, 3);
+        long startTime = System.nanoTime();
+        timer.start();
+
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() == 3);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(timer.runTimes.get(i) - startTime >= TimeUnit.MILLISECONDS.toNanos(200 + i * 100));
+        }
+        timer.stop();
+    }
+
+    @Test(description = "Tests that the timer stops after the maximum number of runs")
+    public void testMaxRuns() throws SchedulingException, InterruptedException {
+        RecordingTimer timer = new RecordingTimer(0, 50, 3);
+        timer.start();
+
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() >= 3);
+        Thread.sleep(300);
+        Assert.assertEquals(timer.runTimes.size(), 3);
+        timer.stop();
+    }
+
+    @Test(description = "Tests that a paused timer does not run until it is resumed")
+    public void testPauseAndResume() throws SchedulingException, InterruptedException {
+        RecordingTimer timer = new RecordingTimer(0, 50);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() >= 2);
+
+        timer.pause();
+        int runsBeforePause = timer.runTimes.size();
+        Thread.sleep(300);
+        Assert.assertEquals(timer.runTimes.size(), runsBeforePause);
+
+        timer.resume();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() >= runsBeforePause + 2);
+        timer.stop();
+    }
+
+    @Test(description = "Tests that the runs missed while the timer is paused are skipped and counted as runs")
+    public void testMisfiredRunsAreSkipped() throws SchedulingException, InterruptedException {
+        // Runs are due at 0, 300, 600 and 900 ms
+        RecordingTimer timer = new RecordingTimer(0, 300, 4);
+        long startTime = System.nanoTime();
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() == 1);
+
+        // The runs at 300 and 600 ms are missed, and the timer resumes with the last run at 900 ms
+        timer.pause();
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        Thread.sleep(Math.max(0, 750 - elapsedTime));
+        timer.resume();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() == 2);
+        Assert.assertTrue(timer.runTimes.get(1) - startTime >= TimeUnit.MILLISECONDS.toNanos(900));
+
+        Thread.sleep(500);
+        Assert.assertEquals(timer.runTimes.size(), 2);
+        timer.stop();
+    }
+
+    @Test(description = "Tests that a stopped timer does not run")
+    public void testStop() throws SchedulingException, InterruptedException {
+        RecordingTimer timer = new RecordingTimer(0, 50);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.runTimes.size() >= 1);
+
+        timer.stop();
+        int runsBeforeStop = timer.runTimes.size();
+        Thread.sleep(300);
+        Assert.assertEquals(timer.runTimes.size(), runsBeforeStop);
+    }
+
+    /**
+     * A timer which records the times of its runs instead of running services.
+     */
+    private static class RecordingTimer extends Timer {
+
+        private final List<Long> runTimes = new CopyOnWriteArrayList<>();
+
+        RecordingTimer(long delay, long interval) throws SchedulingException {
+            super(delay, interval);
+        }
+
+        RecordingTimer(long delay, long interval, long maxRuns) throws SchedulingException {
+            super(delay, interval, maxRuns);
+        }
+
+        @Override
+        void runServices() {
+            this.runTimes.add(System.nanoTime());
+        }
+    }
+}
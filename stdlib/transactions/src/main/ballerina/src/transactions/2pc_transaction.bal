@@ -42,6 +42,17 @@ class TwoPhaseCommitTransaction {
                 self.transactionBlockId));
         string|error ret = "";
 
+        if (self.participants.length() == 0) {
+            // There are no other participants to prepare, so the local resource managers can commit in one phase
+            boolean localCommitSuccessful = commitResourceManagersOnePhase(self.transactionId,
+                self.transactionBlockId);
+            if (!localCommitSuccessful) {
+                log:printInfo("Local commit failed, aborting..");
+                return OUTCOME_ABORTED;
+            }
+            return OUTCOME_COMMITTED;
+        }
+
         // Prepare local resource managers
         boolean localPrepareSuccessful = prepareResourceManagers(self.transactionId, self.transactionBlockId);
         if (!localPrepareSuccessful) {
@@ -361,6 +361,18 @@ function commitResourceManagers(string transactionId, string transactionBlockId)
     name: "commitResourceManagers"
 } external;
 
+# Commit local resource managers of a transaction which has no other participants. If there is a single XA resource,
+# it is committed in one phase without preparing it. Otherwise, the resource managers are prepared and committed.
+#
+# + transactionId - Globally unique transaction ID.
+# + transactionBlockId - ID of the transaction block. Each transaction block in a process has a unique ID.
+# + return - true or false representing whether the commit is successful or not.
+function commitResourceManagersOnePhase(string transactionId, string transactionBlockId)
+        returns boolean = @java:Method {
+    'class: "io.ballerina.transactions.Utils",
+    name: "commitResourceManagersOnePhase"
+} external;
+
 # Abort local resource managers.
 #
 # + transactionId - Globally unique transaction ID.
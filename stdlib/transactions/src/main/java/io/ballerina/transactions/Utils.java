@@ -207,6 +207,11 @@ public class Utils {
                 .getInstance().notifyCommit(strand, transactionId.getValue(), transactionBlockId.getValue());
     }
 
+    public static boolean commitResourceManagersOnePhase(BString transactionId, BString transactionBlockId) {
+        return TransactionResourceManager.getInstance().commitOnePhase(transactionId.getValue(),
+                                                                       transactionBlockId.getValue());
+    }
+
     public static boolean prepareResourceManagers(BString transactionId, BString transactionBlockId) {
         return TransactionResourceManager.getInstance().prepare(transactionId.getValue(),
                                                                 transactionBlockId.getValue());
@@ -0,0 +1,109 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Calls lang.array functions with isolated functions on arrays which are large enough to be processed in parallel.
+// The iteration counts are counted in array elements. Run with different BALLERINA_MAX_POOL_SIZE values to compare
+// the scaling across cores.
+
+const int LARGE_ARRAY_SIZE = 100000;
+
+isolated function hash(int value) returns int {
+    int h = value;
+    int i = 0;
+    while (i < 50) {
+        h = (h * 31 + i) % 1000003;
+        i += 1;
+    }
+    return h;
+}
+
+function createLargeArray() returns int[] {
+    int[] arr = [];
+    int i = 0;
+    while (i < LARGE_ARRAY_SIZE) {
+        arr.push(LARGE_ARRAY_SIZE - i);
+        i += 1;
+    }
+    return arr;
+}
+
+public function benchmarkParallelArrayMap(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = createLargeArray();
+    int i = 0;
+    while (i < warmupCount) {
+        int[] result = arr.map(isolated function (int x) returns int { return hash(x); });
+        i += LARGE_ARRAY_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int[] result = arr.map(isolated function (int x) returns int { return hash(x); });
+        i += LARGE_ARRAY_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkParallelArrayFilter(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = createLargeArray();
+    int i = 0;
+    while (i < warmupCount) {
+        int[] result = arr.filter(isolated function (int x) returns boolean { return hash(x) % 2 == 0; });
+        i += LARGE_ARRAY_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int[] result = arr.filter(isolated function (int x) returns boolean { return hash(x) % 2 == 0; });
+        i += LARGE_ARRAY_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkParallelArrayForEach(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = createLargeArray();
+    int i = 0;
+    while (i < warmupCount) {
+        arr.forEach(isolated function (int x) { int h = hash(x); });
+        i += LARGE_ARRAY_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        arr.forEach(isolated function (int x) { int h = hash(x); });
+        i += LARGE_ARRAY_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkParallelArraySort(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = createLargeArray();
+    int i = 0;
+    while (i < warmupCount) {
+        int[] result = arr.clone().sort();
+        i += LARGE_ARRAY_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int[] result = arr.clone().sort();
+        i += LARGE_ARRAY_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,106 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Reads and updates record fields with constant keys. Required fields of record types defined in this module are
+// accessed directly through the fields of the record value classes, while the map baseline goes through the map
+// operations.
+
+type ClosedCounter record {|
+    int count;
+    float total;
+    string label;
+|};
+
+type OpenCounter record {
+    int count;
+    float total;
+    string label;
+};
+
+function updateClosedCounter(ClosedCounter counter, int i) {
+    counter.count = counter.count + 1;
+    counter.total = counter.total + 0.5;
+    if (counter.count % 1000 == 0) {
+        counter.label = counter.label;
+    }
+}
+
+function updateOpenCounter(OpenCounter counter, int i) {
+    counter.count = counter.count + 1;
+    counter.total = counter.total + 0.5;
+    if (counter.count % 1000 == 0) {
+        counter.label = counter.label;
+    }
+}
+
+function updateMapCounter(map<anydata> counter, int i) {
+    counter["count"] = <int> counter["count"] + 1;
+    counter["total"] = <float> counter["total"] + 0.5;
+    if (<int> counter["count"] % 1000 == 0) {
+        counter["label"] = counter["label"];
+    }
+}
+
+public function benchmarkClosedRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    ClosedCounter counter = {count: 0, total: 0, label: "closed"};
+    int i = 0;
+    while (i < warmupCount) {
+        updateClosedCounter(counter, i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        updateClosedCounter(counter, i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOpenRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    OpenCounter counter = {count: 0, total: 0, label: "open"};
+    int i = 0;
+    while (i < warmupCount) {
+        updateOpenCounter(counter, i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        updateOpenCounter(counter, i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkMapFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    map<anydata> counter = {count: 0, total: 0.0, label: "map"};
+    int i = 0;
+    while (i < warmupCount) {
+        updateMapCounter(counter, i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        updateMapCounter(counter, i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
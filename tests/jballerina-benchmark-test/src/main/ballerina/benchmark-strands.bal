@@ -0,0 +1,94 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Starts a strand per record of a batch, hence the freed memory reported for these functions is dominated by the
+// strands, futures and scheduler items created per `start`. The iteration counts are counted in started strands.
+
+const int BATCH_SIZE = 100;
+
+type BatchRecord record {|
+    int id;
+    int value;
+|};
+
+function processRecord(BatchRecord rec) returns int {
+    return rec.id + rec.value;
+}
+
+function createBatch() returns BatchRecord[] {
+    BatchRecord[] batch = [];
+    int i = 0;
+    while (i < BATCH_SIZE) {
+        batch.push({id: i, value: i * 2});
+        i += 1;
+    }
+    return batch;
+}
+
+function startPerRecord(BatchRecord[] batch) returns int {
+    future<int>[] futures = [];
+    foreach BatchRecord rec in batch {
+        futures.push(start processRecord(rec));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += wait f;
+    }
+    return sum;
+}
+
+function startAndWaitPerRecord(BatchRecord[] batch) returns int {
+    int sum = 0;
+    foreach BatchRecord rec in batch {
+        future<int> f = start processRecord(rec);
+        sum += wait f;
+    }
+    return sum;
+}
+
+public function benchmarkStartPerRecord(int warmupCount, int benchmarkCount) returns int {
+    BatchRecord[] batch = createBatch();
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = startPerRecord(batch);
+        i += BATCH_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = startPerRecord(batch);
+        i += BATCH_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStartAndWaitPerRecord(int warmupCount, int benchmarkCount) returns int {
+    BatchRecord[] batch = createBatch();
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = startAndWaitPerRecord(batch);
+        i += BATCH_SIZE;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = startAndWaitPerRecord(batch);
+        i += BATCH_SIZE;
+    }
+    return (nanoTime() - startTime);
+}
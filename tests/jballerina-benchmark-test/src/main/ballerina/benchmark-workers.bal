@@ -0,0 +1,173 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Worker sends must be top level statements of a worker, hence each exchange sends a fixed number of messages.
+
+function exchangeAsyncMessages() returns int {
+    worker producer {
+        1 -> consumer;
+        2 -> consumer;
+        3 -> consumer;
+        4 -> consumer;
+        5 -> consumer;
+        6 -> consumer;
+        7 -> consumer;
+        8 -> consumer;
+    }
+
+    worker consumer returns int {
+        int m1 = <- producer;
+        int m2 = <- producer;
+        int m3 = <- producer;
+        int m4 = <- producer;
+        int m5 = <- producer;
+        int m6 = <- producer;
+        int m7 = <- producer;
+        int m8 = <- producer;
+        return m1 + m2 + m3 + m4 + m5 + m6 + m7 + m8;
+    }
+    return wait consumer;
+}
+
+function exchangeSyncMessages() returns int {
+    worker producer {
+        1 ->> consumer;
+        2 ->> consumer;
+        3 ->> consumer;
+        4 ->> consumer;
+    }
+
+    worker consumer returns int {
+        int m1 = <- producer;
+        int m2 = <- producer;
+        int m3 = <- producer;
+        int m4 = <- producer;
+        return m1 + m2 + m3 + m4;
+    }
+    return wait consumer;
+}
+
+function exchangeFlushedMessages() returns int {
+    worker producer {
+        1 -> consumer;
+        2 -> consumer;
+        3 -> consumer;
+        4 -> consumer;
+        error? result = flush consumer;
+    }
+
+    worker consumer returns int {
+        int m1 = <- producer;
+        int m2 = <- producer;
+        int m3 = <- producer;
+        int m4 = <- producer;
+        return m1 + m2 + m3 + m4;
+    }
+    return wait consumer;
+}
+
+function exchangeMessagesInPipeline() returns int {
+    worker producer {
+        1 -> transformer;
+        2 -> transformer;
+        3 -> transformer;
+        4 -> transformer;
+    }
+
+    worker transformer {
+        int m1 = <- producer;
+        m1 * 2 -> consumer;
+        int m2 = <- producer;
+        m2 * 2 -> consumer;
+        int m3 = <- producer;
+        m3 * 2 -> consumer;
+        int m4 = <- producer;
+        m4 * 2 -> consumer;
+    }
+
+    worker consumer returns int {
+        int m1 = <- transformer;
+        int m2 = <- transformer;
+        int m3 = <- transformer;
+        int m4 = <- transformer;
+        return m1 + m2 + m3 + m4;
+    }
+    return wait consumer;
+}
+
+public function benchmarkWorkerAsyncSend(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = exchangeAsyncMessages();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = exchangeAsyncMessages();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerSyncSend(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = exchangeSyncMessages();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = exchangeSyncMessages();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerSendWithFlush(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = exchangeFlushedMessages();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = exchangeFlushedMessages();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerPipeline(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int sum = exchangeMessagesInPipeline();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int sum = exchangeMessagesInPipeline();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
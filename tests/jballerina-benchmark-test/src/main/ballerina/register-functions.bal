@@ -36,6 +36,19 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkWorkerAsyncSend", benchmarkWorkerAsyncSend);
+    addSingleExecFunction("benchmarkWorkerSyncSend", benchmarkWorkerSyncSend);
+    addSingleExecFunction("benchmarkWorkerSendWithFlush", benchmarkWorkerSendWithFlush);
+    addSingleExecFunction("benchmarkWorkerPipeline", benchmarkWorkerPipeline);
+    addSingleExecFunction("benchmarkStartPerRecord", benchmarkStartPerRecord);
+    addSingleExecFunction("benchmarkStartAndWaitPerRecord", benchmarkStartAndWaitPerRecord);
+    addSingleExecFunction("benchmarkParallelArrayMap", benchmarkParallelArrayMap);
+    addSingleExecFunction("benchmarkParallelArrayFilter", benchmarkParallelArrayFilter);
+    addSingleExecFunction("benchmarkParallelArrayForEach", benchmarkParallelArrayForEach);
+    addSingleExecFunction("benchmarkParallelArraySort", benchmarkParallelArraySort);
+    addSingleExecFunction("benchmarkClosedRecordFieldAccess", benchmarkClosedRecordFieldAccess);
+    addSingleExecFunction("benchmarkOpenRecordFieldAccess", benchmarkOpenRecordFieldAccess);
+    addSingleExecFunction("benchmarkMapFieldAccess", benchmarkMapFieldAccess);
 }
 
 public function registerMultiExecFunctions() {
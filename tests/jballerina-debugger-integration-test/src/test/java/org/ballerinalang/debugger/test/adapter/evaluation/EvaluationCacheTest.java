@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.debugger.test.adapter.evaluation;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.ballerinalang.debugger.test.BaseTestCase;
+import org.ballerinalang.debugger.test.utils.BallerinaTestDebugPoint;
+import org.ballerinalang.debugger.test.utils.DebugTestRunner;
+import org.ballerinalang.debugger.test.utils.DebugUtils;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.eclipse.lsp4j.debug.StoppedEventArguments;
+import org.eclipse.lsp4j.debug.Variable;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test cases for the reuse of parsed expressions and cached child variable values within a suspension.
+ */
+public class EvaluationCacheTest extends BaseTestCase {
+
+    private DebugTestRunner debugTestRunner;
+    private Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        String testProjectName = "evaluation-cache-tests";
+        String testModuleFileName = "main.bal";
+        debugTestRunner = new DebugTestRunner(testProjectName, testModuleFileName, true);
+
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(debugTestRunner.testEntryFilePath, 24));
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(debugTestRunner.testEntryFilePath, 26));
+        debugTestRunner.initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
+        debugHitInfo = debugTestRunner.waitForDebugHit(25000);
+    }
+
+    @Test(description = "Child variables are fetched again after evaluating a function call which changes them")
+    public void childVariablesAfterFunctionCallTest() throws BallerinaTestException {
+        Variable person = fetchLocalVariables().get("person");
+        debugTestRunner.assertVariable(debugTestRunner.fetchChildVariables(person), "age", "25", "int");
+        // Without function calls, the cached child variables remain valid.
+        debugTestRunner.assertExpression(debugHitInfo.getRight(), "person.age", "25", "int");
+        debugTestRunner.assertVariable(debugTestRunner.fetchChildVariables(person), "age", "25", "int");
+
+        debugTestRunner.assertExpression(debugHitInfo.getRight(), "birthday(person)", "26", "int");
+        debugTestRunner.assertVariable(debugTestRunner.fetchChildVariables(person), "age", "26", "int");
+
+        // The same expression is evaluated again using its parsed form.
+        debugTestRunner.assertExpression(debugHitInfo.getRight(), "birthday(person)", "27", "int");
+        debugTestRunner.assertVariable(debugTestRunner.fetchChildVariables(person), "age", "27", "int");
+        debugTestRunner.assertExpression(debugHitInfo.getRight(), "person.age", "27", "int");
+    }
+
+    @Test(dependsOnMethods = "childVariablesAfterFunctionCallTest",
+            description = "Child variables are fetched again after the debuggee is resumed")
+    public void childVariablesAfterResumeTest() throws BallerinaTestException {
+        debugTestRunner.resumeProgram(debugHitInfo.getRight(), DebugTestRunner.DebugResumeKind.NEXT_BREAKPOINT);
+        debugHitInfo = debugTestRunner.waitForDebugHit(10000);
+
+        Variable person = fetchLocalVariables().get("person");
+        debugTestRunner.assertVariable(debugTestRunner.fetchChildVariables(person), "age", "40", "int");
+        debugTestRunner.assertExpression(debugHitInfo.getRight(), "person.age", "40", "int");
+    }
+
+    private Map<String, Variable> fetchLocalVariables() throws BallerinaTestException {
+        return debugTestRunner.fetchVariables(debugHitInfo.getRight(), DebugTestRunner.VariableScope.LOCAL);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        debugTestRunner.terminateDebugSession();
+    }
+}
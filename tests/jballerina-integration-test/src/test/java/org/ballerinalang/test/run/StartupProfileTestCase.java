@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.run;
+
+import org.ballerinalang.test.BaseTest;
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_STARTUP_PROFILE_ENV_VAR;
+
+/**
+ * Tests the startup phases recorded by the generated code of each module, with and without the startup profiling.
+ *
+ * @since 2.0.0
+ */
+public class StartupProfileTestCase extends BaseTest {
+
+    private static final String PROJECT_PATH = Paths.get("src", "test", "resources", "run", "startup-profile")
+            .toAbsolutePath().toString();
+    private static final String REPORT_HEADER = "startup profile:";
+    private static final String ROOT_MODULE = "testorg/startup_profile";
+    private static final String UTIL_MODULE = "testorg/startup_profile.util";
+
+    private BMainInstance bMainInstance;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        bMainInstance = new BMainInstance(balServer);
+    }
+
+    @Test(dataProvider = "profile-flags")
+    public void testProgramOutputIsNotAffected(String profile) throws BallerinaTestException {
+        String output = bMainInstance.runMainAndReadStdOut("run", new String[0], getEnv(profile), PROJECT_PATH,
+                                                           false);
+        Assert.assertTrue(output.endsWith("started 3"), output);
+    }
+
+    @Test
+    public void testStartupPhasesAreReportedWhenEnabled() throws BallerinaTestException {
+        String errOutput = bMainInstance.runMainAndReadStdOut("run", new String[0], getEnv("true"), PROJECT_PATH,
+                                                              true);
+        Assert.assertTrue(errOutput.contains(REPORT_HEADER), errOutput);
+        for (String module : new String[]{ROOT_MODULE, UTIL_MODULE}) {
+            assertPhase(errOutput, "type creation", module);
+            assertPhase(errOutput, "init", module);
+            assertPhase(errOutput, "start", module);
+        }
+        Assert.assertTrue(errOutput.contains("total:"), errOutput);
+    }
+
+    @Test
+    public void testStartupPhasesAreNotReportedWhenDisabled() throws BallerinaTestException {
+        String errOutput = bMainInstance.runMainAndReadStdOut("run", new String[0], getEnv("false"), PROJECT_PATH,
+                                                              true);
+        Assert.assertFalse(errOutput.contains(REPORT_HEADER), errOutput);
+    }
+
+    @DataProvider(name = "profile-flags")
+    public Object[][] getProfileFlags() {
+        return new Object[][]{{"true"}, {"false"}};
+    }
+
+    private static Map<String, String> getEnv(String profile) {
+        Map<String, String> envProperties = new HashMap<>();
+        envProperties.put(BALLERINA_STARTUP_PROFILE_ENV_VAR, profile);
+        return envProperties;
+    }
+
+    private static void assertPhase(String errOutput, String phase, String module) {
+        // module names are followed by the version, which distinguishes the root module from its submodules
+        Pattern phaseLine = Pattern.compile("(?m)^\\t" + Pattern.quote(phase) + " +\\d+ ms\\t" +
+                                            Pattern.quote(module) + ":");
+        Assert.assertTrue(phaseLine.matcher(errOutput).find(), "'" + phase + "' of " + module + " not reported in: " +
+                errOutput);
+    }
+}
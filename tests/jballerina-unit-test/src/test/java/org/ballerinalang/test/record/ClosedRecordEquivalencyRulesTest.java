@@ -53,6 +53,15 @@ public class ClosedRecordEquivalencyRulesTest {
         assertEquals(negative.getErrorCount(), i);
     }
 
+    @Test(description = "Negative tests for repeated assignments between recursive closed records")
+    public void testRecursiveClosedRecordNegatives() {
+        CompileResult negative = BCompileUtil.compile("test-src/record/equiv_rules_neg_recursive_cr_to_cr.bal");
+        int i = 0;
+        validateError(negative, i++, "incompatible types: expected 'StringNode', found 'Node'", 36, 21);
+        validateError(negative, i++, "incompatible types: expected 'StringNode', found 'Node'", 37, 21);
+        assertEquals(negative.getErrorCount(), i);
+    }
+
     @Test(description = "Test assigning a closed record to a cloesd record type variable")
     public void testCRToCRClosedToClosedAssignment1() {
         BValue[] returns = BRunUtil.invoke(closedRecToClosedRec, "testClosedToClosedAssignment1");
@@ -0,0 +1,277 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import directfieldaccess.records;
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+type Address record {|
+    string city;
+    string street = "main";
+|};
+
+type Employee record {|
+    string name;
+    int age;
+    float salary;
+    decimal bonus;
+    boolean active;
+    byte level;
+    int|string code;
+    Address address;
+    int? manager;
+    anydata extra;
+|};
+
+type Person record {
+    string name;
+    int age;
+    string nickName?;
+    int score?;
+};
+
+type Student record {
+    string name;
+    int age;
+    string school;
+};
+
+type ReadOnlyPoint readonly & record {|
+    int x;
+    int y;
+|};
+
+type Config record {|
+    readonly string id;
+    int retries;
+|};
+
+type Identifiers record {|
+    string '1st_name;
+    string '\ \/\:\@\[\`\{\~\u{2324}_last_name;
+    int 'Ȧɢέ;
+|};
+
+type ShapeLabel records:Shape;
+
+function testClosedRecordFieldAccess() {
+    Employee e = {name: "Anne", age: 30, salary: 1000.5, bonus: 10.5d, active: true, level: 2, code: 7,
+                  address: {city: "Colombo"}, manager: (), extra: [1, 2]};
+    assertEquality("Anne", e.name);
+    assertEquality(30, e.age);
+    assertEquality(1000.5, e.salary);
+    assertEquality(10.5d, e.bonus);
+    assertEquality(true, e.active);
+    assertEquality(2, e.level);
+    assertEquality(7, e.code);
+    assertEquality("Colombo", e.address.city);
+    assertEquality((), e.manager);
+    assertEquality([1, 2], e.extra);
+
+    e.name = "Bob";
+    e.age = e.age + 1;
+    e.salary = 2000.25;
+    e.bonus = 20.5d;
+    e.active = false;
+    byte level = 5;
+    e.level = level;
+    e.code = "E7";
+    e.address.city = "Kandy";
+    e.manager = 3;
+    e.extra = "none";
+
+    assertEquality("Bob", e.name);
+    assertEquality(31, e.age);
+    assertEquality(2000.25, e.salary);
+    assertEquality(20.5d, e.bonus);
+    assertEquality(false, e.active);
+    assertEquality(5, e.level);
+    int|string code = e.code;
+    assertEquality("E7", code);
+    assertEquality("Kandy", e.address.city);
+    assertEquality("main", e.address.street);
+    int? manager = e.manager;
+    assertEquality(3, manager);
+    assertEquality("none", e.extra);
+
+    // The map view of the record sees the stored values
+    map<anydata> m = e;
+    assertEquality("Bob", m["name"]);
+    assertEquality(31, m["age"]);
+    assertEquality("E7", m["code"]);
+    assertEquality(10, e.length());
+}
+
+function testFieldStoreFollowedByToString() {
+    Address address = {city: "Colombo"};
+    address.city = "Kandy";
+    assertEquality("{\"city\":\"Kandy\",\"street\":\"main\"}", address.toString());
+
+    Person person = {name: "Anne", age: 30};
+    person.age = 31;
+    assertEquality("{\"name\":\"Anne\",\"age\":31}", person.toString());
+}
+
+function testFieldStoreFollowedByCloneReadOnly() {
+    Employee e = {name: "Anne", age: 30, salary: 1000.5, bonus: 10.5d, active: true, level: 2, code: 7,
+                  address: {city: "Colombo"}, manager: (), extra: ()};
+    e.age = 40;
+    e.address.city = "Galle";
+
+    Employee & readonly frozen = e.cloneReadOnly();
+    assertEquality(40, frozen.age);
+    assertEquality("Galle", frozen.address.city);
+    assertEquality(e, frozen);
+
+    Employee clone = e.clone();
+    clone.age = 50;
+    assertEquality(40, e.age);
+    assertEquality(50, clone.age);
+}
+
+function testOpenRecordFieldAccess() {
+    Person person = {name: "Anne", age: 30, "city": "Colombo"};
+    assertEquality("Anne", person.name);
+    assertEquality(30, person.age);
+
+    person.name = "Bob";
+    person.age += 5;
+    person["city"] = "Kandy";
+    person["country"] = "LK";
+
+    assertEquality("Bob", person.name);
+    assertEquality(35, person.age);
+    assertEquality("Kandy", person["city"]);
+    assertEquality("LK", person["country"]);
+    assertEquality(["name", "age", "city", "country"], person.keys());
+    assertEquality("{\"name\":\"Bob\",\"age\":35,\"city\":\"Kandy\",\"country\":\"LK\"}", person.toString());
+}
+
+function testOptionalFieldAccess() {
+    Person person = {name: "Anne", age: 30};
+    assertEquality((), person?.nickName);
+    assertEquality((), person?.score);
+    assertEquality(false, person.hasKey("nickName"));
+
+    person.nickName = "An";
+    person.score = 10;
+    assertEquality("An", person?.nickName);
+    assertEquality(10, person?.score);
+    assertEquality(true, person.hasKey("nickName"));
+
+    _ = person.remove("nickName");
+    assertEquality((), person?.nickName);
+    assertEquality("{\"name\":\"Anne\",\"age\":30,\"score\":10}", person.toString());
+}
+
+function testStructuralSubtypeFieldAccess() {
+    Student student = {name: "Anne", age: 20, school: "Royal"};
+    // The value is not an instance of the value class of `Person`
+    Person person = student;
+    assertEquality("Anne", person.name);
+    assertEquality(20, person.age);
+
+    person.name = "Bob";
+    person.age = 21;
+    assertEquality("Bob", student.name);
+    assertEquality(21, student.age);
+    assertEquality("Royal", student.school);
+}
+
+function testReadOnlyRecordFieldAccess() {
+    ReadOnlyPoint point = {x: 1, y: 2};
+    assertEquality(1, point.x);
+    assertEquality(2, point.y);
+
+    Config config = {id: "c1", retries: 3};
+    assertEquality("c1", config.id);
+    config.retries = 4;
+    assertEquality(4, config.retries);
+    assertEquality("{\"id\":\"c1\",\"retries\":4}", config.toString());
+}
+
+function testFieldStoreOnFrozenRecord() {
+    Address & readonly frozen = {city: "Colombo"};
+    // The static type is not read-only, but the value is
+    Address address = frozen;
+    assertEquality("Colombo", address.city);
+
+    error? res = trap updateCity(address, "Kandy");
+    assertEquality(true, res is error);
+    assertEquality("Colombo", address.city);
+
+    Person person = {name: "Anne", age: 30};
+    Person readOnlyPerson = person.cloneReadOnly();
+    res = trap updateAge(readOnlyPerson, 31);
+    assertEquality(true, res is error);
+    assertEquality(30, readOnlyPerson.age);
+}
+
+function updateCity(Address address, string city) {
+    address.city = city;
+}
+
+function updateAge(Person person, int age) {
+    person.age = age;
+}
+
+function testQuotedIdentifierFieldAccess() {
+    Identifiers ids = {'1st_name: "Tom", '\ \/\:\@\[\`\{\~\u{2324}_last_name: "Hank", 'Ȧɢέ: 50};
+    assertEquality("Tom", ids.'1st_name);
+    assertEquality("Hank", ids.'\ \/\:\@\[\`\{\~\u{2324}_last_name);
+    assertEquality(50, ids.'Ȧɢέ);
+
+    ids.'1st_name = "Jack";
+    ids.'\ \/\:\@\[\`\{\~\u{2324}_last_name = "Ryan";
+    ids.'Ȧɢέ = 51;
+    assertEquality("Jack", ids.'1st_name);
+    assertEquality("Ryan", ids.'\ \/\:\@\[\`\{\~\u{2324}_last_name);
+    assertEquality(51, ids.'Ȧɢέ);
+    assertEquality("{\"1st_name\":\"Jack\",\" /:@[`{~⌤_last_name\":\"Ryan\",\"Ȧɢέ\":51}", ids.toString());
+}
+
+function testRecordFromOtherModuleFieldAccess() {
+    records:Point point = records:newPoint(1, 2);
+    assertEquality(1, point.x);
+    assertEquality("origin", point.label);
+
+    point.x = 10;
+    point.label = "start";
+    assertEquality(10, point.x);
+    assertEquality("{\"x\":10,\"y\":2,\"label\":\"start\"}", point.toString());
+
+    records:Point moved = records:move(point, 5, 3);
+    assertEquality(15, moved.x);
+    assertEquality(5, moved.y);
+    assertEquality("moved", point.label);
+
+    ShapeLabel shape = {name: "circle", center: {x: 0, y: 0}};
+    shape.center.x = 4;
+    shape.name = "ring";
+    assertEquality(4, shape.center.x);
+    assertEquality("ring", shape.name);
+    records:Point & readonly frozenCenter = shape.center.cloneReadOnly();
+    assertEquality(4, frozenCenter.x);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
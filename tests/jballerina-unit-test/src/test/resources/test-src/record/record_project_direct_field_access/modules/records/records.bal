@@ -0,0 +1,38 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public type Point record {|
+    int x;
+    int y;
+    string label = "origin";
+|};
+
+public type Shape record {
+    string name;
+    Point center;
+};
+
+public function newPoint(int x, int y) returns Point {
+    return {x, y};
+}
+
+// Field accesses within the module that defines the record type
+public function move(Point point, int dx, int dy) returns Point {
+    point.x = point.x + dx;
+    point.y += dy;
+    point.label = "moved";
+    return point;
+}
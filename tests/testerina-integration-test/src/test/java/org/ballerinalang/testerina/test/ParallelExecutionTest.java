@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.testerina.test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.testerina.test.utils.AssertionUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+/**
+ * Test class to test running the tests in parallel.
+ */
+public class ParallelExecutionTest extends BaseTestCase {
+
+    private BMainInstance balClient;
+    private String projectPath;
+    private Path resultsJsonPath;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        balClient = new BMainInstance(balServer);
+        projectPath = projectBasedTestsPath.resolve("parallel-execution").toString();
+        resultsJsonPath = projectBasedTestsPath.resolve("parallel-execution").resolve("target").resolve("report")
+                .resolve("test_results.json");
+    }
+
+    @Test
+    public void testParallelExecution() throws BallerinaTestException, IOException {
+        String[] args = new String[]{"--parallel", "--test-report"};
+        String output = balClient.runMainAndReadStdOut("test", args, new HashMap<>(), projectPath, false);
+        if (!output.contains("11 passing") || !output.contains("1 failing")) {
+            AssertionUtils.assertForTestFailures(output, "parallel test execution failure");
+        }
+        Assert.assertTrue(output.contains("expected failure"), output);
+
+        // Results of the tests completed concurrently should all be reported
+        Gson gson = new Gson();
+        try (BufferedReader bufferedReader = Files.newBufferedReader(resultsJsonPath, StandardCharsets.UTF_8)) {
+            JsonObject resultObj = gson.fromJson(bufferedReader, JsonObject.class);
+            Assert.assertEquals(resultObj.get("totalTests").getAsInt(), 12);
+            Assert.assertEquals(resultObj.get("passed").getAsInt(), 11);
+            Assert.assertEquals(resultObj.get("failed").getAsInt(), 1);
+            Assert.assertEquals(resultObj.get("skipped").getAsInt(), 0);
+        }
+    }
+
+    @Test
+    public void testSerialExecution() throws BallerinaTestException {
+        // The same tests should pass when they are run serially
+        String output = balClient.runMainAndReadStdOut("test", new String[0], new HashMap<>(), projectPath, false);
+        if (!output.contains("11 passing") || !output.contains("1 failing")) {
+            AssertionUtils.assertForTestFailures(output, "serial test execution failure");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+# Test file to test running the tests in parallel. The serial tests, the tests of groups with
+# before or after group functions and the tests they depend on are run before the parallel tests.
+
+int parallelTestCount = 0;
+string groupExecution = "";
+boolean dependencyExecuted = false;
+
+@test:BeforeGroups { value : ["g1"] }
+function beforeGroupsFunc() {
+    groupExecution += "before";
+}
+
+@test:AfterGroups { value : ["g1"] }
+function afterGroupsFunc() {
+    groupExecution += "after";
+}
+
+@test:Config {serialExecution: true}
+function testSerial() {
+    lock {
+        test:assertEquals(parallelTestCount, 0, msg = "serial test was run in parallel");
+    }
+}
+
+@test:Config {groups: ["g1"]}
+function testGroup1() {
+    lock {
+        test:assertEquals(parallelTestCount, 0, msg = "group test was run in parallel");
+    }
+    groupExecution += "test";
+}
+
+@test:Config {groups: ["g1"]}
+function testGroup2() {
+    groupExecution += "test";
+}
+
+@test:Config {}
+function testParallel1() {
+    dependencyExecuted = true;
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallel2() {
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallel3() {
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallel4() {
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallel5() {
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallel6() {
+    lock {
+        parallelTestCount += 1;
+    }
+}
+
+@test:Config {}
+function testParallelFailure() {
+    test:assertFail("expected failure");
+}
+
+@test:Config {
+    dependsOn: [testParallel1]
+}
+function testDependent() {
+    test:assertTrue(dependencyExecuted, msg = "test was run before the test it depends on");
+}
+
+@test:Config {
+    dependsOn: [testParallel1, testParallel2, testParallel3, testParallel4, testParallel5, testParallel6]
+}
+function testAllParallelTestsExecuted() {
+    lock {
+        test:assertEquals(parallelTestCount, 6);
+    }
+    test:assertEquals(groupExecution, "beforetesttestafter");
+}